@@ -0,0 +1,138 @@
+package me.dodo.readingnotes;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 앱 시작 시간(프로세스 시작 → 관리 포트 /actuator/health 200)과 그 시점 RSS 비교
+// - jar: 지금 배포 방식 (bootJar 그대로 java -jar)
+// - aotCds: 압축 푼 jar + -Dspring.aot.enabled=true + CDS 아카이브(build/cds/application.jsa)
+// 실제로 띄우므로 DB, OAuth, S3 등 실행 환경변수가 필요 (SPRING_PROFILES_ACTIVE 없으면 prod)
+// 실행: ./gradlew startupBenchmark -PfastStartup  (bootJar, CDS 아카이브까지 만든 뒤 실행)
+// RSS는 /proc/<pid>/status의 VmRSS (Linux 전용), 끝날 때 평균을 출력
+// 결과는 아직 측정 안 함 (DB, OAuth, S3 설정이 갖춰진 환경에서 위 명령으로 실행)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StartupBenchmark {
+
+    private static final String JAR = "reading-notes-0.0.1-SNAPSHOT.jar";
+    private static final Duration READY_TIMEOUT = Duration.ofMinutes(3);
+
+    @Param({"jar", "aotCds"})
+    public String mode;
+
+    // 프로젝트 루트 (gradle 태스크가 넘겨줌)
+    @Param({"."})
+    public String projectDir;
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final List<Long> rssKb = new ArrayList<>();
+    private Process process;
+
+    @Benchmark
+    public long timeToReady() throws Exception {
+        int serverPort = freePort();
+        int managementPort = freePort();
+
+        ProcessBuilder pb = new ProcessBuilder(command())
+                .directory(workingDir())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        Map<String, String> env = pb.environment();
+        env.put("SERVER_PORT", Integer.toString(serverPort));
+        env.put("MANAGEMENT_PORT", Integer.toString(managementPort));
+        env.putIfAbsent("SPRING_PROFILES_ACTIVE", "prod");
+
+        process = pb.start();
+        waitForHealth(managementPort);
+        long rss = readRssKb(process.pid());
+        rssKb.add(rss);
+        return rss;
+    }
+
+    @TearDown(Level.Iteration)
+    public void stop() throws InterruptedException {
+        if (process == null) return;
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+        process = null;
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        // 첫 번째는 워밍업 (OS 페이지 캐시)
+        List<Long> measured = rssKb.size() > 1 ? rssKb.subList(1, rssKb.size()) : rssKb;
+        double avgMb = measured.stream().mapToLong(Long::longValue).average().orElse(0) / 1024.0;
+        System.out.printf("%n[%s] ready 시점 RSS 평균 %.1f MB (%d회)%n", mode, avgMb, measured.size());
+    }
+
+    private List<String> command() {
+        String java = ProcessHandle.current().info().command().orElse("java");
+        if ("aotCds".equals(mode)) {
+            return List.of(java, "-XX:SharedArchiveFile=application.jsa", "-Dspring.aot.enabled=true", "-jar", JAR);
+        }
+        return List.of(java, "-jar", JAR);
+    }
+
+    private File workingDir() {
+        Path dir = Path.of(projectDir, "build", "aotCds".equals(mode) ? "cds" : "libs");
+        if (!Files.exists(dir.resolve(JAR))) {
+            throw new IllegalStateException(dir.resolve(JAR) + "이 없습니다. ./gradlew startupBenchmark -PfastStartup으로 실행하세요.");
+        }
+        return dir.toFile();
+    }
+
+    private void waitForHealth(int managementPort) throws Exception {
+        HttpRequest health = HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + managementPort + "/actuator/health"))
+                .timeout(Duration.ofSeconds(2))
+                .build();
+        long deadline = System.nanoTime() + READY_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("앱이 시작 중 종료됨 (exit " + process.exitValue() + "), 환경변수를 확인하세요.");
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) return;
+            } catch (ConnectException | java.net.http.HttpTimeoutException ignored) {
+                // 아직 포트가 안 열림
+            }
+            Thread.sleep(50);
+        }
+        throw new IllegalStateException(READY_TIMEOUT.toSeconds() + "초 안에 준비되지 않음");
+    }
+
+    private static long readRssKb(long pid) throws IOException {
+        for (String line : Files.readAllLines(Path.of("/proc", Long.toString(pid), "status"))) {
+            if (line.startsWith("VmRSS:")) {
+                return Long.parseLong(line.replaceAll("\\D", ""));
+            }
+        }
+        return -1;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
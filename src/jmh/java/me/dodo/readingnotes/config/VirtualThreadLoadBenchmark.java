@@ -0,0 +1,193 @@
+package me.dodo.readingnotes.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.tomcat.util.descriptor.web.FilterDef;
+import org.apache.tomcat.util.descriptor.web.FilterMap;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 플랫폼 스레드 모드 vs 가상 스레드 모드 부하 테스트 (임베디드 Tomcat + HTTP 클라이언트 100개 동시 요청)
+// - 요청 하나 = 커넥션 잡고 DB 왕복(dbMs) → 반납 → 외부 API/S3 대기(externalMs)  (open-in-view=false라 커넥션은 쿼리 동안만)
+// - 커넥션 풀은 prod와 같은 5개, 대기 한도 3000ms (Hikari connection-timeout)
+// - platform: prod 설정 그대로 Tomcat threads.max=10
+// - virtualX2: 가상 스레드 + DbConcurrencyLimitFilter(풀 5 × 2 = 10, 플랫폼 모드와 같은 동시 요청 수)
+// - virtualX8: 가상 스레드 + 제한 40 (web.limiter.permits-per-connection 기본값)
+// 처리량 = ops/s, 메모리 = 끝날 때 출력하는 서버 쪽 최대 플랫폼 스레드 수(Tomcat exec + 가상 스레드 캐리어, 스택은 힙 밖)와
+// 최대 힙 사용량(가상 스레드 스택은 힙 안), 서버가 돌려준 503 수도 같이 출력
+// 참고 결과 (JDK 21): platform 97 ops/s, 스레드 10, 힙 47MB / virtualX2 92 ops/s, 캐리어 2, 힙 57MB
+//                   / virtualX8 231 ops/s, 캐리어 2, 힙 58MB (DB 상한 = 5 / 20ms = 250 ops/s)
+// 실행: ./gradlew jmh -PjmhIncludes=VirtualThreadLoadBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(100)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int POOL_SIZE = 5;
+    private static final long CONNECTION_TIMEOUT_MS = 3000;
+
+    @Param({"platform", "virtualX2", "virtualX8"})
+    public String mode;
+
+    // Supabase 왕복 2~3번
+    @Param({"20"})
+    public int dbMs;
+
+    // 카카오/네이버 검색, S3 업로드 대기
+    @Param({"80"})
+    public int externalMs;
+
+    private Tomcat tomcat;
+    private HttpClient client;
+    private HttpRequest request;
+
+    private final AtomicLong busy = new AtomicLong();
+    private Thread sampler;
+    private volatile boolean sampling;
+    private volatile int peakThreads;
+    private volatile long peakHeapBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("vt-bench").toString());
+        tomcat.setPort(0);
+        Connector connector = tomcat.getConnector();
+
+        Context ctx = tomcat.addContext("", null);
+        Tomcat.addServlet(ctx, "records", new SimulatedRequestServlet(new Semaphore(POOL_SIZE, true), dbMs, externalMs));
+        ctx.addServletMappingDecoded("/records", "records");
+
+        if ("platform".equals(mode)) {
+            connector.setProperty("maxThreads", "10");
+            connector.setProperty("minSpareThreads", "2");
+        } else {
+            // Boot의 spring.threads.virtual.enabled=true와 같은 executor
+            connector.getProtocolHandler().setExecutor(new VirtualThreadExecutor("tomcat-handler-"));
+            int permitsPerConnection = "virtualX8".equals(mode) ? 8 : 2;
+            addFilter(ctx, new DbConcurrencyLimitFilter(
+                    POOL_SIZE * permitsPerConnection, CONNECTION_TIMEOUT_MS, new ObjectMapper()));
+        }
+        tomcat.start();
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        request = HttpRequest.newBuilder(URI.create("http://localhost:" + connector.getLocalPort() + "/records")).build();
+    }
+
+    @Setup(Level.Iteration)
+    public void startSampling() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        sampling = true;
+        sampler = new Thread(() -> {
+            while (sampling) {
+                peakThreads = Math.max(peakThreads, serverThreads());
+                peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopSampling() throws InterruptedException {
+        sampling = false;
+        sampler.join();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        System.out.printf("%n[%s] 최대 플랫폼 스레드 %d개, 최대 힙 사용 %.1f MB, 503 응답 %d건%n",
+                mode, peakThreads, peakHeapBytes / 1024.0 / 1024.0, busy.get());
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    public int request() throws IOException, InterruptedException {
+        int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status == 503) busy.incrementAndGet();
+        return status;
+    }
+
+    // 클라이언트(JMH, HttpClient) 스레드 제외
+    private static int serverThreads() {
+        int count = 0;
+        for (Thread t : Thread.getAllStackTraces().keySet()) {
+            String name = t.getName();
+            if (name.contains("-exec-") || name.startsWith("ForkJoinPool-")) count++;
+        }
+        return count;
+    }
+
+    private static void addFilter(Context ctx, DbConcurrencyLimitFilter filter) {
+        FilterDef def = new FilterDef();
+        def.setFilterName("dbConcurrencyLimitFilter");
+        def.setFilter(filter);
+        ctx.addFilterDef(def);
+        FilterMap map = new FilterMap();
+        map.setFilterName("dbConcurrencyLimitFilter");
+        map.addURLPattern("/*");
+        ctx.addFilterMap(map);
+    }
+
+    // 기록 조회 + 외부 호출 한 번 흉내 (Semaphore = 커넥션 풀)
+    static final class SimulatedRequestServlet extends HttpServlet {
+        private final Semaphore connections;
+        private final int dbMs;
+        private final int externalMs;
+
+        SimulatedRequestServlet(Semaphore connections, int dbMs, int externalMs) {
+            this.connections = connections;
+            this.dbMs = dbMs;
+            this.externalMs = externalMs;
+        }
+
+        @Override
+        protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+            try {
+                if (!connections.tryAcquire(CONNECTION_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                    // HikariPool: Connection is not available, request timed out
+                    resp.setStatus(500);
+                    return;
+                }
+                try {
+                    Thread.sleep(dbMs);
+                } finally {
+                    connections.release();
+                }
+                Thread.sleep(externalMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                resp.setStatus(500);
+                return;
+            }
+            resp.setContentType("application/json");
+            resp.getWriter().write("{\"success\":true}");
+        }
+    }
+}
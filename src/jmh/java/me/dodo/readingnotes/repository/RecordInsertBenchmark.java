@@ -0,0 +1,175 @@
+package me.dodo.readingnotes.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+// reading_records INSERT 처리량 (초당 INSERT 건수) 비교 - 실제 PostgreSQL 필요
+// - identityRowByRow: 이전 방식. IDENTITY라 persist마다 INSERT ... RETURNING id 왕복 1회
+// - sequenceBatched: 시퀀스 블록(50)으로 id를 미리 받고 JDBC batch (드라이버 재작성 없음)
+// - sequenceRewritten: 위 + reWriteBatchedInserts=true (다건 VALUES 한 문장, 현재 설정)
+// 세션 임시 테이블에 쓰고 매번 롤백하므로 대상 DB 데이터는 건드리지 않음
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/readory BENCH_DB_USERNAME=.. BENCH_DB_PASSWORD=.. \
+//       ./gradlew jmh -PjmhIncludes=RecordInsertBenchmark
+//
+// 결과 (JDK 21, 같은 VM의 PostgreSQL 16, 1코어, fork 1, warmup 3 / measure 5, 초당 INSERT 건수, 500건/op)
+//   identityRowByRow    31.5k ± 16.2k
+//   sequenceBatched     66.4k ± 26.0k
+//   sequenceRewritten  105.8k ± 57.3k
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RecordInsertBenchmark {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final String CREATE_TABLE = """
+            CREATE TEMP TABLE IF NOT EXISTS bench_records (
+                id                BIGINT PRIMARY KEY %s,
+                user_id           BIGINT NOT NULL,
+                sentence          VARCHAR(1000),
+                comment           VARCHAR(1000),
+                raw_title         VARCHAR(255),
+                raw_author        VARCHAR(255),
+                match_status      VARCHAR(32) NOT NULL DEFAULT 'PENDING',
+                recorded_at       TIMESTAMP NOT NULL,
+                created_at        TIMESTAMP NOT NULL
+            )
+            """;
+
+    // 기록 일괄 등록 chunk 크기와 같게 (바꾸면 @OperationsPerInvocation도 같이)
+    @Param({"500"})
+    public int rows;
+
+    private Connection identityConnection;
+    private Connection batchConnection;
+    private Connection rewriteConnection;
+
+    @Setup
+    public void setUp() throws SQLException {
+        identityConnection = open(false);
+        execute(identityConnection, CREATE_TABLE.formatted("GENERATED BY DEFAULT AS IDENTITY"));
+
+        batchConnection = open(false);
+        rewriteConnection = open(true);
+        for (Connection con : List.of(batchConnection, rewriteConnection)) {
+            execute(con, "CREATE TEMP SEQUENCE IF NOT EXISTS bench_records_seq INCREMENT BY " + ALLOCATION_SIZE
+                    + " START WITH " + ALLOCATION_SIZE);
+            execute(con, CREATE_TABLE.formatted(""));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        for (Connection con : List.of(identityConnection, batchConnection, rewriteConnection)) {
+            con.close();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(500)
+    public void identityRowByRow() throws SQLException {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = identityConnection.prepareStatement("""
+                INSERT INTO bench_records (user_id, sentence, comment, raw_title, raw_author, recorded_at, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?) RETURNING id
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                bind(ps, 1, i, now);
+                try (ResultSet rs = ps.executeQuery()) {
+                    rs.next();
+                }
+            }
+        }
+        identityConnection.rollback();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(500)
+    public void sequenceBatched() throws SQLException {
+        insertBatched(batchConnection);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(500)
+    public void sequenceRewritten() throws SQLException {
+        insertBatched(rewriteConnection);
+    }
+
+    // ReadingRecordBatchRepository.insertRecords와 같은 흐름 (SequenceIdAllocator 규칙으로 id 계산)
+    private void insertBatched(Connection con) throws SQLException {
+        List<Long> ids = nextIds(con, rows);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try (PreparedStatement ps = con.prepareStatement("""
+                INSERT INTO bench_records (id, user_id, sentence, comment, raw_title, raw_author, recorded_at, created_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (int i = 0; i < rows; i++) {
+                ps.setLong(1, ids.get(i));
+                bind(ps, 2, i, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        con.rollback();
+    }
+
+    private static List<Long> nextIds(Connection con, int count) throws SQLException {
+        int blocks = (count + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(count);
+        try (PreparedStatement ps = con.prepareStatement("SELECT nextval('bench_records_seq') FROM generate_series(1, ?)")) {
+            ps.setInt(1, blocks);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    long hi = rs.getLong(1);
+                    for (long id = hi - ALLOCATION_SIZE + 1; id <= hi && ids.size() < count; id++) {
+                        ids.add(id);
+                    }
+                }
+            }
+        }
+        return ids;
+    }
+
+    private static void bind(PreparedStatement ps, int from, int i, Timestamp now) throws SQLException {
+        ps.setLong(from, 1L);
+        ps.setString(from + 1, "벤치마크 문장 " + i + " - 가장 중요한 것은 눈에 보이지 않아.");
+        ps.setString(from + 2, i % 3 == 0 ? "메모 " + i : null);
+        ps.setString(from + 3, "어린 왕자");
+        ps.setString(from + 4, "생텍쥐페리");
+        ps.setTimestamp(from + 5, now);
+        ps.setTimestamp(from + 6, now);
+    }
+
+    private static Connection open(boolean rewriteBatchedInserts) throws SQLException {
+        String url = System.getenv("BENCH_DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCH_DB_URL이 없습니다.");
+        }
+        Properties props = new Properties();
+        if (System.getenv("BENCH_DB_USERNAME") != null) props.setProperty("user", System.getenv("BENCH_DB_USERNAME"));
+        if (System.getenv("BENCH_DB_PASSWORD") != null) props.setProperty("password", System.getenv("BENCH_DB_PASSWORD"));
+        props.setProperty("reWriteBatchedInserts", Boolean.toString(rewriteBatchedInserts));
+        Connection con = DriverManager.getConnection(url, props);
+        con.setAutoCommit(false);
+        return con;
+    }
+
+    private static void execute(Connection con, String sql) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute(sql);
+        }
+        con.commit();
+    }
+}
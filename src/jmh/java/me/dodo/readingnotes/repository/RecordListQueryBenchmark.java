@@ -0,0 +1,200 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.domain.Book;
+import me.dodo.readingnotes.domain.ReadingRecord;
+import me.dodo.readingnotes.domain.User;
+import me.dodo.readingnotes.dto.reading.ReadingRecordResponse;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// 기록 목록 한 페이지(/me, /me/summary, /month, /day) 조회 + 응답 변환 비교 - 실제 PostgreSQL 필요
+// - entityFetchJoin: 이전 /me 방식. 엔티티 + left join fetch book, 읽기 전용 세션(스냅샷 없음)
+// - entityLazyBook: 이전 /month, /day 방식. book을 안 가져와서 매칭된 책마다 select 1번씩 더 나감
+// - projection: 현재 방식. ReadingRecordRow로 화면에 쓰는 컬럼만 한 번에 조회
+// gc 프로파일러의 gc.alloc.rate.norm이 페이지 1번당 할당량
+// bench_list 스키마를 직접 만들어 채우고 끝나면 지우므로 대상 DB의 기존 테이블은 건드리지 않음
+// (hbm2ddl create-drop에 맡기면 스키마 drop이 실패하면서 trial마다 CommandAcceptanceException 스택이 찍힘)
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/readory BENCH_DB_USERNAME=.. BENCH_DB_PASSWORD=.. \
+//       ./gradlew jmh -PjmhIncludes=RecordListQueryBenchmark
+//
+// 결과 (JDK 21, 같은 VM의 PostgreSQL 16, 1코어, fork 1, warmup 3 / measure 5, 페이지 1번당 할당 / 시간, 1KB = 10^3 B)
+//   pageSize  entityFetchJoin      entityLazyBook        projection
+//   10         50.8 KB / 174 us     76.2 KB /  298 us     24.5 KB / 115 us
+//   100       406.3 KB / 956 us    550.8 KB / 2183 us    194.8 KB / 610 us
+// - 할당량은 오차 0.1% 이하, 시간은 오차가 평균의 40~90%라 순서만 참고
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RecordListQueryBenchmark {
+
+    private static final int RECORDS = 2_000;
+    private static final int BOOKS = 40;
+
+    private static final String ROW_SELECT = """
+            select new me.dodo.readingnotes.dto.reading.ReadingRecordRow(
+                rr.id, rr.sentence, rr.comment, rr.rawTitle, rr.rawAuthor, rr.matchStatus, rr.recordedAt,
+                b.id, b.title, b.author, b.coverUrl)
+            from ReadingRecord rr
+            left join rr.book b
+            where rr.user.id = :userId
+            order by rr.recordedAt desc, rr.id desc
+            """;
+
+    // /me 기본 10, /month·/day 최대 100
+    @Param({"10", "100"})
+    public int pageSize;
+
+    private SessionFactory sessionFactory;
+    private Long userId;
+
+    @Setup
+    public void setUp() throws SQLException {
+        String url = System.getenv("BENCH_DB_URL");
+        if (url == null || url.isBlank()) {
+            throw new IllegalStateException("BENCH_DB_URL이 없습니다.");
+        }
+        executeSql(url, "DROP SCHEMA IF EXISTS bench_list CASCADE", "CREATE SCHEMA bench_list");
+        Configuration cfg = new Configuration()
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Book.class)
+                .addAnnotatedClass(ReadingRecord.class)
+                .setProperty("hibernate.connection.url", url)
+                .setProperty("hibernate.default_schema", "bench_list")
+                .setProperty("hibernate.hbm2ddl.auto", "create")
+                .setProperty("hibernate.cache.use_second_level_cache", "false")
+                .setProperty("hibernate.jdbc.batch_size", "50")
+                .setProperty("hibernate.order_inserts", "true");
+        if (System.getenv("BENCH_DB_USERNAME") != null) cfg.setProperty("hibernate.connection.username", System.getenv("BENCH_DB_USERNAME"));
+        if (System.getenv("BENCH_DB_PASSWORD") != null) cfg.setProperty("hibernate.connection.password", System.getenv("BENCH_DB_PASSWORD"));
+        sessionFactory = cfg.buildSessionFactory();
+        userId = seed();
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        sessionFactory.close();
+        executeSql(System.getenv("BENCH_DB_URL"), "DROP SCHEMA IF EXISTS bench_list CASCADE");
+    }
+
+    @Benchmark
+    public List<ReadingRecordResponse> entityFetchJoin() {
+        return inReadOnlySession(session -> session.createQuery("""
+                        select rr from ReadingRecord rr
+                        left join fetch rr.book b
+                        where rr.user.id = :userId
+                        order by rr.recordedAt desc, rr.id desc
+                        """, ReadingRecord.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize)
+                .getResultList().stream().map(ReadingRecordResponse::new).toList());
+    }
+
+    @Benchmark
+    public List<ReadingRecordResponse> entityLazyBook() {
+        return inReadOnlySession(session -> session.createQuery("""
+                        select rr from ReadingRecord rr
+                        where rr.user.id = :userId
+                        order by rr.recordedAt desc, rr.id desc
+                        """, ReadingRecord.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize)
+                .getResultList().stream().map(ReadingRecordResponse::new).toList());
+    }
+
+    @Benchmark
+    public List<ReadingRecordResponse> projection() {
+        return inReadOnlySession(session -> session.createQuery(ROW_SELECT, ReadingRecordRow.class)
+                .setParameter("userId", userId)
+                .setMaxResults(pageSize)
+                .getResultList().stream().map(ReadingRecordResponse::new).toList());
+    }
+
+    // 스키마 생성/삭제용 (Hibernate 세션 밖에서 바로 실행)
+    private static void executeSql(String url, String... sqls) throws SQLException {
+        try (Connection con = DriverManager.getConnection(url,
+                System.getenv("BENCH_DB_USERNAME"), System.getenv("BENCH_DB_PASSWORD"));
+             Statement st = con.createStatement()) {
+            for (String sql : sqls) {
+                st.execute(sql);
+            }
+        }
+    }
+
+    // 리포지토리 기본 @Transactional(readOnly = true)와 같은 조건 (읽기 전용, flush 없음)
+    private <T> T inReadOnlySession(Function<Session, T> work) {
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
+            try {
+                return work.apply(session);
+            } finally {
+                session.getTransaction().rollback();
+            }
+        }
+    }
+
+    // 유저 1명, 책 BOOKS권, 기록 RECORDS건 (2/3은 매칭 완료, 나머지는 PENDING)
+    private Long seed() {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            User user = new User();
+            user.setUsername("bench");
+            user.setEmail("bench@readory.local");
+            user.setProvider("local");
+            user.setApiKey("bench-api-key");
+            session.persist(user);
+
+            List<Book> books = new ArrayList<>(BOOKS);
+            for (int i = 0; i < BOOKS; i++) {
+                Book book = new Book();
+                book.setTitle("벤치마크 책 " + i);
+                book.setAuthor("작가 " + i);
+                book.setPublisher("출판사");
+                book.setCoverUrl("https://image.example.com/cover/" + i + ".jpg");
+                session.persist(book);
+                books.add(book);
+            }
+
+            LocalDateTime base = LocalDateTime.now().minusDays(RECORDS);
+            for (int i = 0; i < RECORDS; i++) {
+                ReadingRecord r = new ReadingRecord();
+                r.setUser(user);
+                r.setSentence("벤치마크 문장 " + i + " - 가장 중요한 것은 눈에 보이지 않아.");
+                r.setSentenceOriginal("벤치마크 문장 " + i + " - 가장 중요한 것은 눈에 보이지 않아. (원문)");
+                r.setComment(i % 3 == 0 ? "메모 " + i : null);
+                r.setRawTitle("어린 왕자");
+                r.setRawAuthor("생텍쥐페리");
+                r.setRecordedAt(base.plusDays(i));
+                if (i % 3 != 2) {
+                    r.setBook(books.get(i % BOOKS));
+                    r.setMatchStatus(ReadingRecord.MatchStatus.RESOLVED_AUTO);
+                    r.setMatchedAt(base.plusDays(i));
+                }
+                session.persist(r);
+                if (i % 500 == 499) {
+                    session.flush();
+                    session.clear();
+                    user = session.getReference(User.class, user.getId());
+                    for (int j = 0; j < BOOKS; j++) {
+                        books.set(j, session.getReference(Book.class, books.get(j).getId()));
+                    }
+                }
+            }
+            session.getTransaction().commit();
+            return user.getId();
+        }
+    }
+}
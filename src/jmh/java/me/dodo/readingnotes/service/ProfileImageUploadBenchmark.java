@@ -0,0 +1,131 @@
+package me.dodo.readingnotes.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import me.dodo.readingnotes.util.ImageResizer;
+import me.dodo.readingnotes.util.ImageValidator;
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 프로필 이미지 업로드 1건이 S3로 넘기기 전까지 할당하는 메모리 (gc.alloc.rate.norm = op당 할당 바이트)
+// - current: ProfileImageService.process (한 번 읽으며 검증 + 서브샘플링 디코드 + 리사이즈, 결과 버퍼를 복사 없이 전송)
+// - previousPath: 이전 컨트롤러 경로 (매직 바이트/해상도/리사이즈가 각각 스트림을 새로 열고,
+//   toByteArray() 복사 + RequestBody.fromBytes 복사)
+// 실행: ./gradlew jmh -PjmhIncludes=ProfileImageUploadBenchmark
+//
+// 결과 (JDK 21, 1코어 VM, fork 1, warmup 3 / measure 5, op당 할당 = gc.alloc.rate.norm, 1MB = 10^6 B)
+//   size       format   current             previousPath
+//   1280x960   jpg      13.1 MB /  45 ms    12.8 MB /  44 ms
+//   1280x960   png      14.7 MB /  72 ms    13.0 MB /  82 ms
+//   4032x3024  jpg       7.2 MB / 180 ms   111.6 MB / 402 ms
+//   4032x3024  png      27.3 MB / 366 ms   116.5 MB / 786 ms
+// - 1280x960은 축소 비율이 2배 미만이라 서브샘플링이 안 걸려서 두 경로가 거의 같음 (png는 current가 조금 더 할당)
+// - 폰 사진 크기에서는 원본 전체 디코드(4032x3024 RGB ≈ 48MB, 세 번 읽기)를 안 해서 할당이 1/4 ~ 1/15
+// - 시간은 오차가 큼 (jpg 4032x3024 previousPath ± 249 ms), 할당량은 오차 0.1% 이하
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProfileImageUploadBenchmark {
+
+    private static final int MAX_WIDTH = 325;
+    private static final int MAX_HEIGHT = 272;
+
+    // 업로드 원본 크기 (폰 사진 4032x3024 포함)
+    @Param({"1280x960", "4032x3024"})
+    public String size;
+
+    @Param({"jpg", "png"})
+    public String format;
+
+    private ProfileImageService service;
+    private MultipartFile upload;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] wh = size.split("x");
+        int width = Integer.parseInt(wh[0]);
+        int height = Integer.parseInt(wh[1]);
+
+        // 단색이면 압축이 너무 잘 돼서 실제 사진과 차이가 커지므로 노이즈를 섞음
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int base = ((x / 64) * 40 + (y / 64) * 25) & 0xFF;
+                int noise = random.nextInt(32);
+                image.setRGB(x, y, (base << 16) | (((base + noise) & 0xFF) << 8) | ((base * 3 + noise) & 0xFF));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        upload = new BytesMultipartFile(out.toByteArray(), "jpg".equals(format) ? "image/jpeg" : "image/png");
+
+        // S3/DB는 쓰지 않고 process만 호출
+        service = new ProfileImageService(null, null, new ImageResizer(), new SimpleMeterRegistry(), 1, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        service.shutdown();
+    }
+
+    @Benchmark
+    public ByteBuffer current() {
+        return service.process(upload, format);
+    }
+
+    @Benchmark
+    public RequestBody previousPath() throws IOException {
+        try (InputStream is = upload.getInputStream()) {
+            ImageValidator.validateMagicBytes(is.readNBytes(ImageValidator.HEADER_BYTES));
+        }
+        try (ImageInputStream iis = ImageIO.createImageInputStream(upload.getInputStream())) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(iis);
+                    ImageValidator.validateDimensions(reader.getWidth(0), reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Thumbnails.of(upload.getInputStream())
+                .size(MAX_WIDTH, MAX_HEIGHT)
+                .keepAspectRatio(true)
+                .outputFormat(format)
+                .toOutputStream(out);
+        // 이전 S3Service.uploadProfileImage: RequestBody.fromBytes가 배열을 한 번 더 복사
+        return RequestBody.fromBytes(out.toByteArray());
+    }
+
+    // 업로드 파일 대역 (메모리에 올라온 multipart와 같게 byte[]에서 매번 새 스트림)
+    private record BytesMultipartFile(byte[] bytes, String contentType) implements MultipartFile {
+        @Override public String getName() { return "image"; }
+        @Override public String getOriginalFilename() { return "upload"; }
+        @Override public String getContentType() { return contentType; }
+        @Override public boolean isEmpty() { return bytes.length == 0; }
+        @Override public long getSize() { return bytes.length; }
+        @Override public byte[] getBytes() { return bytes; }
+        @Override public InputStream getInputStream() { return new ByteArrayInputStream(bytes); }
+        @Override public void transferTo(File dest) throws IOException { Files.write(dest.toPath(), bytes); }
+    }
+}
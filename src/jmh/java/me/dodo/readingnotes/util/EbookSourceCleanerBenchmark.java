@@ -0,0 +1,110 @@
+package me.dodo.readingnotes.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+// EbookSourceCleaner 처리량/할당량 측정
+// - 실제 입력 비율을 흉내 낸 혼합 코퍼스 (sourceRatio 비율만 출처 문구 포함)
+// - sevenPassBaseline: 표식 사전 검사 없이 7개 정규식을 모두 돌리던 이전 방식
+// 실행: ./gradlew jmh  (결과: build/results/jmh/results.json, gc.alloc.rate.norm = op당 할당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class EbookSourceCleanerBenchmark {
+
+    private static final int CORPUS_SIZE = 1_000;
+
+    // 출처 문구가 붙은 문장 비율 (%)
+    @Param({"5", "30"})
+    public int sourceRatio;
+
+    private String[] corpus;
+
+    private static final String[] BODIES = {
+            "그들은 후세대에 대한 죄책감으로 시스템을 받아들였다.",
+            "\"데리고 있을 수 있겠냐고 하는데?\"",
+            "촬영 종료 전날. 자유롭게 데이트를 설계해 상대를 지목할 수 있는 스페셜 데이트권을 두고 경쟁 미션을 수행할 차례였다.",
+            "사람은 누구나 자기만의 속도로 걷는다.\n그 속도를 남과 비교하는 순간 길을 잃는다.",
+            "대서양을 마주하고 자란 강인한 사람들이었다. 그들은 바다를 두려워하지 않았다.",
+            "가장 중요한 것은 눈에 보이지 않아.",
+            "우리가 잃어버린 것들은 대개 우리가 가장 소중히 여기지 않았던 것들이다.",
+            "“괜찮아, 다 지나갈 거야.” 그녀는 그렇게 말하며 창밖을 내다보았다."
+    };
+
+    private static final String[] SOURCES = {
+            "\n\"빛의 구역\"중에서 교보eBook에서 자세히 보기:\nhttps://ebook-product.kyobobook.co.kr/dig/epd/ebook/4801130650884",
+            " 감 두 사람의 인터내셔널 New Face Book 중에서 교보eBook에서 자세히 보기 : https://ebook-product.kyobobook.co.kr/dig/epd/ebook/480D240567600?auth_token=&appLink=And",
+            " \"바다에서 온 소년\" 중에서 https://induk.dkyobobook.co.kr/content/contentView.ink?brcd=4801124038339",
+            " \" https://product.kyobobook.co.kr/detail/S000219513807#:~:text=abc",
+            "\n전지적 독자 시점\n13화\n싱숑\n출처: 네이버시리즈",
+            " -<불편한 편의점>, 김호연 - 밀리의 서재\nhttps://millie.page.link/abc",
+            "\n https://ebook-product.kyobobook.co.kr/dig/preview/4801124038339?chl=lib"
+    };
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<String> sentences = new ArrayList<>(CORPUS_SIZE);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            String body = BODIES[random.nextInt(BODIES.length)];
+            if (random.nextInt(100) < sourceRatio) {
+                body = body + SOURCES[random.nextInt(SOURCES.length)];
+            }
+            sentences.add(body);
+        }
+        corpus = sentences.toArray(new String[0]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void markerGated(Blackhole bh) {
+        for (String s : corpus) {
+            bh.consume(EbookSourceCleaner.clean(s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CORPUS_SIZE)
+    public void sevenPassBaseline(Blackhole bh) {
+        for (String s : corpus) {
+            bh.consume(SevenPass.clean(s));
+        }
+    }
+
+    // 비교용: 이전 구현 그대로 (모든 문장에 7개 패턴 replaceAll)
+    static final class SevenPass {
+        private static final Pattern KYOBO_MULTILINE_BLOCK = Pattern.compile(
+                "\\n[^\\n]*중에서\\s*\\n교보eBook에서 자세히 보기:[^\\n]*(?:\\nhttps?://\\S+)?", Pattern.MULTILINE);
+        private static final Pattern NAVER_BLOCK = Pattern.compile(
+                "\\n(?:[^\\n]*\\n){0,3}출처: 네이버시리즈\\s*$", Pattern.MULTILINE);
+        private static final Pattern MILLIE_INLINE = Pattern.compile(
+                "\\s*-[<]?[^\\n]+-\\s*밀리의 서재(?:\\nhttps?://\\S+)?\\s*$", Pattern.MULTILINE);
+        private static final Pattern KYOBO_INLINE_BLOCK = Pattern.compile(
+                "[^\\n.!?。]*중에서\\s+교보eBook에서 자세히 보기\\s*:[^\\n]*$", Pattern.MULTILINE);
+        private static final Pattern KYOBO_LIBRARY_URL_INLINE = Pattern.compile(
+                "[^\\n.!?。]*중에서 https?://\\S+\\s*$", Pattern.MULTILINE);
+        private static final Pattern KYOBO_PRODUCT_URL_INLINE = Pattern.compile(
+                "[ \\t]+\"?[ \\t]*https?://[^\\s]*kyobobook\\.co\\.kr/\\S*\\s*$", Pattern.MULTILINE);
+        private static final Pattern TRAILING_URL = Pattern.compile(
+                "\\n[ \\t]*https?://\\S+\\s*$", Pattern.MULTILINE);
+
+        static String clean(String sentence) {
+            if (sentence == null || sentence.isBlank()) return sentence;
+            String result = sentence;
+            result = KYOBO_INLINE_BLOCK.matcher(result).replaceAll("");
+            result = KYOBO_LIBRARY_URL_INLINE.matcher(result).replaceAll("");
+            result = KYOBO_PRODUCT_URL_INLINE.matcher(result).replaceAll("");
+            result = KYOBO_MULTILINE_BLOCK.matcher(result).replaceAll("");
+            result = NAVER_BLOCK.matcher(result).replaceAll("");
+            result = MILLIE_INLINE.matcher(result).replaceAll("");
+            result = TRAILING_URL.matcher(result).replaceAll("");
+            return result.strip();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package me.dodo.readingnotes.util;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 프로필 이미지 1건 처리 시간/할당량 측정
+// - singlePass: 헤더 확인 → 메타데이터로 크기 검사 → 같은 reader로 서브샘플링 디코드 → 리사이즈
+// - threePassBaseline: 이전 방식 (매직 바이트, 해상도, 리사이즈가 각각 getInputStream()을 새로 열어 읽음)
+// 단일 스레드 AverageTime이라 op당 시간 ≈ 업로드 1건의 CPU 시간
+// 실행: ./gradlew jmh  (결과: build/results/jmh/results.json, gc.alloc.rate.norm = op당 할당 바이트)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ImageResizerBenchmark {
+
+    // 업로드 원본 크기 (폰 사진 4032x3024 포함)
+    @Param({"1280x960", "4032x3024"})
+    public String size;
+
+    @Param({"jpg", "png"})
+    public String format;
+
+    private final ImageResizer resizer = new ImageResizer();
+    private byte[] upload;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] wh = size.split("x");
+        int width = Integer.parseInt(wh[0]);
+        int height = Integer.parseInt(wh[1]);
+
+        // 단색이면 압축이 너무 잘 돼서 실제 사진과 차이가 커지므로 노이즈를 섞음
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int base = ((x / 64) * 40 + (y / 64) * 25) & 0xFF;
+                int noise = random.nextInt(32);
+                image.setRGB(x, y, (base << 16) | (((base + noise) & 0xFF) << 8) | ((base * 3 + noise) & 0xFF));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        upload = out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] singlePass() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        resizer.resizeKeepRatio(new ByteArrayInputStream(upload), format, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] threePassBaseline() throws IOException {
+        return ThreePass.process(upload, format);
+    }
+
+    // 비교용: 이전 구현 그대로 (MultipartFile.getInputStream()을 매번 새로 여는 것과 같게 byte[]에서 새 스트림)
+    static final class ThreePass {
+        private static final int MAX_WIDTH = 325;
+        private static final int MAX_HEIGHT = 272;
+
+        static byte[] process(byte[] upload, String format) throws IOException {
+            validateMagicBytes(upload);
+            validateDimensions(upload);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Thumbnails.of(new ByteArrayInputStream(upload))
+                    .size(MAX_WIDTH, MAX_HEIGHT)
+                    .keepAspectRatio(true)
+                    .outputFormat(format)
+                    .toOutputStream(out);
+            return out.toByteArray();
+        }
+
+        private static void validateMagicBytes(byte[] upload) throws IOException {
+            try (InputStream is = new ByteArrayInputStream(upload)) {
+                ImageValidator.validateMagicBytes(is.readNBytes(ImageValidator.HEADER_BYTES));
+            }
+        }
+
+        private static void validateDimensions(byte[] upload) throws IOException {
+            try (ImageInputStream iis = ImageIO.createImageInputStream(new ByteArrayInputStream(upload))) {
+                Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+                if (!readers.hasNext()) return;
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(iis);
+                    ImageValidator.validateDimensions(reader.getWidth(0), reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        }
+    }
+}
@@ -61,6 +61,11 @@ public class ApiKeyFilter extends OncePerRequestFilter {
             ApiErrorWriter.writeApiError(response, objectMapper, 403, "ACCOUNT_BLOCKED", "차단된 계정입니다.");
             return;
         }
+        // 탈퇴 처리 중에는 기록이 새로 쌓이지 않게
+        if (userOpt.get().getUserStatus() == User.UserStatus.DELETING) {
+            ApiErrorWriter.writeApiError(response, objectMapper, 403, "ACCOUNT_DELETING", "탈퇴 처리 중인 계정입니다.");
+            return;
+        }
 
         UsernamePasswordAuthenticationToken authentication =
                 new UsernamePasswordAuthenticationToken(userOpt.get(), null,
@@ -1,19 +1,28 @@
 package me.dodo.readingnotes.config;
 
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import me.dodo.readingnotes.domain.ApiLog;
 import me.dodo.readingnotes.dto.log.ApiLogCommand;
 import me.dodo.readingnotes.service.ApiLogService;
+import me.dodo.readingnotes.service.LatencyMetricsService;
+import me.dodo.readingnotes.util.RequestSqlStats;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 @Component
-public class ApiLogInterceptor implements HandlerInterceptor {
+public class ApiLogInterceptor implements AsyncHandlerInterceptor {
     private static final String ATTR_START_TIME = "API_LOG_START_TIME";
+    private static final String ATTR_START_NANOS = "API_LOG_START_NANOS";
 
     // 운영 정책
     @Value("${api.log.slow-threshold-ms}")
@@ -22,13 +31,23 @@ public class ApiLogInterceptor implements HandlerInterceptor {
     @Value("${api.log.success-enabled}")
     private boolean successLogEnabled;
 
+    // 요청당 SQL 실행 수 예산 (초과 시 표시 + 무조건 저장)
+    @Value("${api.log.sql-budget:20}")
+    private int sqlBudget;
+
     private final ApiLogService apiLogService;
     private final ApiLogRequestInfoExtractor extractor;
+    private final LatencyMetricsService latencyMetricsService;
+    private final MeterRegistry meterRegistry;
 
     public ApiLogInterceptor(ApiLogService apiLogService,
-                             ApiLogRequestInfoExtractor extractor) {
+                             ApiLogRequestInfoExtractor extractor,
+                             LatencyMetricsService latencyMetricsService,
+                             MeterRegistry meterRegistry) {
         this.apiLogService = apiLogService;
         this.extractor = extractor;
+        this.latencyMetricsService = latencyMetricsService;
+        this.meterRegistry = meterRegistry;
     }
 
     // 시작 시간
@@ -37,16 +56,33 @@ public class ApiLogInterceptor implements HandlerInterceptor {
                              HttpServletResponse response,
                              Object handler) {
 
-        request.setAttribute(ATTR_START_TIME, System.currentTimeMillis());
+        // 비동기 응답(StreamingResponseBody 등)이 끝난 뒤 재디스패치될 때는 최초 시작 시간 유지
+        if (request.getDispatcherType() != DispatcherType.ASYNC) {
+            request.setAttribute(ATTR_START_TIME, System.currentTimeMillis());
+            request.setAttribute(ATTR_START_NANOS, System.nanoTime());
+        }
+        RequestSqlStats.begin();
         return true;
     }
 
+    // 비동기 처리로 넘어가면 afterCompletion은 재디스패치 스레드에서 호출되므로 여기서 정리
+    // (스트리밍 스레드에서 실행된 SQL은 요청 단위 집계에 포함되지 않음)
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request,
+                                               HttpServletResponse response,
+                                               Object handler) {
+        RequestSqlStats.end();
+    }
+
     // ApiLogCommand 생성(service에 넘겨줄 형태)
     @Override
     public void afterCompletion(HttpServletRequest request,
                                 HttpServletResponse response,
                                 Object handler,
                                 Exception ex) {
+        // 스레드 재사용 전에 항상 정리
+        RequestSqlStats sqlStats = RequestSqlStats.end();
+
         // 저장 제외(노이즈 제거)
         if (shouldSkip(request)) {
             return;
@@ -56,6 +92,17 @@ public class ApiLogInterceptor implements HandlerInterceptor {
         long start = (startAttr instanceof Long l) ? l : System.currentTimeMillis();
         int executionTimeMs = (int) (System.currentTimeMillis() - start);
 
+        // 지연시간 분포/SQL 실행 수는 샘플링과 무관하게 모든 요청을 기록
+        String route = extractRoute(request);
+        recordLatency(request, route);
+
+        Integer sqlCount = (sqlStats == null) ? null : sqlStats.getStatementCount();
+        Integer sqlTimeMs = (sqlStats == null) ? null : sqlStats.getElapsedMillis();
+        boolean sqlBudgetExceeded = sqlCount != null && sqlCount > sqlBudget;
+        if (sqlStats != null) {
+            recordSqlMetrics(request.getMethod(), route, sqlStats, sqlBudgetExceeded);
+        }
+
         int statusCode = response.getStatus();
         ApiLog.Result result =
                 (ex == null && statusCode < 400)
@@ -63,7 +110,7 @@ public class ApiLogInterceptor implements HandlerInterceptor {
                         : ApiLog.Result.FAIL;
 
         // 저장량 제어 핵심 정책
-        if (!shouldStore(result, executionTimeMs)) {
+        if (!shouldStore(result, executionTimeMs, sqlBudgetExceeded)) {
             return;
         }
 
@@ -79,11 +126,45 @@ public class ApiLogInterceptor implements HandlerInterceptor {
                 extractor.extractUserAgent(request),
                 executionTimeMs,
                 extractor.extractErrorCode(ex, statusCode),
-                extractor.extractErrorMessage(ex, statusCode)
+                extractor.extractErrorMessage(ex, statusCode),
+                sqlCount,
+                sqlTimeMs,
+                sqlBudgetExceeded
         );
 
-        apiLogService.save(command);
+        // 버퍼에 넣기만 하고 바로 반환 (저장은 백그라운드 writer가 배치로 처리)
+        apiLogService.enqueue(command);
     }
+
+    // 경로 변수 값이 아닌 핸들러 패턴 기준으로 묶음 (/api/records/{id})
+    private String extractRoute(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return (pattern instanceof String p) ? p : "UNMAPPED";
+    }
+
+    private void recordLatency(HttpServletRequest request, String route) {
+        Object startNanos = request.getAttribute(ATTR_START_NANOS);
+        if (!(startNanos instanceof Long nanos)) return;
+        latencyMetricsService.record(request.getMethod(), route, System.nanoTime() - nanos);
+    }
+
+    // 엔드포인트별 쿼리 비용 (태그는 http.server.requests와 같은 method/uri)
+    private void recordSqlMetrics(String method, String route, RequestSqlStats sqlStats, boolean budgetExceeded) {
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청당 SQL 실행 수")
+                .tags("method", method, "uri", route)
+                .register(meterRegistry)
+                .record(sqlStats.getStatementCount());
+        Timer.builder("http.server.sql.time")
+                .description("요청당 SQL 실행 누적 시간")
+                .tags("method", method, "uri", route)
+                .register(meterRegistry)
+                .record(sqlStats.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        if (budgetExceeded) {
+            meterRegistry.counter("http.server.sql.budget.exceeded", "method", method, "uri", route).increment();
+        }
+    }
+
     private boolean shouldSkip(HttpServletRequest request) {
         String method = request.getMethod();
         String path = request.getRequestURI();
@@ -103,11 +184,14 @@ public class ApiLogInterceptor implements HandlerInterceptor {
                 || path.startsWith("/images");
     }
 
-    // FAIL 100% 저장, 느린 요청은 성공이어도 100% 저장, 그 외 성공 요청은 샘플링 저장
-    private boolean shouldStore(ApiLog.Result result, int executionTimeMs) {
+    // FAIL 100% 저장, 느린 요청/SQL 예산 초과 요청은 성공이어도 100% 저장, 그 외 성공 요청은 샘플링 저장
+    private boolean shouldStore(ApiLog.Result result, int executionTimeMs, boolean sqlBudgetExceeded) {
         // 실패(예외/4xx/5xx)는 무조건 저장
         if (result == ApiLog.Result.FAIL) return true;
 
+        // N+1 등으로 쿼리가 많은 요청은 무조건 저장
+        if (sqlBudgetExceeded) return true;
+
         // 느린 요청은 성공이어도 무조건 저장
         if (executionTimeMs >= slowThresholdMs) return true;
 
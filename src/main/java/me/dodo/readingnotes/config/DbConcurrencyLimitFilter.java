@@ -0,0 +1,76 @@
+package me.dodo.readingnotes.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import me.dodo.readingnotes.util.ApiErrorWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가상 스레드 모드의 동시 요청 제한
+// - 플랫폼 모드에선 Tomcat 스레드 수(server.tomcat.threads.max)가 자연스럽게 동시 요청을 막았지만,
+//   가상 스레드는 요청마다 하나씩 생기므로 그대로 두면 수백 개가 Hikari 대기열에 쌓여 connection-timeout으로 한꺼번에 실패함
+// - permits = 커넥션 풀 크기 × 배수, 대기 시간은 Hikari connection-timeout과 같게
+//   (어차피 그보다 오래 기다리면 커넥션을 못 받으므로 여기서 바로 503)
+// - 헬스 체크(/actuator)는 제한하지 않음
+public class DbConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(DbConcurrencyLimitFilter.class);
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final long acquireTimeoutMs;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public DbConcurrencyLimitFilter(int maxConcurrent, long acquireTimeoutMs, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            long count = rejected.incrementAndGet();
+            log.warn("동시 요청 제한 초과 ({}개, {}ms 대기) → 503: {} {} (누적 {}건)",
+                    maxConcurrent, acquireTimeoutMs, request.getMethod(), request.getRequestURI(), count);
+            response.setHeader("Retry-After", "1");
+            ApiErrorWriter.writeApiError(response, objectMapper, 503, "SERVER_BUSY", "요청이 많아 잠시 후 다시 시도해주세요.");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrent() { return maxConcurrent; }
+    public int getInFlight() { return maxConcurrent - permits.availablePermits(); }
+    public int getWaiting() { return permits.getQueueLength(); }
+    public long getRejected() { return rejected.get(); }
+}
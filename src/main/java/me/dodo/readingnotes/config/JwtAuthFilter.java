@@ -1,10 +1,12 @@
 package me.dodo.readingnotes.config;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import me.dodo.readingnotes.util.AccessTokenRevocationStore;
 import me.dodo.readingnotes.util.JwtTokenProvider;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -19,13 +21,17 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     public static final String ATTR_TOKEN_EXPIRED = "TOKEN_EXPIRED";
+    public static final String ATTR_TOKEN_ID = "TOKEN_ID";
     private static final String ATTR_USER_ID = "USER_ID";
     private static final String ATTR_USER_ROLE = "USER_ROLE";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationStore revocationStore;
 
-    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider,
+                         AccessTokenRevocationStore revocationStore) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.revocationStore = revocationStore;
     }
 
     @Override
@@ -41,13 +47,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
         try {
             String accessToken = jwtTokenProvider.extractToken(request);
-            jwtTokenProvider.assertValid(accessToken);
-            Long userId = jwtTokenProvider.getUserIdFromToken(accessToken);
-            String role = jwtTokenProvider.getRoleFromToken(accessToken);
+            // 서명 검증 + 파싱은 한 번만
+            Claims claims = jwtTokenProvider.parseClaims(accessToken);
+            Long userId = claims.get("userId", Long.class);
+            String role = claims.get("role", String.class);
+
+            // 로그아웃/차단으로 폐기된 토큰은 만료와 동일하게 처리
+            // (Bloom filter 오탐이어도 클라이언트가 재발급 받으면 정상 복구됨)
+            if (revocationStore.isRevoked(userId, jwtTokenProvider.getIssuedAt(claims), claims.getId())) {
+                request.setAttribute(ATTR_TOKEN_EXPIRED, true);
+                filterChain.doFilter(request, response);
+                return;
+            }
 
             //  로그 / 인터셉터 / 컨트롤러 공통 사용
             request.setAttribute(ATTR_USER_ID, userId);
             request.setAttribute(ATTR_USER_ROLE, role);
+            request.setAttribute(ATTR_TOKEN_ID, claims.getId());
             // SecurityContext에 인증 정보 설정
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
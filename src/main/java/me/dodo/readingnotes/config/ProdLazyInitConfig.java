@@ -0,0 +1,45 @@
+package me.dodo.readingnotes.config;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.List;
+
+// prod 시작 시간 단축: 관리자 전용 빈과 Swagger(springdoc) 빈은 처음 쓸 때 생성
+// - 컨트롤러는 핸들러 매핑이 빈 이름만 들고 있다가 첫 요청 때 꺼내므로 지연돼도 라우팅은 그대로
+// - 시작 시 도는 로직(@PostConstruct, @Scheduled, 체크포인트 재개)이 없는 빈만 대상
+// - AOT 빌드에선 이 설정이 빌드 시점에 빈 정의(lazyInit)로 들어감
+@Configuration
+@Profile("prod")
+public class ProdLazyInitConfig {
+
+    // 클래스 이름 접두사 (@Configuration은 CGLIB 하위 클래스 이름이라 접두사로 비교)
+    private static final List<String> LAZY_PREFIXES = List.of(
+            "me.dodo.readingnotes.controller.AdminController",
+            "me.dodo.readingnotes.service.BookDedupeService",
+            "me.dodo.readingnotes.service.CleanBatchService",
+            "me.dodo.readingnotes.service.PendingRematchService",
+            "me.dodo.readingnotes.config.SwaggerConfig",
+            "org.springdoc."
+    );
+
+    @Bean
+    public static BeanFactoryPostProcessor lazyAdminAndSwaggerBeans() {
+        return beanFactory -> {
+            for (String name : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition bd = beanFactory.getBeanDefinition(name);
+                // @Bean 메서드로 만든 빈은 그 메서드를 가진 설정 클래스로 판단
+                String factoryBean = bd.getFactoryBeanName();
+                String className = factoryBean != null && beanFactory.containsBeanDefinition(factoryBean)
+                        ? beanFactory.getBeanDefinition(factoryBean).getBeanClassName()
+                        : bd.getBeanClassName();
+                if (className != null && LAZY_PREFIXES.stream().anyMatch(className::startsWith)) {
+                    bd.setLazyInit(true);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package me.dodo.readingnotes.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// 읽기/쓰기 분리 (datasource.replica.enabled=true일 때만, 아니면 Boot 기본 단일 풀)
+// - @Transactional(readOnly = true)는 트랜잭션 시작 시 커넥션에 setReadOnly(true)를 걸고,
+//   LazyConnectionDataSourceProxy는 첫 SQL 때 그 값을 보고 readOnlyDataSource(복제본)에서 커넥션을 꺼냄
+// - 그 외(쓰기 트랜잭션, 트랜잭션 밖 JdbcTemplate 등)는 전부 primary
+// - 풀 크기는 spring.datasource.hikari.* / datasource.replica.hikari.* 로 따로 설정
+// - datasource.replica.hikari.jdbc-url을 비우면 같은 DB에 "replica" 풀을 하나 더 붙임 (로컬 확인용)
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties, Environment environment) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+        config.setReadOnly(true);
+        Binder.get(environment).bind("datasource.replica.hikari", Bindable.ofInstance(config));
+
+        if (config.getJdbcUrl() == null || config.getJdbcUrl().isBlank()) {
+            config.setJdbcUrl(properties.determineUrl());
+        }
+        // 복제본이 내려가 있어도 앱은 떠야 함 (읽기는 primary로 폴백)
+        config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+
+    @Bean
+    public ReplicaFallbackDataSource replicaFallbackDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.max-lag-seconds:5}") double maxLagSeconds,
+            @Value("${datasource.replica.lag-check-interval-ms:5000}") long lagCheckIntervalMs,
+            @Value("${datasource.replica.retry-after-ms:30000}") long retryAfterMs,
+            MeterRegistry meterRegistry) {
+        ReplicaFallbackDataSource dataSource =
+                new ReplicaFallbackDataSource(primary, replica, maxLagSeconds, lagCheckIntervalMs, retryAfterMs);
+        // 1: 읽기 전용 트랜잭션이 복제본으로 감, 0: 장애/지연으로 primary 폴백 중
+        Gauge.builder("datasource.replica.active", dataSource, ds -> ds.isUsingReplica() ? 1 : 0)
+                .register(meterRegistry);
+        return dataSource;
+    }
+
+    // JPA, JdbcTemplate, 트랜잭션 매니저가 쓰는 DataSource
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 ReplicaFallbackDataSource replicaFallbackDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(replicaFallbackDataSource);
+        return proxy;
+    }
+}
@@ -0,0 +1,121 @@
+package me.dodo.readingnotes.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 읽기 전용 트랜잭션이 받는 DataSource
+// - 평소엔 복제본 풀에서 커넥션을 줌
+// - 복제본 커넥션을 못 얻으면 retryAfterMs 동안 primary로 보냄 (매 요청마다 타임아웃을 기다리지 않도록)
+// - lagCheckIntervalMs마다 한 번, 얻은 커넥션으로 복제 지연을 재서 maxLagSeconds를 넘으면 primary로 보냄
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaFallbackDataSource.class);
+
+    // 복제본이 아니거나(같은 DB를 두 풀로 쓰는 경우) 받은 WAL을 다 적용했으면 0
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final double maxLagSeconds;
+    private final long lagCheckIntervalMs;
+    private final long retryAfterMs;
+
+    private final AtomicLong nextLagCheckAt = new AtomicLong();
+    private volatile long replicaDownUntil;
+    private volatile boolean replicaStale;
+
+    public ReplicaFallbackDataSource(DataSource primary,
+                                     DataSource replica,
+                                     double maxLagSeconds,
+                                     long lagCheckIntervalMs,
+                                     long retryAfterMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagCheckIntervalMs = lagCheckIntervalMs;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Connection con = replicaConnection();
+        return con != null ? con : primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection con = replicaConnection();
+        return con != null ? con : primary.getConnection(username, password);
+    }
+
+    // 지금 읽기를 복제본으로 보내는지 (관리자 상태 확인용)
+    public boolean isUsingReplica() {
+        return System.currentTimeMillis() >= replicaDownUntil && !replicaStale;
+    }
+
+    // 못 쓰면 null → primary
+    private Connection replicaConnection() {
+        long now = System.currentTimeMillis();
+        if (now < replicaDownUntil) return null;
+
+        Connection con;
+        try {
+            con = replica.getConnection();
+        } catch (SQLException e) {
+            replicaDownUntil = now + retryAfterMs;
+            log.warn("복제본 커넥션 실패 → {}ms 동안 primary에서 읽음: {}", retryAfterMs, e.getMessage());
+            return null;
+        }
+
+        long checkAt = nextLagCheckAt.get();
+        if (now >= checkAt && nextLagCheckAt.compareAndSet(checkAt, now + lagCheckIntervalMs)) {
+            updateStale(con);
+        }
+        if (replicaStale) {
+            closeQuietly(con);
+            return null;
+        }
+        return con;
+    }
+
+    // 한 스레드만 측정, 나머지는 직전 결과를 그대로 사용
+    private void updateStale(Connection con) {
+        boolean stale;
+        try (Statement st = con.createStatement(); ResultSet rs = st.executeQuery(LAG_SQL)) {
+            double lag = rs.next() ? rs.getDouble(1) : 0;
+            stale = lag > maxLagSeconds;
+            if (stale && !replicaStale) {
+                log.warn("복제 지연 {}s > 허용 {}s → primary에서 읽음", String.format("%.1f", lag), maxLagSeconds);
+            }
+        } catch (SQLException e) {
+            // 측정 실패는 지연으로 보지 않음 (커넥션 자체는 정상)
+            log.debug("복제 지연 측정 실패: {}", e.getMessage());
+            stale = false;
+        }
+        if (!stale && replicaStale) {
+            log.info("복제 지연 해소 → 복제본에서 읽기 재개");
+        }
+        replicaStale = stale;
+    }
+
+    private static void closeQuietly(Connection con) {
+        try {
+            con.close();
+        } catch (SQLException ignored) {
+        }
+    }
+}
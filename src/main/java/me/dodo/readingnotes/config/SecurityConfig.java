@@ -1,6 +1,7 @@
 package me.dodo.readingnotes.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.DispatcherType;
 import me.dodo.readingnotes.repository.UserRepository;
 import me.dodo.readingnotes.service.CustomOAuth2UserService;
 import me.dodo.readingnotes.util.ApiErrorWriter;
@@ -86,8 +87,12 @@ public class SecurityConfig {
                 // 이쪽 url들은 권한 없이 들어갈 수 있음
                 .authorizeHttpRequests(auth -> auth
                     .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()  // OPTIONS 허용
+                    // 스트리밍 응답 완료 후 재디스패치 (최초 요청에서 이미 인가됨, JWT 필터는 재실행되지 않음)
+                    .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                     .requestMatchers("/api/auth/**", "/api/login/**","/oauth2/**", "/login/**").permitAll()
                     .requestMatchers("/api/notice").permitAll()  // 공지 조회는 인증 불필요
+                    // 메트릭 수집용 (management 포트는 127.0.0.1에만 바인딩)
+                    .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
 //                    .requestMatchers("/records/me", "/records/me/**").authenticated()
                     .requestMatchers("/api/admin/**").hasRole("ADMIN")
                     .anyRequest().authenticated()
@@ -0,0 +1,32 @@
+package me.dodo.readingnotes.config;
+
+import me.dodo.readingnotes.util.RequestSqlStats;
+import org.hibernate.SessionEventListener;
+
+// Hibernate 세션 이벤트로 JDBC 실행 횟수/시간을 요청 단위로 누적 (N+1 감지용)
+// hibernate.session.events.auto 로 세션마다 새로 만들어지므로 스프링 빈이 아님
+public class SqlStatementCountingListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestSqlStats.record(1, System.nanoTime() - executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestSqlStats.record(1, System.nanoTime() - batchStart);
+    }
+}
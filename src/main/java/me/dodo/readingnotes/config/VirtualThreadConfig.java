@@ -0,0 +1,58 @@
+package me.dodo.readingnotes.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+// 가상 스레드 모드 (spring.threads.virtual.enabled=true, JDK 21)
+// - Boot가 바꾸는 것: Tomcat 요청 처리, @Async(applicationTaskExecutor), @Scheduled 스케줄러 → 가상 스레드
+// - 여기서 더하는 것: 커넥션 풀 기준 동시 요청 제한, pinning 감시
+// - 기록 내보내기(streaming-), 이미지(image-), 배치 작업 스레드는 동시 실행 수 제한이 목적이라 플랫폼 풀 그대로
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public FilterRegistrationBean<DbConcurrencyLimitFilter> dbConcurrencyLimitFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            @Value("${web.limiter.permits-per-connection:8}") int permitsPerConnection,
+            MeterRegistry meterRegistry) throws SQLException {
+        // 읽기/쓰기 분리 시에도 unwrap은 primary 풀을 돌려줌 (쓰기와 트랜잭션 밖 조회는 전부 primary)
+        HikariDataSource pool = dataSource.unwrap(HikariDataSource.class);
+        int maxConcurrent = pool.getMaximumPoolSize() * permitsPerConnection;
+        DbConcurrencyLimitFilter filter =
+                new DbConcurrencyLimitFilter(maxConcurrent, pool.getConnectionTimeout(), objectMapper);
+
+        Gauge.builder("http.server.requests.limiter.in-flight", filter, DbConcurrencyLimitFilter::getInFlight)
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.limiter.waiting", filter, DbConcurrencyLimitFilter::getWaiting)
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.limiter.rejected", filter, DbConcurrencyLimitFilter::getRejected)
+                .register(meterRegistry);
+
+        FilterRegistrationBean<DbConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        // Security 필터(API Key/JWT 조회도 DB를 씀)보다 먼저
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+        return registration;
+    }
+
+    @Bean
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+            @Value("${web.virtual.pinned-threshold-ms:20}") long thresholdMs,
+            MeterRegistry meterRegistry) {
+        return new VirtualThreadPinningMonitor(Duration.ofMillis(thresholdMs), meterRegistry);
+    }
+}
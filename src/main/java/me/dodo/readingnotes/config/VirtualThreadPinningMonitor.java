@@ -0,0 +1,77 @@
+package me.dodo.readingnotes.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 가상 스레드 pinning 감시 (JFR jdk.VirtualThreadPinned 이벤트)
+// - synchronized 블록/메서드 안에서 I/O를 기다리면 가상 스레드가 캐리어(플랫폼) 스레드를 붙잡아
+//   캐리어 수(= CPU 코어 수)만큼만 동시에 돌게 됨 → JDBC/HTTP 경로에서 생기면 가상 스레드 모드가 오히려 느려짐
+// - 임계값 이상 붙잡힌 건마다 jvm.threads.virtual.pinned 카운트, 위치(스택)별로 처음 한 번만 WARN
+// - 현재 경로는 확인함: pgjdbc 42.7(ReentrantLock), HikariCP 5(ConcurrentBag), JDK 21 HttpURLConnection(락 전환됨)
+//   → 새로 넣은 코드/라이브러리 때문에 생기는지 보는 용도
+public class VirtualThreadPinningMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOG_FRAMES = 12;
+    // 로그로 남길 서로 다른 위치 수 상한 (그 이후는 카운트만)
+    private static final int MAX_REPORTED_SITES = 100;
+
+    private final Duration threshold;
+    private final Counter pinned;
+    private final Set<String> reportedSites = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold, MeterRegistry meterRegistry) {
+        this.threshold = threshold;
+        this.pinned = Counter.builder("jvm.threads.virtual.pinned")
+                .description("임계값 이상 캐리어 스레드를 붙잡은 가상 스레드 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        stream = new RecordingStream();
+        stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("가상 스레드 pinning 감시 시작 (임계값 {}ms)", threshold.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinned.increment();
+        if (event.getStackTrace() == null) return;
+
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        StringBuilder trace = new StringBuilder();
+        for (int i = 0; i < Math.min(LOG_FRAMES, frames.size()); i++) {
+            RecordedFrame f = frames.get(i);
+            trace.append("\n\tat ").append(f.getMethod().getType().getName())
+                    .append('.').append(f.getMethod().getName())
+                    .append(':').append(f.getLineNumber());
+        }
+        String site = trace.toString();
+        if (reportedSites.size() < MAX_REPORTED_SITES && reportedSites.add(site)) {
+            log.warn("가상 스레드 pinning {}ms (같은 위치는 이후 카운트만):{}",
+                    event.getDuration().toMillis(), site);
+        }
+    }
+}
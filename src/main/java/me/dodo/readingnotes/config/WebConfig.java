@@ -1,6 +1,10 @@
 package me.dodo.readingnotes.config;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -9,8 +13,31 @@ public class WebConfig implements WebMvcConfigurer {
 
     private final ApiLogInterceptor apiLogInterceptor;
 
-    public WebConfig(ApiLogInterceptor apiLogInterceptor) {
+    // StreamingResponseBody(기록 내보내기) 전용 스레드
+    // - @Async 풀(책 매칭)과 섞이지 않도록 분리, 동시에 DB 커넥션을 오래 잡는 요청 수를 제한
+    // - Executor 빈으로 등록하면 기본 applicationTaskExecutor가 생성되지 않으므로 빈으로 만들지 않음
+    private final ThreadPoolTaskExecutor streamingExecutor;
+    private final long asyncTimeoutMs;
+
+    public WebConfig(ApiLogInterceptor apiLogInterceptor,
+                     @Value("${web.streaming.pool-size:2}") int streamingPoolSize,
+                     @Value("${web.streaming.queue-capacity:10}") int streamingQueueCapacity,
+                     @Value("${web.streaming.timeout-ms:300000}") long asyncTimeoutMs) {
         this.apiLogInterceptor = apiLogInterceptor;
+        this.asyncTimeoutMs = asyncTimeoutMs;
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("streaming-");
+        executor.setCorePoolSize(streamingPoolSize);
+        executor.setMaxPoolSize(streamingPoolSize);
+        executor.setQueueCapacity(streamingQueueCapacity);
+        executor.initialize();
+        this.streamingExecutor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        streamingExecutor.shutdown();
     }
 
     @Override
@@ -19,5 +46,11 @@ public class WebConfig implements WebMvcConfigurer {
                 .addPathPatterns("/**");
     }
 
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(streamingExecutor);
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+
     // CORS 설정은 SecurityConfig에서 처리하므로 여기서는 제거
-}
\ No newline at end of file
+}
@@ -21,7 +21,6 @@ import me.dodo.readingnotes.dto.user.*;
 import me.dodo.readingnotes.exception.AuthException;
 import me.dodo.readingnotes.service.*;
 import me.dodo.readingnotes.util.CookieUtil;
-import me.dodo.readingnotes.util.ImageResizer;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
@@ -31,10 +30,10 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -42,31 +41,44 @@ public class AdminController {
 
     private final AuthService authService;
     private final UserService userService;
-    private final S3Service s3Service;
     private final LogService logService;
     private final BookService bookService;
     private final ReadingRecordService readingRecordService;
-    private final ImageResizer imageResizer;
+    private final ProfileImageService profileImageService;
     private final NoticeService noticeService;
     private final CookieUtil cookieUtil;
+    private final LatencyMetricsService latencyMetricsService;
+    private final CleanBatchService cleanBatchService;
+    private final PendingRematchService pendingRematchService;
+    private final BookDedupeService bookDedupeService;
+    private final UserDeletionService userDeletionService;
 
     public AdminController(UserService userService,
-                           S3Service s3Service, AuthService authService,
+                           AuthService authService,
                            LogService logService,
                            BookService bookService,
                            ReadingRecordService readingRecordService,
-                           ImageResizer imageResizer,
+                           ProfileImageService profileImageService,
                            NoticeService noticeService,
-                           CookieUtil cookieUtil) {
+                           CookieUtil cookieUtil,
+                           LatencyMetricsService latencyMetricsService,
+                           CleanBatchService cleanBatchService,
+                           PendingRematchService pendingRematchService,
+                           BookDedupeService bookDedupeService,
+                           UserDeletionService userDeletionService) {
         this.userService = userService;
-        this.s3Service = s3Service;
         this.authService = authService;
         this.logService = logService;
         this.bookService = bookService;
         this.readingRecordService = readingRecordService;
-        this.imageResizer = imageResizer;
+        this.profileImageService = profileImageService;
         this.noticeService = noticeService;
         this.cookieUtil = cookieUtil;
+        this.latencyMetricsService = latencyMetricsService;
+        this.cleanBatchService = cleanBatchService;
+        this.pendingRematchService = pendingRematchService;
+        this.bookDedupeService = bookDedupeService;
+        this.userDeletionService = userDeletionService;
     }
 
     // ##############################
@@ -127,18 +139,13 @@ public class AdminController {
     }
 
     @PostMapping("/users/{id}/profile-image")
-    public ApiResponse<String> uploadProfileImage(@PathVariable Long id,
-                                                   @RequestParam("image") MultipartFile image,
-                                                   HttpServletRequest request) throws Exception {
+    public CompletableFuture<ApiResponse<String>> uploadProfileImage(@PathVariable Long id,
+                                                                     @RequestParam("image") MultipartFile image,
+                                                                     HttpServletRequest request) {
         Long adminId = extractAdminId(request);
         userService.assertAdmin(adminId);
-        userService.deleteProfileImage(id);
-        byte[] resizedImage = imageResizer.resizeImageKeepRatio(image);
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
-        String fileName = "user-" + id + "_" + timestamp;
-        String imageUrl = s3Service.uploadProfileImage(resizedImage, fileName, image.getContentType());
-        userService.updateProfileImage(id, imageUrl);
-        return ApiResponse.success(null, imageUrl);
+        return profileImageService.upload(id, image)
+                .thenApply(imageUrl -> ApiResponse.success(null, imageUrl));
     }
 
     @DeleteMapping("/users/{id}/profile-image")
@@ -171,12 +178,21 @@ public class AdminController {
                 new ApiKeyResponse("API Key 조회 성공", apiKey));
     }
 
+    // 유저 삭제 (백그라운드 실행, 진행 상황은 /delete/status)
     @DeleteMapping("/users/{id}/delete")
-    public ApiResponse<Boolean> deleteUser(@PathVariable Long id,
-                                            HttpServletRequest request) {
+    public ApiResponse<UserDeletionStatusResponse> deleteUser(@PathVariable Long id,
+                                                              HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(userDeletionService.request(id));
+    }
+
+    @GetMapping("/users/{id}/delete/status")
+    public ApiResponse<UserDeletionStatusResponse> getDeleteUserStatus(@PathVariable Long id,
+                                                                       HttpServletRequest request) {
         Long adminId = extractAdminId(request);
         userService.assertAdmin(adminId);
-        return ApiResponse.success(userService.deleteUserById(id));
+        return ApiResponse.success(userDeletionService.getStatus(id));
     }
 
     @PostMapping("/users/{id}/status")
@@ -217,11 +233,14 @@ public class AdminController {
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) UserAuthLog.AuthEventType type,
             @RequestParam(required = false) UserAuthLog.AuthResult result,
+            @RequestParam(required = false) String from, // yyyy-MM-dd, 기본 최근 7일
+            @RequestParam(required = false) String to,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             HttpServletRequest request) {
         Long adminId = extractAdminId(request);
         userService.assertAdmin(adminId);
-        return ApiResponse.success(PageResponse.from(logService.findAuthLogs(keyword, type, result, pageable)));
+        return ApiResponse.success(PageResponse.from(logService.findAuthLogs(keyword, type, result,
+                parseDateOrNull(from), parseDateOrNull(to), pageable)));
     }
 
     @GetMapping("/auth/logs/{id}")
@@ -242,11 +261,15 @@ public class AdminController {
             @RequestParam(required = false) ApiLog.Result result,
             @RequestParam(required = false) Integer statusCode,
             @RequestParam(required = false) String method,
+            @RequestParam(required = false) Boolean sqlBudgetExceeded, // SQL 실행 수 예산 초과 요청만
+            @RequestParam(required = false) String from, // yyyy-MM-dd, 기본 최근 7일
+            @RequestParam(required = false) String to,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             HttpServletRequest request) {
         Long adminId = extractAdminId(request);
         userService.assertAdmin(adminId);
-        return ApiResponse.success(PageResponse.from(logService.findApiLogs(keyword, result, statusCode, method, pageable)));
+        return ApiResponse.success(PageResponse.from(logService.findApiLogs(keyword, result, statusCode, method, sqlBudgetExceeded,
+                parseDateOrNull(from), parseDateOrNull(to), pageable)));
     }
 
     @GetMapping("/api/logs/{id}")
@@ -257,6 +280,19 @@ public class AdminController {
         return ApiResponse.success(logService.findApiLog(id));
     }
 
+    // ##############################
+    // 지연시간 (메모리 집계, DB 조회 없음)
+    // ##############################
+
+    @GetMapping("/metrics/latency")
+    public ApiResponse<List<RouteLatencyResponse>> getLatencies(
+            @RequestParam(defaultValue = "5m") String window, // 1m | 5m | 1h
+            HttpServletRequest request) {
+        // 권한은 SecurityConfig의 hasRole("ADMIN")으로 확인 (대시보드 폴링마다 유저 조회하지 않음)
+        extractAdminId(request);
+        return ApiResponse.success(latencyMetricsService.getLatencies(LatencyMetricsService.Window.from(window)));
+    }
+
     // ##############################
     // 책 관리
     // ##############################
@@ -307,6 +343,23 @@ public class AdminController {
         return ApiResponse.success("책이 복구되었습니다.");
     }
 
+    // 중복 책 정리 (dryRun=true면 묶음 미리보기만, false면 실제 병합)
+    @PostMapping("/books/dedupe")
+    public ApiResponse<BookDedupeStatusResponse> dedupeBooks(
+            @RequestParam(defaultValue = "true") boolean dryRun,
+            HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(bookDedupeService.start(dryRun));
+    }
+
+    @GetMapping("/books/dedupe/status")
+    public ApiResponse<BookDedupeStatusResponse> getDedupeBooksStatus(HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(bookDedupeService.getStatus());
+    }
+
     @GetMapping("/records/stats/books")
     public ApiResponse<AdminBookStatsResponse> getBookStats(HttpServletRequest request) {
         Long adminId = extractAdminId(request);
@@ -374,11 +427,36 @@ public class AdminController {
         return ApiResponse.success("기록이 삭제되었습니다.");
     }
 
+    // 백그라운드로 시작하고 바로 반환 (중단됐던 작업이면 체크포인트부터 이어서)
     @PostMapping("/records/clean-sentences")
-    public ApiResponse<Map<String, Integer>> cleanAllSentences(HttpServletRequest request) {
+    public ApiResponse<CleanJobStatusResponse> cleanAllSentences(HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(cleanBatchService.start());
+    }
+
+    @GetMapping("/records/clean-sentences/status")
+    public ApiResponse<CleanJobStatusResponse> getCleanSentencesStatus(HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(cleanBatchService.getStatus());
+    }
+
+    // 매칭 대기 기록 일괄 재매칭 (백그라운드), maxExternalCalls 없으면 설정값
+    @PostMapping("/records/rematch-pending")
+    public ApiResponse<RematchJobStatusResponse> rematchPending(
+            @RequestParam(required = false) Integer maxExternalCalls,
+            HttpServletRequest request) {
         Long adminId = extractAdminId(request);
         userService.assertAdmin(adminId);
-        return ApiResponse.success(readingRecordService.cleanAllSentences());
+        return ApiResponse.success(pendingRematchService.start(maxExternalCalls));
+    }
+
+    @GetMapping("/records/rematch-pending/status")
+    public ApiResponse<RematchJobStatusResponse> getRematchPendingStatus(HttpServletRequest request) {
+        Long adminId = extractAdminId(request);
+        userService.assertAdmin(adminId);
+        return ApiResponse.success(pendingRematchService.getStatus());
     }
 
     // ##############################
@@ -409,6 +487,15 @@ public class AdminController {
         return ApiResponse.success(noticeService.updateNotice(id, body));
     }
 
+    private LocalDate parseDateOrNull(String date) {
+        if (date == null || date.isBlank()) return null;
+        try {
+            return LocalDate.parse(date.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("날짜 형식은 yyyy-MM-dd");
+        }
+    }
+
     private Long extractAdminId(HttpServletRequest request) {
         Long adminId = (Long) request.getAttribute("USER_ID");
         if (adminId == null) {
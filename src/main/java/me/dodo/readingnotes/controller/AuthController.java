@@ -3,6 +3,7 @@ package me.dodo.readingnotes.controller;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import me.dodo.readingnotes.config.JwtAuthFilter;
 import me.dodo.readingnotes.dto.auth.AuthResponse;
 import me.dodo.readingnotes.dto.auth.AuthResult;
 import me.dodo.readingnotes.dto.auth.LoginRequest;
@@ -68,7 +69,8 @@ public class AuthController {
             throw new AuthException("인증이 필요합니다.");
         }
 
-        authService.logoutUser(userId, userAgent);
+        String tokenId = (String) httpRequest.getAttribute(JwtAuthFilter.ATTR_TOKEN_ID);
+        authService.logoutUser(userId, userAgent, tokenId);
 
         ResponseCookie deleteCookie = cookieUtil.deleteRefreshTokenCookie();
         httpResponse.addHeader(HttpHeaders.SET_COOKIE, deleteCookie.toString());
@@ -1,5 +1,8 @@
 package me.dodo.readingnotes.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.http.HttpServletRequest;
 import me.dodo.readingnotes.config.ApiKeyFilter;
 import me.dodo.readingnotes.domain.ReadingRecord;
@@ -11,16 +14,28 @@ import me.dodo.readingnotes.dto.common.ApiResponse;
 import me.dodo.readingnotes.dto.common.PageResponse;
 import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
 import me.dodo.readingnotes.dto.reading.ReadingRecordResponse;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
+import me.dodo.readingnotes.dto.reading.RecordBatchItemResult;
+import me.dodo.readingnotes.dto.reading.RecordImportStatusResponse;
 import me.dodo.readingnotes.exception.AuthException;
 import me.dodo.readingnotes.service.ReadingCalendarService;
 import me.dodo.readingnotes.service.ReadingRecordService;
+import me.dodo.readingnotes.service.RecordExportService;
+import me.dodo.readingnotes.service.RecordImportService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.*;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -29,6 +44,7 @@ import java.util.stream.Collectors;
 public class ReadingRecordController {
     private static final Logger log = LoggerFactory.getLogger(ReadingRecordController.class);
     private static final int MAX_SIZE = 30;
+    private static final int MAX_BATCH_ITEMS = 100;
 
     private int clampSize(int size) {
         return Math.min(Math.max(size, 1), MAX_SIZE);
@@ -36,19 +52,43 @@ public class ReadingRecordController {
 
     private final ReadingRecordService service;
     private final ReadingCalendarService calendarService;
+    private final RecordExportService exportService;
+    private final RecordImportService importService;
+    private final ObjectMapper objectMapper;
 
     public ReadingRecordController(ReadingRecordService service,
-                                   ReadingCalendarService calendarService) {
+                                   ReadingCalendarService calendarService,
+                                   RecordExportService exportService,
+                                   RecordImportService importService,
+                                   ObjectMapper objectMapper) {
         this.service = service;
         this.calendarService = calendarService;
+        this.exportService = exportService;
+        this.importService = importService;
+        this.objectMapper = objectMapper;
     }
 
-    // 아이폰 단축어로 메모 추가
+    // 아이폰 단축어로 메모 추가 (객체 하나 또는 배열)
     @PostMapping
-    public ApiResponse<String> create(HttpServletRequest request,
-                                      @RequestBody ReadingRecordRequest req) {
+    public ApiResponse<?> create(HttpServletRequest request,
+                                 @RequestBody JsonNode body) {
         User user = (User) request.getAttribute("apiUser");
         Long userId = (Long) request.getAttribute(ApiKeyFilter.ATTR_API_USER_ID);
+
+        // 오프라인에서 모아 둔 여러 문장을 한 번에 (한 트랜잭션, 항목별 결과 반환)
+        if (body.isArray()) {
+            if (body.isEmpty() || body.size() > MAX_BATCH_ITEMS) {
+                throw new IllegalArgumentException("한 번에 1 ~ " + MAX_BATCH_ITEMS + "개까지 저장할 수 있습니다.");
+            }
+            List<ReadingRecordRequest> reqs = objectMapper.convertValue(body, new TypeReference<>() {});
+            List<RecordBatchItemResult> results = service.createBatchByUserId(userId, reqs);
+            long saved = results.stream().filter(RecordBatchItemResult::isSaved).count();
+            String message = "기록 " + saved + "개를 저장했습니다."
+                    + (saved < results.size() ? " (건너뜀 " + (results.size() - saved) + "개)" : "");
+            return ApiResponse.success(message, results);
+        }
+
+        ReadingRecordRequest req = objectMapper.convertValue(body, ReadingRecordRequest.class);
         ReadingRecord saved = service.createByUserId(userId, user, req);
         return ApiResponse.success(null, "문장: " + saved.getSentence() + "\n메모: " + saved.getComment() + "\n기록을 저장했습니다.");
     }
@@ -62,6 +102,30 @@ public class ReadingRecordController {
         return ApiResponse.success("기록이 저장되었습니다.");
     }
 
+    // 다른 앱에서 옮겨온 기록 일괄 등록 (JSON 배열), 백그라운드로 처리하고 작업 id 반환
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<RecordImportStatusResponse> importRecords(HttpServletRequest request,
+                                                                 @RequestBody List<ReadingRecordRequest> reqs) {
+        Long userId = resolveUserId(request);
+        return ApiResponse.success(importService.submit(userId, reqs));
+    }
+
+    // 기록 일괄 등록 (csv / json 파일)
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ApiResponse<RecordImportStatusResponse> importRecordFile(HttpServletRequest request,
+                                                                    @RequestParam("file") MultipartFile file) {
+        Long userId = resolveUserId(request);
+        return ApiResponse.success(importService.submitFile(userId, file));
+    }
+
+    // 일괄 등록 진행 상황
+    @GetMapping("/import/{jobId}")
+    public ApiResponse<RecordImportStatusResponse> getImportStatus(HttpServletRequest request,
+                                                                   @PathVariable("jobId") String jobId) {
+        Long userId = resolveUserId(request);
+        return ApiResponse.success(importService.getStatus(userId, jobId));
+    }
+
     // 해당 유저의 최근 N(default=3)개 기록 조회(메인 화면용)
     @GetMapping("/me/summary")
     public ApiResponse<List<ReadingRecordResponse>> getMyLatestRecords(
@@ -69,8 +133,8 @@ public class ReadingRecordController {
             @RequestParam(value = "size", defaultValue = "3") int size) {
         Long userId = resolveUserId(request);
         size = clampSize(size);
-        List<ReadingRecord> list = service.getLatestRecords(userId, size);
-        log.debug("list: {}", list.toString());
+        List<ReadingRecordRow> list = service.getLatestRecords(userId, size);
+        log.debug("list size: {}", list.size());
         return ApiResponse.success(list.stream().map(ReadingRecordResponse::new).collect(Collectors.toList()));
     }
 
@@ -82,10 +146,28 @@ public class ReadingRecordController {
             @RequestParam(value = "scope", defaultValue = "titleAndAuthor") String scope,
             @RequestParam(value = "q", required = false) String q) {
         Long userId = resolveUserId(request);
-        Page<ReadingRecord> page = service.getMyRecords(userId, scope, q, pageable);
+        Page<ReadingRecordRow> page = service.getMyRecords(userId, scope, q, pageable);
         return ApiResponse.success(PageResponse.from(page.map(ReadingRecordResponse::new)));
     }
 
+    // 해당 유저의 모든 기록 내보내기 (json | csv | md), 응답 스트림에 바로 씀
+    @GetMapping("/me/export")
+    public ResponseEntity<StreamingResponseBody> exportMyRecords(
+            HttpServletRequest request,
+            @RequestParam(value = "format", defaultValue = "json") String format) {
+        Long userId = resolveUserId(request);
+        RecordExportService.Format exportFormat = RecordExportService.Format.from(format);
+        String filename = "readory-records-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE)
+                + "." + exportFormat.getExtension();
+
+        StreamingResponseBody body = out -> exportService.export(userId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     // 해당 유저가 읽은 책 중 매핑이 끝난 N(default=20)개 책들 조회
     @GetMapping("/me/books")
     public ApiResponse<PageResponse<BookWithLastRecordResponse>> getMyConfirmedBooks(
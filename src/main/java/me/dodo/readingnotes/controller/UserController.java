@@ -10,18 +10,16 @@ import me.dodo.readingnotes.dto.user.UpdateUsernameRequest;
 import me.dodo.readingnotes.dto.user.UserRequest;
 import me.dodo.readingnotes.dto.user.UserResponse;
 import me.dodo.readingnotes.exception.AuthException;
-import me.dodo.readingnotes.service.S3Service;
+import me.dodo.readingnotes.service.ProfileImageService;
+import me.dodo.readingnotes.service.UserDeletionService;
 import me.dodo.readingnotes.service.UserService;
 import me.dodo.readingnotes.domain.User;
-import me.dodo.readingnotes.util.ImageResizer;
-import me.dodo.readingnotes.util.ImageValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/users")
@@ -29,15 +27,15 @@ public class UserController {
 
     private final UserService userService;
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
-    private final S3Service s3Service;
-    private final ImageResizer imageResizer;
+    private final ProfileImageService profileImageService;
+    private final UserDeletionService userDeletionService;
 
     public UserController(UserService userService,
-                          S3Service s3Service,
-                          ImageResizer imageResizer) {
+                          ProfileImageService profileImageService,
+                          UserDeletionService userDeletionService) {
         this.userService = userService;
-        this.s3Service = s3Service;
-        this.imageResizer = imageResizer;
+        this.profileImageService = profileImageService;
+        this.userDeletionService = userDeletionService;
     }
 
     // 일반 회원가입
@@ -56,35 +54,13 @@ public class UserController {
         return ApiResponse.success(new UserResponse(user));
     }
 
-    // 유저 프로필 사진 업로드
+    // 유저 프로필 사진 업로드 (처리/업로드는 이미지 풀에서, 응답은 DB 반영 후)
     @PostMapping("/me/profile-image")
-    public ApiResponse<String> uploadProfileImage(@RequestParam("image") MultipartFile image,
-                                                   HttpServletRequest httpRequest) throws Exception {
+    public CompletableFuture<ApiResponse<String>> uploadProfileImage(@RequestParam("image") MultipartFile image,
+                                                                     HttpServletRequest httpRequest) {
         Long userId = resolveUserId(httpRequest);
-
-        if (image == null || image.isEmpty()) {
-            throw new IllegalArgumentException("이미지 파일이 비어 있습니다.");
-        }
-        if (image.getSize() > 5 * 1024 * 1024) {
-            throw new IllegalArgumentException("이미지 크기는 5MB를 초과할 수 없습니다.");
-        }
-        String contentType = image.getContentType();
-        if (!"image/jpeg".equals(contentType) && !"image/png".equals(contentType) && !"image/webp".equals(contentType)) {
-            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
-        }
-        ImageValidator.validateMagicBytes(image);
-        ImageValidator.validateDimensions(image);
-
-        byte[] resizedImage = imageResizer.resizeImageKeepRatio(image);
-
-        String timestamp = LocalDateTime.now()
-                .format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS"));
-        String fileName = "user-" + userId + "_" + timestamp;
-
-        String imageUrl = s3Service.uploadProfileImage(resizedImage, fileName, image.getContentType());
-        userService.replaceProfileImage(userId, imageUrl);
-
-        return ApiResponse.success(null, imageUrl);
+        return profileImageService.upload(userId, image)
+                .thenApply(imageUrl -> ApiResponse.success(null, imageUrl));
     }
 
     // 유저 프로필 사진 삭제
@@ -134,11 +110,12 @@ public class UserController {
                 new ApiKeyResponse("API Key 조회 성공", apiKey));
     }
 
-    // 유저 탈퇴
+    // 유저 탈퇴 (바로 로그인 차단, 데이터 삭제는 백그라운드)
     @DeleteMapping("/delete")
     public ApiResponse<Boolean> deleteUser(HttpServletRequest request) {
         Long userId = resolveUserId(request);
-        return ApiResponse.success(userService.deleteUserById(userId));
+        userDeletionService.request(userId);
+        return ApiResponse.success(true);
     }
 
     private Long resolveUserId(HttpServletRequest request) {
@@ -10,8 +10,13 @@ import java.time.LocalDateTime;
 @Table(name = "api_logs")
 public class ApiLog {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 파티션 테이블 기본값과 같은 시퀀스 (증가폭 50, pooled)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "api_logs_id_gen")
+    @SequenceGenerator(name = "api_logs_id_gen", sequenceName = "api_logs_part_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -52,6 +57,14 @@ public class ApiLog {
     @Column(length = 100)
     private String errorMessage;
 
+    // 요청 중 실행된 SQL 수/누적 시간 (측정 전 로그는 null)
+    private Integer sqlCount;
+
+    private Integer sqlTimeMs;
+
+    @Column(nullable = false)
+    private boolean sqlBudgetExceeded;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -103,6 +116,15 @@ public class ApiLog {
     public String getErrorMessage() { return errorMessage; }
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
 
+    public Integer getSqlCount() { return sqlCount; }
+    public void setSqlCount(Integer sqlCount) { this.sqlCount = sqlCount; }
+
+    public Integer getSqlTimeMs() { return sqlTimeMs; }
+    public void setSqlTimeMs(Integer sqlTimeMs) { this.sqlTimeMs = sqlTimeMs; }
+
+    public boolean isSqlBudgetExceeded() { return sqlBudgetExceeded; }
+    public void setSqlBudgetExceeded(boolean sqlBudgetExceeded) { this.sqlBudgetExceeded = sqlBudgetExceeded; }
+
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
 }
@@ -1,10 +1,15 @@
 package me.dodo.readingnotes.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+// 2차 캐시 (region 설정은 application.conf)
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book")
 @Table(name = "books", uniqueConstraints = {
         @UniqueConstraint(name = "uq_isbn13", columnNames = "isbn13")
 })
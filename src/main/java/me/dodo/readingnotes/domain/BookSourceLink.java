@@ -1,9 +1,13 @@
 package me.dodo.readingnotes.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "book_source_link")
 @Table(name = "book_source_links",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uq_book_source", columnNames = {"book_id", "source"}),
@@ -16,7 +20,8 @@ import java.time.LocalDateTime;
 public class BookSourceLink {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "book_source_links_id_gen")
+    @SequenceGenerator(name = "book_source_links_id_gen", sequenceName = "book_source_links_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(optional = false, fetch = FetchType.LAZY)
@@ -6,15 +6,29 @@ import java.time.LocalDateTime;
 @Entity // 이 클래스가 JPA 엔티티임을 선언. DB 테이블과 매핑됨
 @Table(name = "reading_records", // DB에서 이 엔티티가 매핑될 테이블 이름을 지정함
     indexes = {
-            // user_id로 먼저 좁히고 recorded_at으로 정렬(기본이 desc임)
-            @Index(name = "idx_rr_user_recorded", columnList = "user_id, recorded_at"),
-            @Index(name = "idx_record_user_book_at_id", columnList = "user_id, book_id, recorded_at, id")
+            // 자주 도는 쿼리가 index-only scan으로 끝나도록 필요한 컬럼까지 포함 (용도는 schema.sql 참고)
+            // user_id로 먼저 좁히고 recorded_at, id로 정렬(기본이 desc임)
+            @Index(name = "idx_rr_user_recorded_id", columnList = "user_id, recorded_at, id"),
+            @Index(name = "idx_record_user_book_at_id", columnList = "user_id, book_id, recorded_at, id"),
+            // 책장: user_id + match_status → book_id별 max(recorded_at)
+            @Index(name = "idx_rr_user_status_book_recorded", columnList = "user_id, match_status, book_id, recorded_at"),
+            // 책 기준 (연결 해제, 책 병합, 인기 책 통계)
+            @Index(name = "idx_rr_book_user", columnList = "book_id, user_id"),
+            // 관리자 기간 통계
+            @Index(name = "idx_rr_created_user", columnList = "created_at, user_id"),
+            @Index(name = "idx_rr_recorded_user", columnList = "recorded_at, user_id"),
+            @Index(name = "idx_rr_match_status", columnList = "match_status")
     })
 public class ReadingRecord {
 
+    // 시퀀스 증가폭 = allocationSize (pooled: nextval 한 번에 id 50개 확보)
+    // IDENTITY와 달리 persist 시점에 INSERT가 나가지 않아 JDBC batch로 묶임
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id //이 필드(id)가 기본 키임을 나타냄
-    //기본 키의 값을 DB가 자동 증가(Auto Increment)로 생성하도록 지정함
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reading_records_id_gen")
+    @SequenceGenerator(name = "reading_records_id_gen", sequenceName = "reading_records_id_seq",
+            allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     // 관계: 책
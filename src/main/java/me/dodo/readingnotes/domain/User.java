@@ -51,7 +51,7 @@ public class User {
     private LocalDateTime updatedAt; // 수정된 시간
 
 
-    public enum UserStatus { ACTIVE, BLOCKED, SUSPENDED }
+    public enum UserStatus { ACTIVE, BLOCKED, SUSPENDED, DELETING } // DELETING: 탈퇴 처리 중 (UserDeletionService)
 
     // 기본 생성자(JPA 필수)
     public User(){
@@ -10,7 +10,10 @@ import java.time.LocalDateTime;
 @Table(name = "user_auth_logs")
 public class UserAuthLog {
 
-    @Id @GeneratedValue
+    // 기본 전략이 만들던 시퀀스 이름/증가폭을 명시 (schema.sql과 맞춤)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_auth_logs_id_gen")
+    @SequenceGenerator(name = "user_auth_logs_id_gen", sequenceName = "user_auth_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
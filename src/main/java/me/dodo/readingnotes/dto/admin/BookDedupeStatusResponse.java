@@ -0,0 +1,105 @@
+package me.dodo.readingnotes.dto.admin;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BookDedupeStatusResponse {
+
+    private final boolean running;
+    private final boolean dryRun;          // true면 후보만 찾고 병합하지 않음
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    private final long scannedBooks;
+    private final long blocks;             // 비교 대상이 된 블록 수 (책 2권 이상)
+    private final long skippedBlocks;      // 너무 커서 건너뛴 블록
+    private final long comparisons;        // 실제 유사도 계산 횟수
+    private final long clusters;           // 중복 묶음 수
+    private final long duplicateBooks;     // 병합 대상(대표 제외) 책 수
+
+    private final long mergedBooks;
+    private final long movedRecords;
+    private final long movedSourceLinks;
+    private final long movedPins;
+    private final long movedComments;
+    private final long failedClusters;
+
+    private final List<Cluster> samples;   // 미리보기용 일부 묶음
+    private final String errorMessage;
+
+    public BookDedupeStatusResponse(boolean running,
+                                    boolean dryRun,
+                                    LocalDateTime startedAt,
+                                    LocalDateTime finishedAt,
+                                    long scannedBooks,
+                                    long blocks,
+                                    long skippedBlocks,
+                                    long comparisons,
+                                    long clusters,
+                                    long duplicateBooks,
+                                    long mergedBooks,
+                                    long movedRecords,
+                                    long movedSourceLinks,
+                                    long movedPins,
+                                    long movedComments,
+                                    long failedClusters,
+                                    List<Cluster> samples,
+                                    String errorMessage) {
+        this.running = running;
+        this.dryRun = dryRun;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.scannedBooks = scannedBooks;
+        this.blocks = blocks;
+        this.skippedBlocks = skippedBlocks;
+        this.comparisons = comparisons;
+        this.clusters = clusters;
+        this.duplicateBooks = duplicateBooks;
+        this.mergedBooks = mergedBooks;
+        this.movedRecords = movedRecords;
+        this.movedSourceLinks = movedSourceLinks;
+        this.movedPins = movedPins;
+        this.movedComments = movedComments;
+        this.failedClusters = failedClusters;
+        this.samples = samples;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isRunning() { return running; }
+    public boolean isDryRun() { return dryRun; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public long getScannedBooks() { return scannedBooks; }
+    public long getBlocks() { return blocks; }
+    public long getSkippedBlocks() { return skippedBlocks; }
+    public long getComparisons() { return comparisons; }
+    public long getClusters() { return clusters; }
+    public long getDuplicateBooks() { return duplicateBooks; }
+    public long getMergedBooks() { return mergedBooks; }
+    public long getMovedRecords() { return movedRecords; }
+    public long getMovedSourceLinks() { return movedSourceLinks; }
+    public long getMovedPins() { return movedPins; }
+    public long getMovedComments() { return movedComments; }
+    public long getFailedClusters() { return failedClusters; }
+    public List<Cluster> getSamples() { return samples; }
+    public String getErrorMessage() { return errorMessage; }
+
+    public static class Cluster {
+        private final Long canonicalId;
+        private final String title;
+        private final String author;
+        private final List<Long> duplicateIds;
+
+        public Cluster(Long canonicalId, String title, String author, List<Long> duplicateIds) {
+            this.canonicalId = canonicalId;
+            this.title = title;
+            this.author = author;
+            this.duplicateIds = duplicateIds;
+        }
+
+        public Long getCanonicalId() { return canonicalId; }
+        public String getTitle() { return title; }
+        public String getAuthor() { return author; }
+        public List<Long> getDuplicateIds() { return duplicateIds; }
+    }
+}
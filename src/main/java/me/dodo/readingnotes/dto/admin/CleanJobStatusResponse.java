@@ -0,0 +1,54 @@
+package me.dodo.readingnotes.dto.admin;
+
+import java.time.LocalDateTime;
+
+public class CleanJobStatusResponse {
+
+    // IDLE: 실행 기록 없음, INTERRUPTED: 실행 중 서버가 내려감 (다시 시작하면 이어서 처리)
+    public enum State { IDLE, RUNNING, COMPLETED, FAILED, INTERRUPTED }
+
+    private final State state;
+    private final long lastId;       // 여기까지 반영 완료
+    private final long processed;
+    private final long updated;
+    private final Long total;        // 시작 시점 대상 건수 (이 서버에서 시작한 경우만)
+    private final Long skippedChanged; // 정리 중 사용자가 문장을 고쳐서 건너뛴 수 (이 서버에서 시작한 경우만)
+
+    private final LocalDateTime startedAt;
+    private final LocalDateTime updatedAt;
+    private final LocalDateTime finishedAt;
+    private final String errorMessage;
+
+    public CleanJobStatusResponse(State state,
+                                  long lastId,
+                                  long processed,
+                                  long updated,
+                                  Long total,
+                                  Long skippedChanged,
+                                  LocalDateTime startedAt,
+                                  LocalDateTime updatedAt,
+                                  LocalDateTime finishedAt,
+                                  String errorMessage) {
+        this.state = state;
+        this.lastId = lastId;
+        this.processed = processed;
+        this.updated = updated;
+        this.total = total;
+        this.skippedChanged = skippedChanged;
+        this.startedAt = startedAt;
+        this.updatedAt = updatedAt;
+        this.finishedAt = finishedAt;
+        this.errorMessage = errorMessage;
+    }
+
+    public State getState() { return state; }
+    public long getLastId() { return lastId; }
+    public long getProcessed() { return processed; }
+    public long getUpdated() { return updated; }
+    public Long getTotal() { return total; }
+    public Long getSkippedChanged() { return skippedChanged; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,70 @@
+package me.dodo.readingnotes.dto.admin;
+
+import java.time.LocalDateTime;
+
+public class RematchJobStatusResponse {
+
+    private final boolean running;
+    private final LocalDateTime startedAt;
+    private final LocalDateTime finishedAt;
+
+    private final long pendingRecords;     // 시작 시점 매칭 대기 기록 수
+    private final long groups;             // (제목, 작가) 정규화 기준 묶음 수
+    private final long processedGroups;
+
+    private final long externalCalls;
+    private final long externalCallBudget;
+    private final long budgetSkippedGroups; // 예산 소진으로 PENDING 그대로 남은 묶음
+
+    private final long resolvedRecords;
+    private final long noCandidateRecords;
+    private final long multipleCandidatesRecords;
+    private final long failedGroups;
+
+    private final String errorMessage;
+
+    public RematchJobStatusResponse(boolean running,
+                                    LocalDateTime startedAt,
+                                    LocalDateTime finishedAt,
+                                    long pendingRecords,
+                                    long groups,
+                                    long processedGroups,
+                                    long externalCalls,
+                                    long externalCallBudget,
+                                    long budgetSkippedGroups,
+                                    long resolvedRecords,
+                                    long noCandidateRecords,
+                                    long multipleCandidatesRecords,
+                                    long failedGroups,
+                                    String errorMessage) {
+        this.running = running;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.pendingRecords = pendingRecords;
+        this.groups = groups;
+        this.processedGroups = processedGroups;
+        this.externalCalls = externalCalls;
+        this.externalCallBudget = externalCallBudget;
+        this.budgetSkippedGroups = budgetSkippedGroups;
+        this.resolvedRecords = resolvedRecords;
+        this.noCandidateRecords = noCandidateRecords;
+        this.multipleCandidatesRecords = multipleCandidatesRecords;
+        this.failedGroups = failedGroups;
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isRunning() { return running; }
+    public LocalDateTime getStartedAt() { return startedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public long getPendingRecords() { return pendingRecords; }
+    public long getGroups() { return groups; }
+    public long getProcessedGroups() { return processedGroups; }
+    public long getExternalCalls() { return externalCalls; }
+    public long getExternalCallBudget() { return externalCallBudget; }
+    public long getBudgetSkippedGroups() { return budgetSkippedGroups; }
+    public long getResolvedRecords() { return resolvedRecords; }
+    public long getNoCandidateRecords() { return noCandidateRecords; }
+    public long getMultipleCandidatesRecords() { return multipleCandidatesRecords; }
+    public long getFailedGroups() { return failedGroups; }
+    public String getErrorMessage() { return errorMessage; }
+}
@@ -0,0 +1,38 @@
+package me.dodo.readingnotes.dto.admin;
+
+public class RouteLatencyResponse {
+
+    private final String route;      // "GET /api/records/{id}"
+    private final String window;     // 1m | 5m | 1h
+    private final long count;
+    private final double throughputPerSecond;
+
+    // 밀리초 (버킷 근사값)
+    private final double p50Ms;
+    private final double p95Ms;
+    private final double p99Ms;
+
+    public RouteLatencyResponse(String route,
+                                String window,
+                                long count,
+                                double throughputPerSecond,
+                                double p50Ms,
+                                double p95Ms,
+                                double p99Ms) {
+        this.route = route;
+        this.window = window;
+        this.count = count;
+        this.throughputPerSecond = throughputPerSecond;
+        this.p50Ms = p50Ms;
+        this.p95Ms = p95Ms;
+        this.p99Ms = p99Ms;
+    }
+
+    public String getRoute() { return route; }
+    public String getWindow() { return window; }
+    public long getCount() { return count; }
+    public double getThroughputPerSecond() { return throughputPerSecond; }
+    public double getP50Ms() { return p50Ms; }
+    public double getP95Ms() { return p95Ms; }
+    public double getP99Ms() { return p99Ms; }
+}
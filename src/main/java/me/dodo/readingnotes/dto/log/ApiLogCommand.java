@@ -2,6 +2,8 @@ package me.dodo.readingnotes.dto.log;
 
 import me.dodo.readingnotes.domain.ApiLog;
 
+import java.time.LocalDateTime;
+
 public class ApiLogCommand {
 
     private final Long userId;              // null 가능
@@ -21,6 +23,12 @@ public class ApiLogCommand {
     private final String errorCode;         // null 가능
     private final String errorMessage;      // null 가능
 
+    private final Integer sqlCount;         // null 가능 (측정 안 된 요청)
+    private final Integer sqlTimeMs;
+    private final boolean sqlBudgetExceeded;
+
+    private final LocalDateTime createdAt;  // 요청 완료 시각 (비동기 저장이라 여기서 고정)
+
     public ApiLogCommand(Long userId,
                          String userRole,
                          String method,
@@ -32,7 +40,10 @@ public class ApiLogCommand {
                          String userAgent,
                          int executionTimeMs,
                          String errorCode,
-                         String errorMessage) {
+                         String errorMessage,
+                         Integer sqlCount,
+                         Integer sqlTimeMs,
+                         boolean sqlBudgetExceeded) {
         this.userId = userId;
         this.userRole = userRole;
         this.method = method;
@@ -45,6 +56,10 @@ public class ApiLogCommand {
         this.executionTimeMs = executionTimeMs;
         this.errorCode = errorCode;
         this.errorMessage = errorMessage;
+        this.sqlCount = sqlCount;
+        this.sqlTimeMs = sqlTimeMs;
+        this.sqlBudgetExceeded = sqlBudgetExceeded;
+        this.createdAt = LocalDateTime.now();
     }
 
     public Long getUserId() { return userId; }
@@ -59,4 +74,8 @@ public class ApiLogCommand {
     public int getExecutionTimeMs() { return executionTimeMs; }
     public String getErrorCode() { return errorCode; }
     public String getErrorMessage() { return errorMessage; }
+    public Integer getSqlCount() { return sqlCount; }
+    public Integer getSqlTimeMs() { return sqlTimeMs; }
+    public boolean isSqlBudgetExceeded() { return sqlBudgetExceeded; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
 }
\ No newline at end of file
@@ -22,6 +22,10 @@ public class ApiLogDetailResponse {
 
     private int executionTimeMs;
 
+    private Integer sqlCount;
+    private Integer sqlTimeMs;
+    private boolean sqlBudgetExceeded;
+
     private String errorCode;
     private String errorMessage;
 
@@ -39,6 +43,9 @@ public class ApiLogDetailResponse {
         this.ipAddress = log.getIpAddress();
         this.userAgent = log.getUserAgent();
         this.executionTimeMs = log.getExecutionTimeMs();
+        this.sqlCount = log.getSqlCount();
+        this.sqlTimeMs = log.getSqlTimeMs();
+        this.sqlBudgetExceeded = log.isSqlBudgetExceeded();
         this.errorCode = log.getErrorCode();
         this.errorMessage = log.getErrorMessage();
         this.createdAt = log.getCreatedAt();
@@ -56,6 +63,9 @@ public class ApiLogDetailResponse {
     public String getIpAddress() { return ipAddress; }
     public String getUserAgent() { return userAgent; }
     public int getExecutionTimeMs() { return executionTimeMs; }
+    public Integer getSqlCount() { return sqlCount; }
+    public Integer getSqlTimeMs() { return sqlTimeMs; }
+    public boolean isSqlBudgetExceeded() { return sqlBudgetExceeded; }
     public String getErrorCode() { return errorCode; }
     public String getErrorMessage() { return errorMessage; }
     public LocalDateTime getCreatedAt() { return createdAt; }
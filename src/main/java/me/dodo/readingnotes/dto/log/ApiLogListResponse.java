@@ -18,6 +18,10 @@ public class ApiLogListResponse {
 
     private Integer executionTimeMs;
 
+    private Integer sqlCount;
+    private Integer sqlTimeMs;
+    private boolean sqlBudgetExceeded;
+
     private Long userId;
     private String userRole;
 
@@ -30,6 +34,9 @@ public class ApiLogListResponse {
         this.statusCode = log.getStatusCode();
         this.result = log.getResult();
         this.executionTimeMs = log.getExecutionTimeMs();
+        this.sqlCount = log.getSqlCount();
+        this.sqlTimeMs = log.getSqlTimeMs();
+        this.sqlBudgetExceeded = log.isSqlBudgetExceeded();
         this.userId = log.getUser() == null ? null : log.getUser().getId();
         this.userRole = log.getUserRole();
     }
@@ -43,6 +50,9 @@ public class ApiLogListResponse {
     public int getStatusCode() { return statusCode; }
     public ApiLog.Result getResult() { return result; }
     public int getExecutionTimeMs() { return executionTimeMs; }
+    public Integer getSqlCount() { return sqlCount; }
+    public Integer getSqlTimeMs() { return sqlTimeMs; }
+    public boolean isSqlBudgetExceeded() { return sqlBudgetExceeded; }
     public LocalDateTime getCreatedAt() { return createdAt; }
 
 }
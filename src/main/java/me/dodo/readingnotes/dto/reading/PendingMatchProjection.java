@@ -0,0 +1,7 @@
+package me.dodo.readingnotes.dto.reading;
+
+public interface PendingMatchProjection {
+    Long getId();
+    String getRawTitle();
+    String getRawAuthor();
+}
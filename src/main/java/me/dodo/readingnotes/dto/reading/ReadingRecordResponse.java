@@ -21,9 +21,7 @@ public class ReadingRecordResponse {
         this.recordedAt = r.getRecordedAt();
 
         // 책 매칭된 상태인지 확인
-        boolean isResolved = r.getMatchStatus() != null &&
-                (r.getMatchStatus() == ReadingRecord.MatchStatus.RESOLVED_AUTO
-                || r. getMatchStatus() == ReadingRecord.MatchStatus.RESOLVED_MANUAL);
+        boolean isResolved = isResolved(r.getMatchStatus());
 
         Book book = r.getBook();
         // 책이 매칭 완료된 상태라면 연결된 책 정보 사용.
@@ -49,6 +47,32 @@ public class ReadingRecordResponse {
         }
     }
 
+    // 목록 projection → 응답 (엔티티 생성자와 같은 규칙: 매칭 완료면 책 정보, 아니면 raw)
+    public ReadingRecordResponse(ReadingRecordRow row) {
+        this.id = row.getId();
+        this.sentence = row.getSentence();
+        this.comment = row.getComment();
+        this.recordedAt = row.getRecordedAt();
+        if (isResolved(row.getMatchStatus()) && row.getBookId() != null) {
+            this.title = row.getBookTitle();
+            this.author = row.getBookAuthor();
+            this.matched = true;
+            this.bookId = row.getBookId();
+            this.coverUrl = row.getBookCoverUrl();
+        } else {
+            this.title = row.getRawTitle();
+            this.author = row.getRawAuthor();
+            this.matched = false;
+            this.bookId = null;
+            this.coverUrl = null;
+        }
+    }
+
+    private static boolean isResolved(ReadingRecord.MatchStatus status) {
+        return status == ReadingRecord.MatchStatus.RESOLVED_AUTO
+                || status == ReadingRecord.MatchStatus.RESOLVED_MANUAL;
+    }
+
     // fromEntity를 위한 DTO 생성자
     public ReadingRecordResponse(Long id,
                                  String title,
@@ -0,0 +1,58 @@
+package me.dodo.readingnotes.dto.reading;
+
+import me.dodo.readingnotes.domain.ReadingRecord;
+
+import java.time.LocalDateTime;
+
+// 기록 목록용 컬럼 projection (JPQL constructor expression)
+// - 엔티티/스냅샷 없이 화면에 쓰는 컬럼만 한 번에 조회 (sentenceOriginal, 생성/수정 시각 등 제외)
+// - 책 컬럼은 left join이라 매칭 전 기록이면 null
+public class ReadingRecordRow {
+    private final Long id;
+    private final String sentence;
+    private final String comment;
+    private final String rawTitle;
+    private final String rawAuthor;
+    private final ReadingRecord.MatchStatus matchStatus;
+    private final LocalDateTime recordedAt;
+    private final Long bookId;
+    private final String bookTitle;
+    private final String bookAuthor;
+    private final String bookCoverUrl;
+
+    public ReadingRecordRow(Long id,
+                            String sentence,
+                            String comment,
+                            String rawTitle,
+                            String rawAuthor,
+                            ReadingRecord.MatchStatus matchStatus,
+                            LocalDateTime recordedAt,
+                            Long bookId,
+                            String bookTitle,
+                            String bookAuthor,
+                            String bookCoverUrl) {
+        this.id = id;
+        this.sentence = sentence;
+        this.comment = comment;
+        this.rawTitle = rawTitle;
+        this.rawAuthor = rawAuthor;
+        this.matchStatus = matchStatus;
+        this.recordedAt = recordedAt;
+        this.bookId = bookId;
+        this.bookTitle = bookTitle;
+        this.bookAuthor = bookAuthor;
+        this.bookCoverUrl = bookCoverUrl;
+    }
+
+    public Long getId() { return id; }
+    public String getSentence() { return sentence; }
+    public String getComment() { return comment; }
+    public String getRawTitle() { return rawTitle; }
+    public String getRawAuthor() { return rawAuthor; }
+    public ReadingRecord.MatchStatus getMatchStatus() { return matchStatus; }
+    public LocalDateTime getRecordedAt() { return recordedAt; }
+    public Long getBookId() { return bookId; }
+    public String getBookTitle() { return bookTitle; }
+    public String getBookAuthor() { return bookAuthor; }
+    public String getBookCoverUrl() { return bookCoverUrl; }
+}
@@ -0,0 +1,30 @@
+package me.dodo.readingnotes.dto.reading;
+
+// 여러 건 등록 시 항목별 결과 (요청 배열의 순서대로)
+public class RecordBatchItemResult {
+
+    private final int index;
+    private final boolean saved;
+    private final Long recordId;   // 저장된 경우만
+    private final String message;  // 건너뛴 이유
+
+    private RecordBatchItemResult(int index, boolean saved, Long recordId, String message) {
+        this.index = index;
+        this.saved = saved;
+        this.recordId = recordId;
+        this.message = message;
+    }
+
+    public static RecordBatchItemResult saved(int index, Long recordId) {
+        return new RecordBatchItemResult(index, true, recordId, null);
+    }
+
+    public static RecordBatchItemResult skipped(int index, String message) {
+        return new RecordBatchItemResult(index, false, null, message);
+    }
+
+    public int getIndex() { return index; }
+    public boolean isSaved() { return saved; }
+    public Long getRecordId() { return recordId; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,58 @@
+package me.dodo.readingnotes.dto.reading;
+
+import java.time.LocalDateTime;
+
+public class RecordImportStatusResponse {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final String jobId;
+    private final State state;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime finishedAt;
+
+    private final long total;           // 요청한 기록 수
+    private final long skipped;         // 문장/메모가 모두 비어 건너뛴 기록
+    private final long inserted;
+    private final long bookGroups;      // 매칭 대상 (제목, 작가) 묶음 수
+    private final long matchedGroups;   // 처리 끝난 묶음 수
+    private final long linkedRecords;   // 책이 자동 연결된 기록 수
+
+    private final String errorMessage;
+
+    public RecordImportStatusResponse(String jobId,
+                                      State state,
+                                      LocalDateTime requestedAt,
+                                      LocalDateTime finishedAt,
+                                      long total,
+                                      long skipped,
+                                      long inserted,
+                                      long bookGroups,
+                                      long matchedGroups,
+                                      long linkedRecords,
+                                      String errorMessage) {
+        this.jobId = jobId;
+        this.state = state;
+        this.requestedAt = requestedAt;
+        this.finishedAt = finishedAt;
+        this.total = total;
+        this.skipped = skipped;
+        this.inserted = inserted;
+        this.bookGroups = bookGroups;
+        this.matchedGroups = matchedGroups;
+        this.linkedRecords = linkedRecords;
+        this.errorMessage = errorMessage;
+    }
+
+    public String getJobId() { return jobId; }
+    public State getState() { return state; }
+    public LocalDateTime getRequestedAt() { return requestedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public long getTotal() { return total; }
+    public long getSkipped() { return skipped; }
+    public long getInserted() { return inserted; }
+    public long getBookGroups() { return bookGroups; }
+    public long getMatchedGroups() { return matchedGroups; }
+    public long getLinkedRecords() { return linkedRecords; }
+    public String getErrorMessage() { return errorMessage; }
+}
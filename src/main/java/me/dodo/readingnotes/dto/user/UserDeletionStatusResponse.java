@@ -0,0 +1,62 @@
+package me.dodo.readingnotes.dto.user;
+
+import java.time.LocalDateTime;
+
+public class UserDeletionStatusResponse {
+
+    public enum State { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    private final Long userId;
+    private final State state;
+    private final LocalDateTime requestedAt;
+    private final LocalDateTime finishedAt;
+
+    private final long deletedRecords;
+    private final long deletedPins;
+    private final long deletedComments;
+    private final long deletedRefreshTokens;
+    private final long detachedApiLogs;    // user_id만 NULL로 (로그는 보관)
+    private final long detachedAuthLogs;
+    private final long chunks;             // 실행한 chunk 트랜잭션 수
+
+    private final String errorMessage;
+
+    public UserDeletionStatusResponse(Long userId,
+                                      State state,
+                                      LocalDateTime requestedAt,
+                                      LocalDateTime finishedAt,
+                                      long deletedRecords,
+                                      long deletedPins,
+                                      long deletedComments,
+                                      long deletedRefreshTokens,
+                                      long detachedApiLogs,
+                                      long detachedAuthLogs,
+                                      long chunks,
+                                      String errorMessage) {
+        this.userId = userId;
+        this.state = state;
+        this.requestedAt = requestedAt;
+        this.finishedAt = finishedAt;
+        this.deletedRecords = deletedRecords;
+        this.deletedPins = deletedPins;
+        this.deletedComments = deletedComments;
+        this.deletedRefreshTokens = deletedRefreshTokens;
+        this.detachedApiLogs = detachedApiLogs;
+        this.detachedAuthLogs = detachedAuthLogs;
+        this.chunks = chunks;
+        this.errorMessage = errorMessage;
+    }
+
+    public Long getUserId() { return userId; }
+    public State getState() { return state; }
+    public LocalDateTime getRequestedAt() { return requestedAt; }
+    public LocalDateTime getFinishedAt() { return finishedAt; }
+    public long getDeletedRecords() { return deletedRecords; }
+    public long getDeletedPins() { return deletedPins; }
+    public long getDeletedComments() { return deletedComments; }
+    public long getDeletedRefreshTokens() { return deletedRefreshTokens; }
+    public long getDetachedApiLogs() { return detachedApiLogs; }
+    public long getDetachedAuthLogs() { return detachedAuthLogs; }
+    public long getChunks() { return chunks; }
+    public String getErrorMessage() { return errorMessage; }
+}
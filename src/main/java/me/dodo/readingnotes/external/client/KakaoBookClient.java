@@ -1,5 +1,7 @@
 package me.dodo.readingnotes.external.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import me.dodo.readingnotes.dto.book.BookCandidate;
 import me.dodo.readingnotes.external.BookSearchClient;
 import me.dodo.readingnotes.external.adapter.KakaoBookAdapter;
@@ -20,12 +22,15 @@ public class KakaoBookClient implements BookSearchClient {
     private static final Logger log = LoggerFactory.getLogger(KakaoBookClient.class);
     private final RestClient restClient;
     private final KakaoBookAdapter adapter;
+    private final MeterRegistry meterRegistry;
 
     public KakaoBookClient(
             @Qualifier("kakaoBookRestClient") RestClient restClient,
-            KakaoBookAdapter adapter) {
+            KakaoBookAdapter adapter,
+            MeterRegistry meterRegistry) {
         this.restClient = restClient;
         this.adapter = adapter;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -33,8 +38,18 @@ public class KakaoBookClient implements BookSearchClient {
         String query = buildQuery(rawTitle, rawAuthor);
         int size = normalizeLimit(limit);
 
-        KakaoBookAdapter.KakaoResponse response = fetchFromApi(query, size);
-        return adapter.adapt(response);
+        // 외부 API 호출 시간 (provider/outcome 태그)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            KakaoBookAdapter.KakaoResponse response = fetchFromApi(query, size);
+            List<BookCandidate> candidates = adapter.adapt(response);
+            outcome = candidates.isEmpty() ? "empty" : "success";
+            return candidates;
+        } finally {
+            sample.stop(meterRegistry.timer("book.search.client",
+                    "provider", adapter.getSource(), "outcome", outcome));
+        }
     }
 
     // 검색 쿼리 빌드
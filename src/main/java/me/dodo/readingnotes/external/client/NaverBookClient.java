@@ -1,5 +1,7 @@
 package me.dodo.readingnotes.external.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import me.dodo.readingnotes.dto.book.BookCandidate;
 import me.dodo.readingnotes.external.BookSearchClient;
 import me.dodo.readingnotes.external.adapter.NaverBookAdapter;
@@ -20,12 +22,15 @@ public class NaverBookClient implements BookSearchClient {
     private static final Logger log = LoggerFactory.getLogger(NaverBookClient.class);
     private final RestClient restClient;
     private final NaverBookAdapter adapter;
+    private final MeterRegistry meterRegistry;
 
     public NaverBookClient(
             @Qualifier("naverBookRestClient") RestClient restClient,
-            NaverBookAdapter adapter) {
+            NaverBookAdapter adapter,
+            MeterRegistry meterRegistry) {
         this.restClient = restClient;
         this.adapter = adapter;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
@@ -33,8 +38,18 @@ public class NaverBookClient implements BookSearchClient {
         String query = buildQuery(rawTitle, rawAuthor);
         int display = normalizeLimit(limit);
 
-        NaverBookAdapter.NaverResponse response = fetchFromApi(query, display);
-        return adapter.adapt(response);
+        // 외부 API 호출 시간 (provider/outcome 태그)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            NaverBookAdapter.NaverResponse response = fetchFromApi(query, display);
+            List<BookCandidate> candidates = adapter.adapt(response);
+            outcome = candidates.isEmpty() ? "empty" : "success";
+            return candidates;
+        } finally {
+            sample.stop(meterRegistry.timer("book.search.client",
+                    "provider", adapter.getSource(), "outcome", outcome));
+        }
     }
 
     // 검색 쿼리 빌드
@@ -0,0 +1,81 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.domain.ApiLog;
+import me.dodo.readingnotes.dto.log.ApiLogCommand;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+// api_logs 다건 INSERT 전용 (JPA 엔티티/영속성 컨텍스트를 거치지 않음)
+@Repository
+public class ApiLogBatchRepository {
+
+    private static final String INSERT_PREFIX = """
+        INSERT INTO api_logs (id, user_id, user_role, method, path, query_string, status_code, result,
+                              ip_address, user_agent, execution_time_ms, error_code, error_message,
+                              sql_count, sql_time_ms, sql_budget_exceeded, created_at)
+        VALUES
+        """;
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // user_id를 users에서 다시 찾음 → 없는 유저만 NULL
+    private static final String ROW_PLACEHOLDER_VERIFY_USER =
+            "(?, (SELECT id FROM users WHERE id = ?), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMN_COUNT = 17;
+    private static final String ID_SEQUENCE = "api_logs_part_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    public ApiLogBatchRepository(JdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    // 한 번의 INSERT ... VALUES (...), (...) 로 저장 (왕복 1회)
+    // verifyUsers=true면 행마다 유저가 아직 있는지 확인해서 없는 유저의 user_id만 비움
+    // (그 사이 탈퇴한 유저로 FK 위반 시 재시도용, 다른 유저의 로그는 user_id 그대로)
+    public int insertAll(List<ApiLogCommand> commands, boolean verifyUsers) {
+        if (commands.isEmpty()) return 0;
+
+        // 기본값 nextval에 맡기면 행마다 시퀀스 블록(50)을 하나씩 소모하므로 미리 받아서 넣음
+        List<Long> ids = idAllocator.nextIds(ID_SEQUENCE, commands.size(), ApiLog.ID_ALLOCATION_SIZE);
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> args = new ArrayList<>(commands.size() * COLUMN_COUNT);
+        for (int i = 0; i < commands.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append(verifyUsers ? ROW_PLACEHOLDER_VERIFY_USER : ROW_PLACEHOLDER);
+
+            ApiLogCommand cmd = commands.get(i);
+            args.add(ids.get(i));
+            // user는 FK만 필요하므로 조회 없이 ID 그대로 사용
+            args.add(cmd.getUserId());
+            args.add(safe(cmd.getUserRole(), 100));
+            args.add(safe(cmd.getMethod(), 100));
+            args.add(safe(cmd.getPath(), 255));
+            args.add(safe(cmd.getQueryString(), 255));
+            args.add(cmd.getStatusCode());
+            args.add((cmd.getResult() == null ? ApiLog.Result.FAIL : cmd.getResult()).name());
+            args.add(safe(cmd.getIpAddress(), 45));
+            args.add(safe(cmd.getUserAgent(), 255));
+            args.add(cmd.getExecutionTimeMs());
+            args.add(safe(cmd.getErrorCode(), 20));
+            args.add(safe(cmd.getErrorMessage(), 100));
+            args.add(cmd.getSqlCount());
+            args.add(cmd.getSqlTimeMs());
+            args.add(cmd.isSqlBudgetExceeded());
+            args.add(Timestamp.valueOf(cmd.getCreatedAt()));
+        }
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    private String safe(String value, int maxLen) {
+        if (value == null) return null;
+        String v = value.trim();
+        if (v.isEmpty()) return null;
+        if (v.length() <= maxLen) return v;
+        return v.substring(0, maxLen);
+    }
+}
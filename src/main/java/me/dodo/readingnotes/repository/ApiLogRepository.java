@@ -3,30 +3,33 @@ package me.dodo.readingnotes.repository;
 import me.dodo.readingnotes.domain.ApiLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface ApiLogRepository extends JpaRepository<ApiLog, Long> {
-    @Query("""
-        select a
-        from ApiLog a
-        where (:keyword is null
-              or lower(a.path) like :keyword
-              or lower(a.queryString) like :keyword
-              or lower(a.errorMessage) like :keyword
-              or lower(a.ipAddress) like :keyword
-              or lower(a.userAgent) like :keyword
-        )
-        and (:result is null or a.result = :result)
-        and (:statusCode is null or a.statusCode = :statusCode)
-        and (:method is null or a.method = :method)
-        """)
-    Page<ApiLog> searchLogs(
-            @Param("keyword") String keyword,
-            @Param("result") ApiLog.Result result,
-            @Param("statusCode") Integer statusCode,
-            @Param("method") String method,
-            Pageable pageable
-    );
+import java.time.LocalDateTime;
+
+public interface ApiLogRepository extends JpaRepository<ApiLog, Long>, JpaSpecificationExecutor<ApiLog> {
+
+    // 로그 검색 - 들어온 조건만 WHERE에 넣음 (SearchConditions)
+    default Page<ApiLog> searchLogs(String keyword,
+                                    ApiLog.Result result,
+                                    Integer statusCode,
+                                    String method,
+                                    Boolean sqlBudgetExceeded,
+                                    LocalDateTime from,
+                                    LocalDateTime to,
+                                    Pageable pageable) {
+        Specification<ApiLog> spec = (a, query, cb) -> new SearchConditions(cb)
+                .and(cb.greaterThanOrEqualTo(a.get("createdAt"), from))
+                .and(cb.lessThan(a.get("createdAt"), to))
+                .containsAny(keyword, a.get("path"), a.get("queryString"), a.get("errorMessage"),
+                        a.get("ipAddress"), a.get("userAgent"))
+                .eq(a.get("result"), result)
+                .eq(a.get("statusCode"), statusCode)
+                .eq(a.get("method"), method)
+                .flag(a.get("sqlBudgetExceeded"), sqlBudgetExceeded)
+                .build();
+        return findAll(spec, pageable);
+    }
 }
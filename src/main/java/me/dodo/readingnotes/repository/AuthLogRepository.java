@@ -3,27 +3,28 @@ package me.dodo.readingnotes.repository;
 import me.dodo.readingnotes.domain.UserAuthLog;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
-public interface AuthLogRepository extends JpaRepository<UserAuthLog, Long> {
-    @Query("""
-        select l
-        from UserAuthLog l
-        where
-          (:lowKw is null
-            or lower(l.identifier) like :lowKw
-            or lower(l.ipAddress) like :lowKw
-          )
-          and (:type is null or l.eventType = :type)
-          and (:result is null or l.result = :result)
-        """)
-    Page<UserAuthLog> searchLogs(
-            @Param("lowKw") String lowKw,
-            @Param("type") UserAuthLog.AuthEventType type,
-            @Param("result") UserAuthLog.AuthResult result,
-            Pageable pageable
-    );
+import java.time.LocalDateTime;
 
+public interface AuthLogRepository extends JpaRepository<UserAuthLog, Long>, JpaSpecificationExecutor<UserAuthLog> {
+
+    // 로그 검색 - 들어온 조건만 WHERE에 넣음 (SearchConditions)
+    default Page<UserAuthLog> searchLogs(String keyword,
+                                         UserAuthLog.AuthEventType type,
+                                         UserAuthLog.AuthResult result,
+                                         LocalDateTime from,
+                                         LocalDateTime to,
+                                         Pageable pageable) {
+        Specification<UserAuthLog> spec = (l, query, cb) -> new SearchConditions(cb)
+                .and(cb.greaterThanOrEqualTo(l.get("createdAt"), from))
+                .and(cb.lessThan(l.get("createdAt"), to))
+                .containsAny(keyword, l.get("identifier"), l.get("ipAddress"))
+                .eq(l.get("eventType"), type)
+                .eq(l.get("result"), result)
+                .build();
+        return findAll(spec, pageable);
+    }
 }
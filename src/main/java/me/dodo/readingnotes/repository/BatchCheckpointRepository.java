@@ -0,0 +1,91 @@
+package me.dodo.readingnotes.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+// 배치 작업 진행 위치 저장 (서버가 중간에 죽어도 last_id 다음부터 이어서 처리)
+// advance()는 데이터 변경과 같은 트랜잭션에서 호출해야 진행 위치와 실제 반영이 어긋나지 않음
+@Repository
+public class BatchCheckpointRepository {
+
+    public enum Status { RUNNING, COMPLETED, FAILED }
+
+    public record Checkpoint(String jobName,
+                             long lastId,
+                             long processed,
+                             long updated,
+                             Status status,
+                             LocalDateTime startedAt,
+                             LocalDateTime updatedAt,
+                             LocalDateTime finishedAt,
+                             String errorMessage) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BatchCheckpointRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Optional<Checkpoint> find(String jobName) {
+        List<Checkpoint> rows = jdbcTemplate.query("""
+                SELECT job_name, last_id, processed, updated, status,
+                       started_at, updated_at, finished_at, error_message
+                FROM batch_job_checkpoints
+                WHERE job_name = ?
+                """,
+                (rs, rowNum) -> new Checkpoint(
+                        rs.getString("job_name"),
+                        rs.getLong("last_id"),
+                        rs.getLong("processed"),
+                        rs.getLong("updated"),
+                        Status.valueOf(rs.getString("status")),
+                        toLocalDateTime(rs.getTimestamp("started_at")),
+                        toLocalDateTime(rs.getTimestamp("updated_at")),
+                        toLocalDateTime(rs.getTimestamp("finished_at")),
+                        rs.getString("error_message")),
+                jobName);
+        return rows.stream().findFirst();
+    }
+
+    // 완료된 작업이면 처음부터, 중단/실패한 작업이면 기존 위치에서 다시 시작
+    public void start(String jobName) {
+        jdbcTemplate.update("""
+                INSERT INTO batch_job_checkpoints (job_name, last_id, processed, updated, status, started_at, updated_at)
+                VALUES (?, 0, 0, 0, 'RUNNING', NOW(), NOW())
+                ON CONFLICT (job_name) DO UPDATE SET
+                    last_id       = CASE WHEN batch_job_checkpoints.status = 'COMPLETED' THEN 0 ELSE batch_job_checkpoints.last_id END,
+                    processed     = CASE WHEN batch_job_checkpoints.status = 'COMPLETED' THEN 0 ELSE batch_job_checkpoints.processed END,
+                    updated       = CASE WHEN batch_job_checkpoints.status = 'COMPLETED' THEN 0 ELSE batch_job_checkpoints.updated END,
+                    started_at    = CASE WHEN batch_job_checkpoints.status = 'COMPLETED' THEN NOW() ELSE batch_job_checkpoints.started_at END,
+                    status        = 'RUNNING',
+                    updated_at    = NOW(),
+                    finished_at   = NULL,
+                    error_message = NULL
+                """, jobName);
+    }
+
+    public void advance(String jobName, long lastId, long processedDelta, long updatedDelta) {
+        jdbcTemplate.update("""
+                UPDATE batch_job_checkpoints
+                SET last_id = ?, processed = processed + ?, updated = updated + ?, updated_at = NOW()
+                WHERE job_name = ?
+                """, lastId, processedDelta, updatedDelta, jobName);
+    }
+
+    public void finish(String jobName, Status status, String errorMessage) {
+        jdbcTemplate.update("""
+                UPDATE batch_job_checkpoints
+                SET status = ?, finished_at = NOW(), updated_at = NOW(), error_message = ?
+                WHERE job_name = ?
+                """, status.name(), errorMessage, jobName);
+    }
+
+    private LocalDateTime toLocalDateTime(Timestamp ts) {
+        return ts == null ? null : ts.toLocalDateTime();
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,6 +14,20 @@ public interface BookCommentRepository extends JpaRepository<BookComment, Long>
 
     Optional<BookComment> findByUser_IdAndBook_Id(Long userId, Long bookId);
 
+    // (user_id, book_id) 기준 upsert 후 저장된 행 반환, 없는 책이면 빈 결과
+    @Transactional
+    @Query(value = """
+        INSERT INTO book_comments (user_id, book_id, content, created_at, updated_at)
+        SELECT :userId, b.id, :content, now(), now() FROM books b WHERE b.id = :bookId
+        ON CONFLICT (user_id, book_id) DO UPDATE SET
+            content    = excluded.content,
+            updated_at = excluded.updated_at
+        RETURNING *
+        """, nativeQuery = true)
+    Optional<BookComment> upsert(@Param("userId") Long userId,
+                                 @Param("bookId") Long bookId,
+                                 @Param("content") String content);
+
     @Modifying
     @Query("DELETE FROM BookComment c WHERE c.book.id = :bookId")
     void deleteAllByBookId(@Param("bookId") Long bookId);
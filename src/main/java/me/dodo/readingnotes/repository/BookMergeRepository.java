@@ -0,0 +1,140 @@
+package me.dodo.readingnotes.repository;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 중복 책 병합 전용 (엔티티를 읽지 않고 참조 테이블을 벌크로 옮김)
+// merge()는 트랜잭션 안에서 호출해야 함 (중간 실패 시 전체 롤백)
+@Repository
+public class BookMergeRepository {
+
+    // 중복 탐색에 필요한 컬럼만
+    public record DedupeBook(Long id, String title, String author, String isbn13, boolean deleted) {}
+
+    // 병합 한 번에 옮기거나 지운 건수
+    public record MergeCounts(int records, int sourceLinks, int pins, int comments, int deletedBooks) {}
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    public BookMergeRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public List<DedupeBook> findAllForDedupe() {
+        return jdbc.query("SELECT id, title, author, isbn13, deleted_at FROM books ORDER BY id",
+                (rs, rowNum) -> new DedupeBook(
+                        rs.getLong("id"),
+                        rs.getString("title"),
+                        rs.getString("author"),
+                        rs.getString("isbn13"),
+                        rs.getTimestamp("deleted_at") != null));
+    }
+
+    public MergeCounts merge(long canonicalId, List<Long> duplicateIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("canonical", canonicalId)
+                .addValue("dups", duplicateIds);
+
+        // 1) 대표 책에 비어 있는 정보는 중복 책에서 채움
+        jdbc.update("""
+                UPDATE books c SET
+                    publisher      = COALESCE(c.publisher, d.publisher),
+                    isbn10         = COALESCE(c.isbn10, d.isbn10),
+                    published_date = COALESCE(c.published_date, d.published_date),
+                    cover_url      = COALESCE(c.cover_url, d.cover_url)
+                FROM (
+                    SELECT (array_agg(publisher ORDER BY id) FILTER (WHERE publisher IS NOT NULL))[1]           AS publisher,
+                           (array_agg(isbn10 ORDER BY id) FILTER (WHERE isbn10 IS NOT NULL))[1]                 AS isbn10,
+                           (array_agg(published_date ORDER BY id) FILTER (WHERE published_date IS NOT NULL))[1] AS published_date,
+                           (array_agg(cover_url ORDER BY id) FILTER (WHERE cover_url IS NOT NULL))[1]           AS cover_url
+                    FROM books
+                    WHERE id IN (:dups)
+                ) d
+                WHERE c.id = :canonical
+                """, params);
+
+        // 대표 책에 ISBN13이 없으면 중복 책의 것을 넘겨받음 (묶음마다 ISBN13은 최대 1개)
+        // uq_isbn13 때문에 중복 책에서 먼저 비운 뒤 대표 책에 씀
+        List<String> isbn13 = jdbc.queryForList("""
+                SELECT d.isbn13 FROM books d
+                WHERE d.id IN (:dups) AND d.isbn13 IS NOT NULL
+                  AND EXISTS (SELECT 1 FROM books c WHERE c.id = :canonical AND c.isbn13 IS NULL)
+                ORDER BY d.id LIMIT 1
+                """, params, String.class);
+        if (!isbn13.isEmpty()) {
+            jdbc.update("UPDATE books SET isbn13 = NULL WHERE id IN (:dups)", params);
+            jdbc.update("UPDATE books SET isbn13 = :isbn13 WHERE id = :canonical",
+                    new MapSqlParameterSource(params.getValues()).addValue("isbn13", isbn13.get(0)));
+        }
+
+        // 2) 기록
+        int records = jdbc.update(
+                "UPDATE reading_records SET book_id = :canonical WHERE book_id IN (:dups)", params);
+
+        // 3) 출처 링크 - (book_id, source) 유니크: 대표 책에 이미 있는 출처, 중복 책끼리 겹치는 출처는 하나만 남김
+        jdbc.update("""
+                DELETE FROM book_source_links l
+                WHERE l.book_id IN (:dups)
+                  AND (EXISTS (SELECT 1 FROM book_source_links c
+                               WHERE c.book_id = :canonical AND c.source = l.source)
+                       OR l.id <> (SELECT MIN(x.id) FROM book_source_links x
+                                   WHERE x.book_id IN (:dups) AND x.source = l.source))
+                """, params);
+        int sourceLinks = jdbc.update(
+                "UPDATE book_source_links SET book_id = :canonical WHERE book_id IN (:dups)", params);
+
+        // 4) 고정(핀) - (user_id, book_id) 유니크: 유저당 하나만 남김
+        jdbc.update("""
+                DELETE FROM user_book_pins p
+                WHERE p.book_id IN (:dups)
+                  AND (EXISTS (SELECT 1 FROM user_book_pins c
+                               WHERE c.book_id = :canonical AND c.user_id = p.user_id)
+                       OR p.id <> (SELECT MIN(x.id) FROM user_book_pins x
+                                   WHERE x.book_id IN (:dups) AND x.user_id = p.user_id))
+                """, params);
+        int pins = jdbc.update(
+                "UPDATE user_book_pins SET book_id = :canonical WHERE book_id IN (:dups)", params);
+
+        // 5) 코멘트 - (user_id, book_id) 유니크: 내용은 버리지 않고 하나로 이어 붙임
+        //    남길 코멘트: 대표 책의 코멘트, 없으면 가장 오래된 코멘트
+        jdbc.update("""
+                WITH ranked AS (
+                    SELECT id, user_id, content,
+                           ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY (book_id = :canonical) DESC, id) AS rn,
+                           COUNT(*) OVER (PARTITION BY user_id) AS cnt
+                    FROM book_comments
+                    WHERE book_id = :canonical OR book_id IN (:dups)
+                ), merged AS (
+                    SELECT user_id, string_agg(content, E'\\n\\n' ORDER BY rn) AS content
+                    FROM ranked
+                    WHERE cnt > 1
+                    GROUP BY user_id
+                )
+                UPDATE book_comments b
+                SET content = m.content, updated_at = NOW()
+                FROM ranked r
+                JOIN merged m ON m.user_id = r.user_id
+                WHERE b.id = r.id AND r.rn = 1
+                """, params);
+        jdbc.update("""
+                DELETE FROM book_comments b
+                USING (
+                    SELECT id,
+                           ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY (book_id = :canonical) DESC, id) AS rn
+                    FROM book_comments
+                    WHERE book_id = :canonical OR book_id IN (:dups)
+                ) r
+                WHERE b.id = r.id AND r.rn > 1
+                """, params);
+        int comments = jdbc.update(
+                "UPDATE book_comments SET book_id = :canonical WHERE book_id IN (:dups)", params);
+
+        // 6) 참조가 모두 옮겨졌으므로 중복 책은 삭제 (로컬 매칭 후보 스캔 대상에서 빠지도록)
+        int deletedBooks = jdbc.update("DELETE FROM books WHERE id IN (:dups)", params);
+
+        return new MergeCounts(records, sourceLinks, pins, comments, deletedBooks);
+    }
+}
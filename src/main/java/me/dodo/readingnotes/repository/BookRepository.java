@@ -5,17 +5,40 @@ import me.dodo.readingnotes.dto.admin.AdminBookStatsResponse;
 import me.dodo.readingnotes.dto.admin.TopBook;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
-public interface BookRepository extends JpaRepository<Book, Long> {
+public interface BookRepository extends JpaRepository<Book, Long>, JpaSpecificationExecutor<Book> {
     // 필요하면 여기에 커스텀 쿼리도 작성
 
-    Optional<Book> findByIsbn13(String isbn13);
+    // ISBN13 기준 upsert 후 id 반환 (같은 책이 동시에 매칭돼도 uq_isbn13 충돌 없이 한 행)
+    // 이미 있으면 비어 있는 정보만 채움, RETURNING을 쓰려고 DO NOTHING 대신 DO UPDATE
+    // Hibernate를 거치지 않으므로 2차 캐시는 호출한 쪽에서 제거
+    @Transactional
+    @Query(value = """
+        INSERT INTO books (title, author, publisher, isbn10, isbn13, published_date, cover_url, created_at, updated_at)
+        VALUES (:title, :author, :publisher, :isbn10, :isbn13, :publishedDate, :coverUrl, now(), now())
+        ON CONFLICT (isbn13) DO UPDATE SET
+            publisher      = COALESCE(books.publisher, excluded.publisher),
+            isbn10         = COALESCE(books.isbn10, excluded.isbn10),
+            published_date = COALESCE(books.published_date, excluded.published_date),
+            cover_url      = COALESCE(books.cover_url, excluded.cover_url)
+        RETURNING id
+        """, nativeQuery = true)
+    Long upsertByIsbn13(@Param("title") String title,
+                        @Param("author") String author,
+                        @Param("publisher") String publisher,
+                        @Param("isbn10") String isbn10,
+                        @Param("isbn13") String isbn13,
+                        @Param("publishedDate") LocalDate publishedDate,
+                        @Param("coverUrl") String coverUrl);
 
     // 삭제되지 않은 책 목록 조회 (검색 + 페이징)
     @Query("SELECT b FROM Book b WHERE b.deletedAt IS NULL " +
@@ -26,17 +49,19 @@ public interface BookRepository extends JpaRepository<Book, Long> {
             "     b.isbn13 LIKE CONCAT('%', CAST(:keyword AS string), '%'))")
     Page<Book> findAllByKeyword(@Param("keyword") String keyword, Pageable pageable);
 
-    // 관리자용도 동일하게 수정
-    @Query("SELECT b FROM Book b " +
-            "WHERE (:keyword IS NULL OR " +
-            "       LOWER(b.title) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) OR " +
-            "       LOWER(b.author) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) OR " +
-            "       LOWER(b.publisher) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) OR " +
-            "       b.isbn13 LIKE CONCAT('%', CAST(:keyword AS string), '%')) " +
-            "AND (:includeDeleted = true OR b.deletedAt IS NULL)")
-    Page<Book> findAllForAdmin(@Param("keyword") String keyword,
-                               @Param("includeDeleted") Boolean includeDeleted,
-                               Pageable pageable);
+    // 관리자용 - 들어온 조건만 WHERE에 넣음 (SearchConditions)
+    // 삭제된 책 제외가 기본이라 deleted_at IS NULL 조건은 idx_books_not_deleted(부분 인덱스)를 탐
+    default Page<Book> findAllForAdmin(String keyword, Boolean includeDeleted, Pageable pageable) {
+        Specification<Book> spec = (b, query, cb) -> {
+            SearchConditions conditions = new SearchConditions(cb)
+                    .containsAny(keyword, b.get("title"), b.get("author"), b.get("publisher"), b.get("isbn13"));
+            if (!Boolean.TRUE.equals(includeDeleted)) {
+                conditions.and(cb.isNull(b.get("deletedAt")));
+            }
+            return conditions.build();
+        };
+        return findAll(spec, pageable);
+    }
     // 관리자용 책 통계
     @Query("SELECT new me.dodo.readingnotes.dto.admin.TopBook(" +
             "  r.book.id, r.book.title, r.book.author, r.book.coverUrl, COUNT(DISTINCT r.user.id)) " +
@@ -1,18 +1,40 @@
 package me.dodo.readingnotes.repository;
 
+import jakarta.persistence.QueryHint;
 import me.dodo.readingnotes.domain.BookSourceLink;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
-
-import java.util.Optional;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BookSourceLinkRepository extends JpaRepository<BookSourceLink, Long> {
-    // 중복 확인
-    Optional<BookSourceLink> findBySourceAndExternalId(String source, String externalId);
     boolean existsBySourceAndExternalId(String source, String externalId);
 
+    // (source, external_id) 기준 upsert: 같은 외부 책이 다시 매칭되면 연결된 책/ISBN 갱신, 메타는 새 값이 있을 때만
+    // native 변경 쿼리는 바뀌는 테이블을 모르면 2차 캐시 전체를 비우므로 테이블 지정 (book_source_link region만 비움)
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "book_source_links"))
+    @Query(value = """
+        INSERT INTO book_source_links (book_id, source, external_id, isbn10, isbn13, created_at, meta_json)
+        VALUES (:bookId, :source, :externalId, :isbn10, :isbn13, now(), :metaJson)
+        ON CONFLICT (source, external_id) DO UPDATE SET
+            book_id    = excluded.book_id,
+            isbn10     = excluded.isbn10,
+            isbn13     = excluded.isbn13,
+            created_at = excluded.created_at,
+            meta_json  = COALESCE(excluded.meta_json, book_source_links.meta_json)
+        """, nativeQuery = true)
+    int upsert(@Param("bookId") Long bookId,
+               @Param("source") String source,
+               @Param("externalId") String externalId,
+               @Param("isbn10") String isbn10,
+               @Param("isbn13") String isbn13,
+               @Param("metaJson") String metaJson);
+
     @Modifying
     @Query("DELETE FROM BookSourceLink l WHERE l.book.id = :bookId")
     void deleteAllByBookId(@Param("bookId") Long bookId);
@@ -0,0 +1,131 @@
+package me.dodo.readingnotes.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// 로그 테이블 월 파티션 관리 (PostgreSQL 선언적 파티셔닝)
+// 테이블/파티션 이름은 바인딩이 안 되므로 LogTable enum + 정해진 이름 규칙으로만 만든다.
+@Repository
+public class LogPartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    public enum LogTable {
+        API_LOGS("api_logs"),
+        USER_AUTH_LOGS("user_auth_logs");
+
+        private final String tableName;
+
+        LogTable(String tableName) {
+            this.tableName = tableName;
+        }
+
+        public String tableName() { return tableName; }
+
+        public String partitionName(YearMonth month) {
+            return tableName + "_p" + month.format(SUFFIX);
+        }
+
+        // 범위 밖 행이 들어가는 DEFAULT 파티션 (migration/partition_log_tables.sql)
+        public String defaultPartitionName() {
+            return tableName + "_default";
+        }
+
+        public YearMonth parseMonth(String partitionName) {
+            return YearMonth.parse(partitionName.substring(tableName.length() + 2), SUFFIX);
+        }
+    }
+
+    // 파티션 하나 (attached=false면 분리는 됐지만 아카이브가 끝나지 않은 테이블)
+    public record MonthlyPartition(String name, YearMonth month, boolean attached) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LogPartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 마이그레이션 전(일반 테이블)이면 파티션 작업을 하지 않기 위함
+    public boolean isPartitioned(LogTable table) {
+        Boolean partitioned = jdbcTemplate.queryForObject("""
+                SELECT EXISTS (
+                    SELECT 1
+                    FROM pg_partitioned_table pt
+                    JOIN pg_class c ON c.oid = pt.partrelid
+                    WHERE c.relname = ?
+                )
+                """, Boolean.class, table.tableName());
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    // 월 파티션 생성, 반환: DEFAULT 파티션에서 옮긴 행 수
+    // 미리 만들기가 밀려 그 달 행이 이미 DEFAULT에 들어가 있으면 PARTITION OF가 실패하므로
+    // DEFAULT 분리 → 새 파티션 생성 → 그 달 행 이동 → DEFAULT 다시 연결 (한 트랜잭션, 그동안 로그 INSERT는 대기)
+    @Transactional
+    public int createMonthlyPartition(LogTable table, YearMonth month) {
+        String partition = table.partitionName(month);
+        Boolean exists = jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition);
+        if (Boolean.TRUE.equals(exists)) return 0;
+
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String range = " FOR VALUES FROM ('" + from + "') TO ('" + to + "')";
+        String defaultPartition = table.defaultPartitionName();
+        String inMonth = " WHERE created_at >= '" + from + "' AND created_at < '" + to + "'";
+
+        Boolean defaultHasRows = jdbcTemplate.queryForObject(
+                "SELECT to_regclass(?) IS NOT NULL AND EXISTS (SELECT 1 FROM " + table.tableName() + inMonth + ")",
+                Boolean.class, defaultPartition);
+        if (!Boolean.TRUE.equals(defaultHasRows)) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partition + " PARTITION OF " + table.tableName() + range);
+            return 0;
+        }
+
+        jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " DETACH PARTITION " + defaultPartition);
+        jdbcTemplate.execute("CREATE TABLE " + partition + " PARTITION OF " + table.tableName() + range);
+        int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + defaultPartition + inMonth + " RETURNING *) "
+                + "INSERT INTO " + partition + " SELECT * FROM moved");
+        jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " ATTACH PARTITION " + defaultPartition + " DEFAULT");
+        return moved;
+    }
+
+    // 이름 규칙(<table>_pYYYYMM)에 맞는 테이블 전부 (분리된 것 포함)
+    public List<MonthlyPartition> findMonthlyPartitions(LogTable table) {
+        return jdbcTemplate.query("""
+                SELECT relname, relispartition
+                FROM pg_class
+                WHERE relkind = 'r'
+                  AND relname ~ ?
+                ORDER BY relname
+                """,
+                (rs, rowNum) -> {
+                    String name = rs.getString("relname");
+                    return new MonthlyPartition(name, table.parseMonth(name), rs.getBoolean("relispartition"));
+                },
+                "^" + table.tableName() + "_p[0-9]{6}$");
+    }
+
+    public void detachPartition(LogTable table, String partitionName) {
+        jdbcTemplate.execute("ALTER TABLE " + table.tableName() + " DETACH PARTITION " + partitionName);
+    }
+
+    public void dropTable(String partitionName) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName);
+    }
+
+    // 분리된 파티션 전체를 한 행씩 흘려보냄 (트랜잭션 안에서 호출해야 fetch size 커서가 동작함)
+    public void streamAll(String partitionName, int fetchSize, RowCallbackHandler handler) {
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT * FROM " + partitionName + " ORDER BY created_at, id");
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, handler);
+    }
+}
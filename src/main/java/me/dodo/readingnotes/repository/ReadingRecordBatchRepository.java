@@ -0,0 +1,97 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.domain.ReadingRecord;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// reading_records 대량 변경 전용 (엔티티를 거치지 않고 JDBC batch로 바로 INSERT/UPDATE)
+@Repository
+public class ReadingRecordBatchRepository {
+
+    // 정리된 문장 한 건 (readSentence는 읽은 시점의 정리 전 문장, 원문이 없으면 원문으로 저장)
+    public record CleanedSentence(Long id, String sentence, String readSentence) {}
+
+    // 새 기록 한 건 (sentence는 이미 정리된 문장, 매칭 상태는 PENDING으로 시작)
+    public record NewRecord(Long userId, String sentence, String sentenceOriginal, String comment,
+                            String rawTitle, String rawAuthor, LocalDateTime recordedAt) {}
+
+    private static final String ID_SEQUENCE = "reading_records_id_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SequenceIdAllocator idAllocator;
+
+    public ReadingRecordBatchRepository(JdbcTemplate jdbcTemplate, SequenceIdAllocator idAllocator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.idAllocator = idAllocator;
+    }
+
+    // 읽은 뒤 사용자가 문장을 고쳤으면 (sentence가 읽은 값과 다르면) 덮어쓰지 않고 건너뜀
+    // 반환: 실제로 바뀐 행 수 (rows.size()와의 차이 = 그 사이 바뀌어 건너뛴 수)
+    public int updateCleanedSentences(List<CleanedSentence> rows) {
+        if (rows.isEmpty()) return 0;
+        int[][] results = jdbcTemplate.batchUpdate("""
+                UPDATE reading_records
+                SET sentence = ?, sentence_original = COALESCE(sentence_original, ?)
+                WHERE id = ? AND sentence IS NOT DISTINCT FROM ?
+                """,
+                rows, rows.size(),
+                (ps, row) -> {
+                    ps.setString(1, row.sentence());
+                    ps.setString(2, row.readSentence());
+                    ps.setLong(3, row.id());
+                    ps.setString(4, row.readSentence());
+                });
+        int updated = 0;
+        for (int[] chunk : results) {
+            for (int count : chunk) {
+                // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)를 돌려줌 → 1건으로 셈
+                updated += (count > 0 || count == Statement.SUCCESS_NO_INFO) ? 1 : 0;
+            }
+        }
+        return updated;
+    }
+
+    // 여러 건을 batch INSERT 하고 id를 입력 순서대로 반환 (호출 측 트랜잭션 안에서 사용)
+    // id는 시퀀스에서 블록 단위로 미리 받아 넣음 → 드라이버가 다건 INSERT로 재작성 가능
+    public List<Long> insertRecords(List<NewRecord> rows) {
+        if (rows.isEmpty()) return List.of();
+        List<Long> ids = idAllocator.nextIds(ID_SEQUENCE, rows.size(), ReadingRecord.ID_ALLOCATION_SIZE);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO reading_records
+                    (id, user_id, sentence, sentence_original, comment, raw_title, raw_author,
+                     match_status, recorded_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', ?, ?, ?)
+                """,
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        NewRecord row = rows.get(i);
+                        ps.setLong(1, ids.get(i));
+                        ps.setLong(2, row.userId());
+                        ps.setString(3, row.sentence());
+                        ps.setString(4, row.sentenceOriginal());
+                        ps.setString(5, row.comment());
+                        ps.setString(6, row.rawTitle());
+                        ps.setString(7, row.rawAuthor());
+                        ps.setTimestamp(8, row.recordedAt() != null ? Timestamp.valueOf(row.recordedAt()) : now);
+                        ps.setTimestamp(9, now);
+                        ps.setTimestamp(10, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                });
+        return ids;
+    }
+}
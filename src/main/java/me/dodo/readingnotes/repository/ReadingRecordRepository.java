@@ -1,21 +1,32 @@
 package me.dodo.readingnotes.repository;
 
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.JoinType;
+import me.dodo.readingnotes.domain.Book;
 import me.dodo.readingnotes.domain.ReadingRecord;
 import me.dodo.readingnotes.dto.admin.AdminUserActivityResponse;
-import me.dodo.readingnotes.dto.book.BookWithLastRecordResponse;
+import me.dodo.readingnotes.dto.reading.PendingMatchProjection;
+import me.dodo.readingnotes.dto.reading.ReadingRecordItem;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
 import me.dodo.readingnotes.dto.reading.SentenceCleanProjection;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.*;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Long> {
+public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Long>,
+        JpaSpecificationExecutor<ReadingRecord>, ReadingRecordSearchRepository {
     // 필요하면 여기에 커스텀 쿼리도 작성
 
     // 해당 유저의 모든 기록을 페이지 단위로 가져옴
@@ -24,64 +35,8 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     @EntityGraph(attributePaths = "book")
     Optional<ReadingRecord> findByIdAndUserId(Long recordId, Long userId);
 
-    // 해당 유저의 모든 기록 불러오기(제목/작가 or 문장/코멘트 로 검색)
-    // 1) 제목/작가 검색
-    @Query(
-            value = """
-        select rr
-        from ReadingRecord rr
-        left join fetch rr.book b
-        where rr.user.id = :userId
-          and (
-                :q is null or :q = ''
-             or lower(b.title)  like lower(concat('%', :q, '%'))
-             or lower(b.author) like lower(concat('%', :q, '%'))
-          )
-          order by rr.recordedAt desc, rr.id desc
-        """,
-            countQuery = """
-        select count(rr)
-        from ReadingRecord rr
-        join rr.book b
-        where rr.user.id = :userId
-          and (
-                :q is null or :q = ''
-             or lower(b.title)  like lower(concat('%', :q, '%'))
-             or lower(b.author) like lower(concat('%', :q, '%'))
-          )
-        """
-    )
-    Page<ReadingRecord> findMyRecordsByBook(@Param("userId") Long userId,
-                                            @Param("q") String q,
-                                            Pageable pageable);
-    // 2) 문장/코멘트로 검색
-    @Query(
-            value = """
-        select rr
-        from ReadingRecord rr
-        left join fetch rr.book b
-        where rr.user.id = :userId
-          and (
-                :q is null or :q = ''
-             or lower(rr.sentence) like lower(concat('%', :q, '%'))
-             or lower(rr.comment)  like lower(concat('%', :q, '%'))
-          )
-          order by rr.recordedAt desc, rr.id desc
-        """,
-            countQuery = """
-        select count(rr)
-        from ReadingRecord rr
-        where rr.user.id = :userId
-          and (
-                :q is null or :q = ''
-             or lower(rr.sentence) like lower(concat('%', :q, '%'))
-             or lower(rr.comment)  like lower(concat('%', :q, '%'))
-          )
-        """
-    )
-    Page<ReadingRecord> findMyRecordsByText(@Param("userId") Long userId,
-                                            @Param("q") String q,
-                                            Pageable pageable);
+    // 해당 유저의 모든 기록 불러오기(제목/작가 or 문장/코멘트 로 검색),
+    // 매칭 완료 책 목록, 기간별 기록은 ReadingRecordSearchRepository (검색어가 있을 때만 조건 추가)
 
     // 해당 유저의 특정 책 찾기 (postgreSql은 밑처럼 하면 문제 생겨서 cursor 유무로 분기함.)
     // sqlite
@@ -103,26 +58,28 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
             @Param("cursorId") Long cursorId,
             Pageable pageable
     );
-    // postgreSQL
+    // postgreSQL (응답에 쓰는 4개 컬럼만 ReadingRecordItem으로 조회)
     @Query("""
-        select r from ReadingRecord r
+        select new me.dodo.readingnotes.dto.reading.ReadingRecordItem(r.id, r.recordedAt, r.sentence, r.comment)
+        from ReadingRecord r
         where r.user.id = :userId
           and r.book.id = :bookId
         order by r.recordedAt desc, r.id desc
         """)
-    List<ReadingRecord> findSliceFirstPage(
+    List<ReadingRecordItem> findSliceFirstPage(
             @Param("userId") Long userId,
             @Param("bookId") Long bookId,
             Pageable pageable
     );
     @Query("""
-        select r from ReadingRecord r
+        select new me.dodo.readingnotes.dto.reading.ReadingRecordItem(r.id, r.recordedAt, r.sentence, r.comment)
+        from ReadingRecord r
         where r.user.id = :userId
           and r.book.id = :bookId
           and (r.recordedAt < :cursorAt or (r.recordedAt = :cursorAt and r.id < :cursorId))
         order by r.recordedAt desc, r.id desc
         """)
-    List<ReadingRecord> findSliceNextPage(
+    List<ReadingRecordItem> findSliceNextPage(
             @Param("userId") Long userId,
             @Param("bookId") Long bookId,
             @Param("cursorAt") LocalDateTime cursorAt,
@@ -150,83 +107,15 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     // 해당 유저의 기록 중 최신 N개만 가져옴,  count 쿼리 없음.
     // 페이지네이션 필요 없으니 굳이 Page 안 쓰고 List로 반환
     @Query("""
-            select rr from ReadingRecord rr
-            left join fetch rr.book b
+            select new me.dodo.readingnotes.dto.reading.ReadingRecordRow(
+                rr.id, rr.sentence, rr.comment, rr.rawTitle, rr.rawAuthor, rr.matchStatus, rr.recordedAt,
+                b.id, b.title, b.author, b.coverUrl)
+            from ReadingRecord rr
+            left join rr.book b
             where rr.user.id = :userId
             order by rr.recordedAt desc
             """)
-    List<ReadingRecord> findLatestByUser(@Param("userId") Long userId, Pageable pageable);
-
-    // 해당 유저가 기록한 책 중에서 매칭이 끝난 책만 가져옴.
-    // 최근 기록순
-    @Query("""
-        select new me.dodo.readingnotes.dto.book.BookWithLastRecordResponse(
-            b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl, max(r.recordedAt),
-            year(max(r.recordedAt)),
-            (case when exists (
-                select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id
-            ) then true else false end)
-        )
-        from ReadingRecord r join r.book b
-        where r.user.id = :userId
-          and r.matchStatus in (me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_AUTO,
-                                me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_MANUAL)
-          and (:q is null or :q = ''
-               or lower(b.title) like lower(concat('%', :q, '%'))
-               or lower(b.author) like lower(concat('%', :q, '%')))
-        group by b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl
-        order by
-            (case when exists (
-                select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id
-            ) then 0 else 1 end) asc,
-            max(r.recordedAt) desc
-        """)
-    Page<BookWithLastRecordResponse> findConfirmedBooksByRecent(@Param("userId") Long userId, @Param("q") String q, Pageable pageable);
-    // 최신순 (핀 무시 - 메인 화면용)
-    @Query("""
-        select new me.dodo.readingnotes.dto.book.BookWithLastRecordResponse(
-            b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl, max(r.recordedAt),
-            year(max(r.recordedAt)),
-            (case when exists (
-                select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id
-            ) then true else false end)
-        )
-        from ReadingRecord r join r.book b
-        where r.user.id = :userId
-          and r.matchStatus in (me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_AUTO,
-                                me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_MANUAL)
-          and (:q is null or :q = ''
-               or lower(b.title) like lower(concat('%', :q, '%'))
-               or lower(b.author) like lower(concat('%', :q, '%')))
-        group by b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl
-        order by max(r.recordedAt) desc
-        """)
-    Page<BookWithLastRecordResponse> findConfirmedBooksForMain(@Param("userId") Long userId, @Param("q") String q, Pageable pageable);
-
-    // 제목순
-    @Query("""
-        select new me.dodo.readingnotes.dto.book.BookWithLastRecordResponse(
-            b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl, max(r.recordedAt),
-            year(max(r.recordedAt)),
-            (case when exists (
-                select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id
-            ) then true else false end)
-        )
-        from ReadingRecord r join r.book b
-        where r.user.id = :userId
-          and r.matchStatus in (me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_AUTO,
-                                me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_MANUAL)
-          and (:q is null or :q = ''
-               or lower(b.title) like lower(concat('%', :q, '%'))
-               or lower(b.author) like lower(concat('%', :q, '%')))
-        group by b.id, b.title, b.author, b.isbn10, b.isbn13, b.coverUrl
-        order by
-            (case when exists (
-                select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id
-            ) then 0 else 1 end) asc,
-            b.title asc
-        """)
-    Page<BookWithLastRecordResponse> findConfirmedBooksByTitle(@Param("userId") Long userId, @Param("q") String q, Pageable pageable);
+    List<ReadingRecordRow> findLatestByUser(@Param("userId") Long userId, Pageable pageable);
 
     // Day 목록
     // sqlite
@@ -255,25 +144,6 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
                                         @Param("start") LocalDateTime start,
                                         @Param("end") LocalDateTime end);
 
-    // 하루 기록 보기/월 전체 기록 보기
-    @Query("""
-      select rr
-      from ReadingRecord rr
-      where rr.user.id = :userId
-        and rr.recordedAt >= :start
-        and rr.recordedAt <  :end
-        and (
-              :q is null or :q = ''
-           or lower(rr.sentence) like lower(concat('%', :q, '%'))
-           or lower(rr.comment)  like lower(concat('%', :q, '%'))
-        )
-      """)
-    Page<ReadingRecord> findRecordsInRange(@Param("userId") Long userId,
-                                           @Param("start") LocalDateTime start,
-                                           @Param("end") LocalDateTime end,
-                                           @Param("q") String q,
-                                           Pageable pageable);
-
     // 책에 대한 기록 존재
     boolean existsByBook_IdAndUser_Id(Long bookId, Long userId);
 
@@ -287,24 +157,34 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     // ##############################
 
     // 기록 목록 조회 - userId 필수: 전체 목록 열람 차단/ 검색 대상: 제목, 저자, 유저명만 (감상/메모 제외)
-    @Query("SELECT r FROM ReadingRecord r " +
-            "JOIN FETCH r.user " +
-            "LEFT JOIN FETCH r.book " +
-            "WHERE r.user.id = :userId " +
-            "AND (:keyword IS NULL OR " +
-            "       LOWER(r.rawTitle) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%')) OR " +
-            "       LOWER(r.rawAuthor) LIKE LOWER(CONCAT('%', CAST(:keyword AS string), '%'))) " +
-            "AND (:matchStatus IS NULL OR r.matchStatus = :matchStatus)")
-    Page<ReadingRecord> findAllForAdmin(
-            @Param("keyword") String keyword,
-            @Param("matchStatus") ReadingRecord.MatchStatus matchStatus,
-            @Param("userId") Long userId,
-            Pageable pageable);
+    // 들어온 조건만 WHERE에 넣음 (SearchConditions), user/book은 목록 쿼리에서만 fetch join
+    default Page<ReadingRecord> findAllForAdmin(String keyword,
+                                                ReadingRecord.MatchStatus matchStatus,
+                                                Long userId,
+                                                Pageable pageable) {
+        Specification<ReadingRecord> spec = (r, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                r.fetch("user");
+                r.fetch("book", JoinType.LEFT);
+            }
+            return new SearchConditions(cb)
+                    .and(cb.equal(r.get("user").get("id"), userId))
+                    .containsAny(keyword, r.get("rawTitle"), r.get("rawAuthor"))
+                    .eq(r.get("matchStatus"), matchStatus)
+                    .build();
+        };
+        return findAll(spec, pageable);
+    }
 
     // sentence 일괄 정리용 - id/sentence/sentenceOriginal만 조회
+    // id 기준 keyset (offset 없이 afterId 다음부터, PK 인덱스만 사용)
     @Query("SELECT r.id AS id, r.sentence AS sentence, r.sentenceOriginal AS sentenceOriginal " +
-            "FROM ReadingRecord r WHERE r.sentence IS NOT NULL AND r.sentence <> ''")
-    Page<SentenceCleanProjection> findAllForClean(Pageable pageable);
+            "FROM ReadingRecord r WHERE r.id > :afterId AND r.sentence IS NOT NULL AND r.sentence <> '' " +
+            "ORDER BY r.id")
+    List<SentenceCleanProjection> findAllForClean(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT COUNT(r) FROM ReadingRecord r WHERE r.sentence IS NOT NULL AND r.sentence <> ''")
+    long countForClean();
 
 
     // 기록 상세 조회
@@ -314,6 +194,42 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
             "WHERE r.id = :id")
     Optional<ReadingRecord> findByIdForAdmin(@Param("id") Long id);
 
+    // 재매칭 대상 - 매칭 대기 기록의 id/제목/작가만 조회 (id keyset)
+    @Query("SELECT r.id AS id, r.rawTitle AS rawTitle, r.rawAuthor AS rawAuthor " +
+            "FROM ReadingRecord r " +
+            "WHERE r.id > :afterId " +
+            "AND r.matchStatus = me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.PENDING " +
+            "AND r.rawTitle IS NOT NULL AND r.rawTitle <> '' " +
+            "ORDER BY r.id")
+    List<PendingMatchProjection> findPendingForRematch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 내보내기 - 유저의 전체 기록을 책 단위로 모이게 정렬해서 앞으로만 읽음 (호출 측 트랜잭션 안에서 사용)
+    // 매칭된 책은 book.id, 매칭 전 기록은 (rawTitle, rawAuthor)끼리 연속으로 나옴
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM ReadingRecord r " +
+            "LEFT JOIN FETCH r.book b " +
+            "WHERE r.user.id = :userId " +
+            "ORDER BY COALESCE(b.title, r.rawTitle), b.id NULLS LAST, r.rawAuthor, r.recordedAt, r.id")
+    Stream<ReadingRecord> streamAllForExport(@Param("userId") Long userId);
+
+    // 재매칭 결과 일괄 반영 - 그 사이 수동 매칭 등으로 상태가 바뀐 기록은 건드리지 않음
+    @Modifying
+    @Query("UPDATE ReadingRecord r SET r.book = :book, " +
+            "r.matchStatus = me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.RESOLVED_AUTO, " +
+            "r.matchedAt = :now " +
+            "WHERE r.id IN :ids AND r.matchStatus = me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.PENDING")
+    int linkPendingRecords(@Param("ids") List<Long> ids, @Param("book") Book book, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE ReadingRecord r SET r.matchStatus = :status, r.matchedAt = :now " +
+            "WHERE r.id IN :ids AND r.matchStatus = me.dodo.readingnotes.domain.ReadingRecord.MatchStatus.PENDING")
+    int updatePendingStatus(@Param("ids") List<Long> ids,
+                            @Param("status") ReadingRecord.MatchStatus status,
+                            @Param("now") LocalDateTime now);
+
     // 책 영구 삭제 시 연결 해제 (기록 보존, book_id만 null로 초기화)
     @Modifying
     @Query("UPDATE ReadingRecord r SET r.book = null, " +
@@ -323,13 +239,14 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     void detachBook(@Param("bookId") Long bookId);
 
     // ── 통계 쿼리 ─────────────────────────────────────────────
+    // 건수는 COUNT(*) (COUNT(r)는 count(id)라 id가 없는 인덱스로는 index-only scan이 안 됨)
 
     // 매칭 상태별 집계
-    @Query("SELECT r.matchStatus, COUNT(r) FROM ReadingRecord r GROUP BY r.matchStatus")
+    @Query("SELECT r.matchStatus, COUNT(*) FROM ReadingRecord r GROUP BY r.matchStatus")
     List<Object[]> countByMatchStatus();
 
     // 특정 기간 내 일별 기록 수
-    @Query("SELECT CAST(r.recordedAt AS date), COUNT(r) " +
+    @Query("SELECT CAST(r.recordedAt AS date), COUNT(*) " +
             "FROM ReadingRecord r " +
             "WHERE r.recordedAt >= :from " +
             "GROUP BY CAST(r.recordedAt AS date) " +
@@ -349,12 +266,12 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     Page<AdminUserActivityResponse> findUserActivityForAdmin(Pageable pageable);
 
     // 오늘 기록 수
-    @Query("SELECT COUNT(r) FROM ReadingRecord r WHERE r.recordedAt >= :startOfDay")
+    @Query("SELECT COUNT(*) FROM ReadingRecord r WHERE r.recordedAt >= :startOfDay")
     long countTodayRecords(@Param("startOfDay") LocalDateTime startOfDay);
 
     // ── createdAt 기준 통계 (앱 입력 시각) ───────────────────────
 
-    @Query("SELECT CAST(r.createdAt AS date), COUNT(r) " +
+    @Query("SELECT CAST(r.createdAt AS date), COUNT(*) " +
             "FROM ReadingRecord r " +
             "WHERE r.createdAt >= :from " +
             "GROUP BY CAST(r.createdAt AS date) " +
@@ -364,6 +281,6 @@ public interface ReadingRecordRepository extends JpaRepository<ReadingRecord, Lo
     @Query("SELECT COUNT(DISTINCT r.user.id) FROM ReadingRecord r WHERE r.createdAt >= :from")
     long countDistinctActiveUsersFromByCreatedAt(@Param("from") LocalDateTime from);
 
-    @Query("SELECT COUNT(r) FROM ReadingRecord r WHERE r.createdAt >= :startOfDay")
+    @Query("SELECT COUNT(*) FROM ReadingRecord r WHERE r.createdAt >= :startOfDay")
     long countTodayRecordsByCreatedAt(@Param("startOfDay") LocalDateTime startOfDay);
 }
\ No newline at end of file
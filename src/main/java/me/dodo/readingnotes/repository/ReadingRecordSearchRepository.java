@@ -0,0 +1,33 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.dto.book.BookWithLastRecordResponse;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+
+// 검색어(q)가 선택 조건인 기록 목록 쿼리 (구현: ReadingRecordSearchRepositoryImpl, Criteria API)
+// q가 null/빈 문자열이면 검색 조건 자체를 빼서 user_id(+기간) 인덱스만으로 조회
+public interface ReadingRecordSearchRepository {
+
+    // 해당 유저의 모든 기록 (제목/작가로 검색), 최근 기록순
+    Page<ReadingRecordRow> findMyRecordsByBook(Long userId, String q, Pageable pageable);
+
+    // 해당 유저의 모든 기록 (문장/코멘트로 검색), 최근 기록순
+    Page<ReadingRecordRow> findMyRecordsByText(Long userId, String q, Pageable pageable);
+
+    // 하루 기록 보기/월 전체 기록 보기 (문장/코멘트로 검색, 정렬은 Pageable의 recordedAt)
+    Page<ReadingRecordRow> findRecordsInRange(Long userId, LocalDateTime start, LocalDateTime end,
+                                              String q, Pageable pageable);
+
+    // 매칭이 끝난 책 목록 (제목/작가로 검색)
+    // 핀 먼저 + 최근 기록순
+    Page<BookWithLastRecordResponse> findConfirmedBooksByRecent(Long userId, String q, Pageable pageable);
+
+    // 최신순 (핀 무시 - 메인 화면용)
+    Page<BookWithLastRecordResponse> findConfirmedBooksForMain(Long userId, String q, Pageable pageable);
+
+    // 핀 먼저 + 제목순
+    Page<BookWithLastRecordResponse> findConfirmedBooksByTitle(Long userId, String q, Pageable pageable);
+}
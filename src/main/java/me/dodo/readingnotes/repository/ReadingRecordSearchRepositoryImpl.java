@@ -0,0 +1,176 @@
+package me.dodo.readingnotes.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import me.dodo.readingnotes.domain.Book;
+import me.dodo.readingnotes.domain.ReadingRecord;
+import me.dodo.readingnotes.domain.UserBookPin;
+import me.dodo.readingnotes.dto.book.BookWithLastRecordResponse;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// ReadingRecordSearchRepository 구현 - 들어온 조건만 WHERE에 넣는 Criteria 쿼리 (SearchConditions)
+// 목록은 화면에 쓰는 컬럼만 DTO로 조회, count는 목록이 한 페이지를 다 채울 때만 실행
+@Transactional(readOnly = true)
+public class ReadingRecordSearchRepositoryImpl implements ReadingRecordSearchRepository {
+
+    private static final List<ReadingRecord.MatchStatus> CONFIRMED = List.of(
+            ReadingRecord.MatchStatus.RESOLVED_AUTO, ReadingRecord.MatchStatus.RESOLVED_MANUAL);
+
+    private final EntityManager entityManager;
+
+    public ReadingRecordSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<ReadingRecordRow> findMyRecordsByBook(Long userId, String q, Pageable pageable) {
+        // count 쪽 book은 r.book 경로(inner join)라 검색어가 없으면 join 없이 user_id만 셈
+        return findRows((cb, r, book) -> new SearchConditions(cb)
+                .and(cb.equal(r.get("user").get("id"), userId))
+                .containsAny(q, book.get("title"), book.get("author"))
+                .build(), true, pageable);
+    }
+
+    @Override
+    public Page<ReadingRecordRow> findMyRecordsByText(Long userId, String q, Pageable pageable) {
+        return findRows((cb, r, book) -> new SearchConditions(cb)
+                .and(cb.equal(r.get("user").get("id"), userId))
+                .containsAny(q, r.get("sentence"), r.get("comment"))
+                .build(), true, pageable);
+    }
+
+    @Override
+    public Page<ReadingRecordRow> findRecordsInRange(Long userId, LocalDateTime start, LocalDateTime end,
+                                                     String q, Pageable pageable) {
+        return findRows((cb, r, book) -> new SearchConditions(cb)
+                .and(cb.equal(r.get("user").get("id"), userId))
+                .and(cb.greaterThanOrEqualTo(r.get("recordedAt"), start))
+                .and(cb.lessThan(r.get("recordedAt"), end))
+                .containsAny(q, r.get("sentence"), r.get("comment"))
+                .build(), false, pageable);
+    }
+
+    @Override
+    public Page<BookWithLastRecordResponse> findConfirmedBooksByRecent(Long userId, String q, Pageable pageable) {
+        return findConfirmedBooks(userId, q, BookOrder.PINNED_RECENT, pageable);
+    }
+
+    @Override
+    public Page<BookWithLastRecordResponse> findConfirmedBooksForMain(Long userId, String q, Pageable pageable) {
+        return findConfirmedBooks(userId, q, BookOrder.RECENT, pageable);
+    }
+
+    @Override
+    public Page<BookWithLastRecordResponse> findConfirmedBooksByTitle(Long userId, String q, Pageable pageable) {
+        return findConfirmedBooks(userId, q, BookOrder.PINNED_TITLE, pageable);
+    }
+
+    // 목록 쿼리(book = left join)와 count 쿼리(book = r.book 경로)에 같은 조건을 씀
+    @FunctionalInterface
+    private interface RowFilter {
+        Predicate build(CriteriaBuilder cb, Root<ReadingRecord> r, Path<Book> book);
+    }
+
+    private Page<ReadingRecordRow> findRows(RowFilter filter, boolean latestFirst, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ReadingRecordRow> cq = cb.createQuery(ReadingRecordRow.class);
+        Root<ReadingRecord> r = cq.from(ReadingRecord.class);
+        Join<ReadingRecord, Book> b = r.join("book", JoinType.LEFT);
+        cq.select(cb.construct(ReadingRecordRow.class,
+                        r.get("id"), r.get("sentence"), r.get("comment"), r.get("rawTitle"), r.get("rawAuthor"),
+                        r.get("matchStatus"), r.get("recordedAt"),
+                        b.get("id"), b.get("title"), b.get("author"), b.get("coverUrl")))
+                .where(filter.build(cb, r, b));
+
+        List<Order> orders = new ArrayList<>();
+        if (latestFirst) {
+            orders.add(cb.desc(r.get("recordedAt")));
+            orders.add(cb.desc(r.get("id")));
+        }
+        orders.addAll(QueryUtils.toOrders(pageable.getSort(), r, cb));
+        cq.orderBy(orders);
+
+        List<ReadingRecordRow> content = paged(entityManager.createQuery(cq), pageable).getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<ReadingRecord> cr = count.from(ReadingRecord.class);
+            count.select(cb.count(cr)).where(filter.build(cb, cr, cr.get("book")));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    private enum BookOrder { PINNED_RECENT, RECENT, PINNED_TITLE }
+
+    private Page<BookWithLastRecordResponse> findConfirmedBooks(Long userId, String q, BookOrder order,
+                                                                Pageable pageable) {
+        // year()는 JPA 표준에 없어서 Hibernate 확장 사용
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<BookWithLastRecordResponse> cq = cb.createQuery(BookWithLastRecordResponse.class);
+        Root<ReadingRecord> r = cq.from(ReadingRecord.class);
+        Join<ReadingRecord, Book> b = r.join("book");
+        Expression<LocalDateTime> lastRecordAt = cb.greatest(r.<LocalDateTime>get("recordedAt"));
+
+        cq.select(cb.construct(BookWithLastRecordResponse.class,
+                        b.get("id"), b.get("title"), b.get("author"), b.get("isbn10"), b.get("isbn13"),
+                        b.get("coverUrl"), lastRecordAt, cb.year(lastRecordAt),
+                        cb.exists(pinOf(cq, cb, userId, b))))
+                .where(confirmedBooksWhere(cb, r, b, userId, q))
+                .groupBy(b.get("id"), b.get("title"), b.get("author"), b.get("isbn10"), b.get("isbn13"),
+                        b.get("coverUrl"));
+
+        List<Order> orders = new ArrayList<>();
+        if (order != BookOrder.RECENT) {
+            // 핀 먼저 (true > false)
+            orders.add(cb.desc(cb.exists(pinOf(cq, cb, userId, b))));
+        }
+        orders.add(order == BookOrder.PINNED_TITLE ? cb.asc(b.get("title")) : cb.desc(lastRecordAt));
+        cq.orderBy(orders);
+
+        List<BookWithLastRecordResponse> content = paged(entityManager.createQuery(cq), pageable).getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<ReadingRecord> cr = count.from(ReadingRecord.class);
+            Join<ReadingRecord, Book> cbook = cr.join("book");
+            count.select(cb.countDistinct(cbook.get("id"))).where(confirmedBooksWhere(cb, cr, cbook, userId, q));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    private static Predicate confirmedBooksWhere(CriteriaBuilder cb, Root<ReadingRecord> r, Join<ReadingRecord, Book> b,
+                                                 Long userId, String q) {
+        return new SearchConditions(cb)
+                .and(cb.equal(r.get("user").get("id"), userId))
+                .and(r.get("matchStatus").in(CONFIRMED))
+                .containsAny(q, b.get("title"), b.get("author"))
+                .build();
+    }
+
+    // exists (select 1 from UserBookPin p where p.user.id = :userId and p.book.id = b.id)
+    private static Subquery<Integer> pinOf(CriteriaQuery<?> cq, CriteriaBuilder cb, Long userId,
+                                           Join<ReadingRecord, Book> b) {
+        Subquery<Integer> sq = cq.subquery(Integer.class);
+        Join<ReadingRecord, Book> book = sq.correlate(b);
+        Root<UserBookPin> p = sq.from(UserBookPin.class);
+        return sq.select(cb.literal(1))
+                .where(cb.equal(p.get("user").get("id"), userId), cb.equal(p.get("book").get("id"), book.get("id")));
+    }
+
+    private static <T> TypedQuery<T> paged(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+}
@@ -1,9 +1,12 @@
 package me.dodo.readingnotes.repository;
 
+import jakarta.persistence.QueryHint;
 import me.dodo.readingnotes.domain.RefreshToken;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,8 +17,10 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
     Optional<RefreshToken> findByToken(String token);
     Optional<RefreshToken> findByUserIdAndDeviceInfo(Long userId, String deviceInfo);
 
+    // 바뀌는 테이블 지정 (없으면 로그인마다 책 2차 캐시까지 전부 비워짐)
     @Modifying
     @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
     @Query(value = """
         INSERT INTO refresh_tokens (user_id, device_info, token, expiry_date)
         VALUES (:userId, :deviceInfo, :token, :expiryDate)
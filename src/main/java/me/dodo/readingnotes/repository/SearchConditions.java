@@ -0,0 +1,66 @@
+package me.dodo.readingnotes.repository;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 조건 조립 (Specification / Criteria 쿼리 공통)
+// `(:param is null or col = :param)` 형태는 SQL이 하나라 PostgreSQL이 모든 조합에 같은 generic plan을 쓰고
+// OR 때문에 인덱스를 못 타는 경우가 많음 → 값이 들어온 조건만 WHERE에 넣어서 조합마다 SQL(=plan)을 따로 만듦
+// null, 빈 문자열은 조건 없음으로 취급
+final class SearchConditions {
+
+    private final CriteriaBuilder cb;
+    private final List<Predicate> predicates = new ArrayList<>();
+
+    SearchConditions(CriteriaBuilder cb) {
+        this.cb = cb;
+    }
+
+    // 항상 들어가는 조건
+    SearchConditions and(Predicate predicate) {
+        predicates.add(predicate);
+        return this;
+    }
+
+    <T> SearchConditions eq(Expression<T> column, T value) {
+        if (hasValue(value)) {
+            predicates.add(cb.equal(column, value));
+        }
+        return this;
+    }
+
+    // true/false를 바인딩 파라미터 대신 SQL에 직접 넣음 (col / not col)
+    // → 부분 인덱스(WHERE col) 조건과 맞아서 generic plan에서도 그 인덱스를 씀
+    SearchConditions flag(Expression<Boolean> column, Boolean value) {
+        if (value != null) {
+            predicates.add(value ? cb.isTrue(column) : cb.isFalse(column));
+        }
+        return this;
+    }
+
+    // 키워드가 컬럼 중 하나에 포함 (대소문자 무시, lower(col) like '%kw%')
+    @SafeVarargs
+    final SearchConditions containsAny(String keyword, Expression<String>... columns) {
+        if (!hasValue(keyword)) return this;
+        String pattern = "%" + keyword.trim().toLowerCase(Locale.ROOT) + "%";
+        Predicate[] likes = new Predicate[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            likes[i] = cb.like(cb.lower(columns[i]), pattern);
+        }
+        predicates.add(cb.or(likes));
+        return this;
+    }
+
+    Predicate build() {
+        return cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private static boolean hasValue(Object value) {
+        return value != null && !(value instanceof String s && s.isBlank());
+    }
+}
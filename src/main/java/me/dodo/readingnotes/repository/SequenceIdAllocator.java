@@ -0,0 +1,40 @@
+package me.dodo.readingnotes.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// JDBC 대량 INSERT용 id 미리 받기 (엔티티의 pooled 시퀀스와 같은 규칙)
+// - nextval 값 hi 하나가 (hi - allocationSize + 1) ~ hi 블록을 뜻함
+// - 같은 시퀀스를 Hibernate와 나눠 써도 블록이 겹치지 않음
+// - 시퀀스가 1부터 시작했으면 첫 블록은 1 이하라 1 미만은 버림 (schema.sql은 50부터 시작)
+// - id를 직접 넣으면 RETURNING이 필요 없어 reWriteBatchedInserts로 다건 INSERT로 묶임
+@Repository
+public class SequenceIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SequenceIdAllocator(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // sequence는 호출 측 상수만 사용 (SQL에 그대로 들어감)
+    public List<Long> nextIds(String sequence, int count, int allocationSize) {
+        if (count <= 0) return List.of();
+        List<Long> ids = new ArrayList<>(count);
+        // 1 미만을 버린 블록이 있으면 모자란 만큼 한 번 더 받음
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + allocationSize - 1) / allocationSize;
+            List<Long> his = jdbcTemplate.queryForList(
+                    "SELECT nextval('" + sequence + "') FROM generate_series(1, ?)", Long.class, blocks);
+            for (Long hi : his) {
+                for (long id = Math.max(hi - allocationSize + 1, 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
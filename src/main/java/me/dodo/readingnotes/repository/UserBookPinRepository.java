@@ -1,10 +1,14 @@
 package me.dodo.readingnotes.repository;
 
+import jakarta.persistence.QueryHint;
 import me.dodo.readingnotes.domain.UserBookPin;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,6 +18,18 @@ public interface UserBookPinRepository extends JpaRepository<UserBookPin, Long>
 
     boolean existsByUser_IdAndBook_Id(Long userId, Long bookId);
 
+    // 책이 있을 때만 고정, 이미 고정돼 있으면 그대로 (uq_user_book_pin)
+    // 0 반환 = 이미 고정됨 또는 없는 책
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_NATIVE_SPACES, value = "user_book_pins"))
+    @Query(value = """
+        INSERT INTO user_book_pins (user_id, book_id, created_at)
+        SELECT :userId, b.id, now() FROM books b WHERE b.id = :bookId
+        ON CONFLICT (user_id, book_id) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("bookId") Long bookId);
+
     void deleteByUser_IdAndBook_Id(Long userId, Long bookId);
 
     @Modifying
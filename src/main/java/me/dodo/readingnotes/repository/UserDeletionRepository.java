@@ -0,0 +1,77 @@
+package me.dodo.readingnotes.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+// 유저 삭제 전용 (users 행 하나를 지울 때 CASCADE/SET NULL로 한꺼번에 바뀌던 자식 행을 나눠서 처리)
+// 각 메서드는 최대 limit건만 바꾸고 바꾼 건수를 돌려줌 → 0이 나올 때까지 반복, 호출마다 짧은 트랜잭션 1개
+@Repository
+public class UserDeletionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserDeletionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<Long> findDeletingUserIds() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM users WHERE user_status = 'DELETING' ORDER BY id", Long.class);
+    }
+
+    // idx_rr_user_recorded_id
+    public int deleteRecords(long userId, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM reading_records
+                WHERE id IN (SELECT id FROM reading_records WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // uq_user_book_pin (user_id, book_id)
+    public int deletePins(long userId, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM user_book_pins
+                WHERE id IN (SELECT id FROM user_book_pins WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // idx_bc_user_book
+    public int deleteComments(long userId, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM book_comments
+                WHERE id IN (SELECT id FROM book_comments WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // uq_refresh_token_user_device
+    public int deleteRefreshTokens(long userId, int limit) {
+        return jdbcTemplate.update("""
+                DELETE FROM refresh_tokens
+                WHERE id IN (SELECT id FROM refresh_tokens WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // 로그는 남기고 유저만 떼어냄 (FK가 ON DELETE SET NULL인 것과 같은 결과)
+    // 파티션 테이블이라 PK가 (id, created_at), idx_api_logs_user_id
+    public int detachApiLogs(long userId, int limit) {
+        return jdbcTemplate.update("""
+                UPDATE api_logs SET user_id = NULL
+                WHERE (id, created_at) IN (SELECT id, created_at FROM api_logs WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // idx_user_auth_logs_user_created
+    public int detachAuthLogs(long userId, int limit) {
+        return jdbcTemplate.update("""
+                UPDATE user_auth_logs SET user_id = NULL
+                WHERE (id, created_at) IN (SELECT id, created_at FROM user_auth_logs WHERE user_id = ? LIMIT ?)
+                """, userId, limit);
+    }
+
+    // 마지막 단계: 그 사이 새로 생긴 자식 행이 있어도 FK CASCADE/SET NULL이 처리
+    public int deleteUser(long userId) {
+        return jdbcTemplate.update("DELETE FROM users WHERE id = ? AND user_status = 'DELETING'", userId);
+    }
+}
@@ -3,13 +3,16 @@ package me.dodo.readingnotes.repository;
 import me.dodo.readingnotes.domain.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
 
     // JPA가 알아서 쿼리 생성해줌.
     boolean existsByEmail(String email); // SELECT COUNT(*) FROM user WHERE email = ?
@@ -17,25 +20,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
 
+    // 일반 회원가입: 중복 확인 없이 INSERT 한 번 (uq_users_email / uq_users_username / uq_users_api_key)
+    // 하나라도 겹치면 빈 결과, 어느 값이 겹쳤는지는 호출한 쪽에서 확인
+    @Transactional
+    @Query(value = """
+        INSERT INTO users (username, email, password, provider, api_key, created_at, updated_at)
+        VALUES (:username, :email, :password, 'local', :apiKey, now(), now())
+        ON CONFLICT DO NOTHING
+        RETURNING *
+        """, nativeQuery = true)
+    Optional<User> insertLocalUser(@Param("username") String username,
+                                   @Param("email") String email,
+                                   @Param("password") String password,
+                                   @Param("apiKey") String apiKey);
+
     Optional<User> findByApiKey(String apiKey);
 
     void delete(User user);
 
-    @Query("""
-        select u
-        from User u
-        where
-            (:keyword is null or :keyword = '' or
-                lower(u.username) like lower(concat('%', :keyword, '%')) or
-                lower(u.email) like lower(concat('%', :keyword, '%'))
-            )
-            and (:provider is null or :provider = '' or u.provider = :provider)
-            and (:role is null or :role = '' or u.role = :role)
-    """)
-    Page<User> searchUsers(
-            @Param("keyword") String keyword,
-            @Param("provider") String provider,
-            @Param("role") String role,
-            Pageable pageable
-    );
+    // 관리자 유저 검색 - 들어온 조건만 WHERE에 넣음 (SearchConditions)
+    default Page<User> searchUsers(String keyword, String provider, String role, Pageable pageable) {
+        Specification<User> spec = (u, query, cb) -> new SearchConditions(cb)
+                .containsAny(keyword, u.get("username"), u.get("email"))
+                .eq(u.get("provider"), provider)
+                .eq(u.get("role"), role)
+                .build();
+        return findAll(spec, pageable);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package me.dodo.readingnotes.scheduler;
+
+import me.dodo.readingnotes.service.LogArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LogPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(LogPartitionScheduler.class);
+
+    private final LogArchiveService logArchiveService;
+
+    public LogPartitionScheduler(LogArchiveService logArchiveService) {
+        this.logArchiveService = logArchiveService;
+    }
+
+    // 서버 시작 시 이번 달/다음 달 파티션이 없으면 바로 생성
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        try {
+            logArchiveService.ensureUpcomingPartitions();
+        } catch (Exception e) {
+            log.warn("로그 파티션 생성 실패", e);
+        }
+    }
+
+    // 매일 오전 3시 30분 실행 (공지 만료 이후)
+    @Scheduled(cron = "${log.retention.cron:0 30 3 * * *}")
+    public void rotateLogPartitions() {
+        try {
+            logArchiveService.ensureUpcomingPartitions();
+            int archived = logArchiveService.archiveExpiredPartitions();
+            log.info("로그 파티션 아카이브: {}개", archived);
+        } catch (Exception e) {
+            log.error("로그 파티션 정리 실패", e);
+        }
+    }
+}
@@ -1,77 +1,147 @@
 package me.dodo.readingnotes.service;
 
-import me.dodo.readingnotes.domain.ApiLog;
-import me.dodo.readingnotes.domain.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import me.dodo.readingnotes.dto.log.ApiLogCommand;
-import me.dodo.readingnotes.repository.ApiLogRepository;
-import me.dodo.readingnotes.repository.UserRepository;
+import me.dodo.readingnotes.repository.ApiLogBatchRepository;
+import me.dodo.readingnotes.util.BoundedRingBuffer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// API 로그 write-behind
+// 요청 스레드는 링 버퍼에 넣기만 하고, 백그라운드 writer 스레드가 모아서 다건 INSERT 함.
+// - 배치 크기만큼 쌓이거나 flush 주기가 지나면 저장
+// - 버퍼가 가득 차면 요청을 기다리게 하지 않고 버림 (droppedCount 증가)
 @Service
 public class ApiLogService {
 
-    private final ApiLogRepository apiLogRepository;
-    private final UserRepository userRepository;
+    private static final Logger log = LoggerFactory.getLogger(ApiLogService.class);
 
-    public ApiLogService(ApiLogRepository apiLogRepository,
-                         UserRepository userRepository) {
-        this.apiLogRepository = apiLogRepository;
-        this.userRepository = userRepository;
-    }
+    private final ApiLogBatchRepository apiLogBatchRepository;
+    private final BoundedRingBuffer<ApiLogCommand> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
 
-    // API 로그 저장
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void save(ApiLogCommand cmd) {
-        try {
-            ApiLog entity = new ApiLog();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private long lastReportedDropped = 0; // writer 스레드에서만 사용
 
-            // user: 실패/비로그인/파싱 실패 등은 null
-            entity.setUser(resolveUserOrNull(cmd.getUserId()));
+    private volatile boolean running = false;
+    private volatile Thread writerThread;
 
-            entity.setUserRole(safe(cmd.getUserRole(), 100));     // 엔티티 length=100
-            entity.setMethod(safe(cmd.getMethod(), 100));
-            entity.setPath(safe(cmd.getPath(), 255));
-            entity.setQueryString(safe(cmd.getQueryString(), 255));
-
-            entity.setStatusCode(cmd.getStatusCode());            // int라 length 무의미하지만 그대로 세팅
-            entity.setResult(cmd.getResult() == null ? ApiLog.Result.FAIL : cmd.getResult());
+    public ApiLogService(ApiLogBatchRepository apiLogBatchRepository,
+                         @Value("${api.log.buffer-capacity:4096}") int bufferCapacity,
+                         @Value("${api.log.batch-size:200}") int batchSize,
+                         @Value("${api.log.flush-interval-ms:2000}") long flushIntervalMs,
+                         MeterRegistry meterRegistry) {
+        this.apiLogBatchRepository = apiLogBatchRepository;
+        this.buffer = new BoundedRingBuffer<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        registerMetrics(meterRegistry);
+    }
 
-            entity.setIpAddress(safe(cmd.getIpAddress(), 45));
-            entity.setUserAgent(safe(cmd.getUserAgent(), 255));
-            entity.setExecutionTimeMs(cmd.getExecutionTimeMs());
+    // 버퍼 적재량, 저장/버림/실패 건수
+    private void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("api.log.buffer.pending", buffer, BoundedRingBuffer::size)
+                .description("저장 대기 중인 API 로그 수")
+                .register(registry);
+        FunctionCounter.builder("api.log.writes", writtenCount, AtomicLong::get)
+                .tag("outcome", "written").register(registry);
+        FunctionCounter.builder("api.log.writes", droppedCount, AtomicLong::get)
+                .tag("outcome", "dropped").register(registry);
+        FunctionCounter.builder("api.log.writes", failedCount, AtomicLong::get)
+                .tag("outcome", "failed").register(registry);
+    }
 
-            entity.setErrorCode(safe(cmd.getErrorCode(), 20));
-            entity.setErrorMessage(safe(cmd.getErrorMessage(), 100));
+    @PostConstruct
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::runWriter, "api-log-writer");
+        thread.setDaemon(true);
+        writerThread = thread;
+        thread.start();
+    }
 
-            apiLogRepository.save(entity);
+    // 종료 시 남은 로그까지 저장
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
 
-        } catch (Exception e) {
-            // 로그 저장 실패는 절대 본 요청을 망치면 안 됨
-            throw new IllegalArgumentException("Failed to save api_logs: {}");
+    // API 로그 저장 요청 (요청 스레드에서 호출, DB 접근 없음)
+    public void enqueue(ApiLogCommand cmd) {
+        if (!buffer.offer(cmd)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        // 배치 크기만큼 모였으면 주기를 기다리지 않고 writer 깨움
+        if (buffer.size() >= batchSize) {
+            Thread thread = writerThread;
+            if (thread != null) LockSupport.unpark(thread);
         }
     }
 
-    // 유저 정보 있는지 확인
-    private User resolveUserOrNull(Long userId) {
-        if (userId == null) return null;
+    public long getDroppedCount() { return droppedCount.get(); }
+    public long getFailedCount() { return failedCount.get(); }
+    public long getWrittenCount() { return writtenCount.get(); }
+    public int getPendingCount() { return buffer.size(); }
+
+    private void runWriter() {
+        List<ApiLogCommand> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            if (running && buffer.size() < batchSize) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+                batch.clear();
+            }
+            reportDropped();
+        }
+    }
 
+    private void flush(List<ApiLogCommand> batch) {
         try {
-            if (!userRepository.existsById(userId)) {
-                return null;
+            writtenCount.addAndGet(apiLogBatchRepository.insertAll(batch, false));
+        } catch (DataIntegrityViolationException e) {
+            // 그 사이 탈퇴한 유저가 섞여 FK 위반 → 없는 유저만 user 없이 한 번 더 저장
+            try {
+                writtenCount.addAndGet(apiLogBatchRepository.insertAll(batch, true));
+            } catch (Exception retryEx) {
+                failedCount.addAndGet(batch.size());
+                log.warn("api_logs 저장 실패: {}건", batch.size(), retryEx);
             }
-            return userRepository.getReferenceById(userId);
         } catch (Exception e) {
-            return null;
+            // 로그 저장 실패는 절대 본 요청을 망치면 안 됨 (버리고 다음 배치 진행)
+            failedCount.addAndGet(batch.size());
+            log.warn("api_logs 저장 실패: {}건", batch.size(), e);
         }
     }
 
-    private String safe(String value, int maxLen) {
-        if (value == null) return null;
-        String v = value.trim();
-        if (v.isEmpty()) return null;
-        if (v.length() <= maxLen) return v;
-        return v.substring(0, maxLen);
+    private void reportDropped() {
+        long dropped = droppedCount.get();
+        if (dropped != lastReportedDropped) {
+            log.warn("api_logs 버퍼가 가득 차서 버린 로그: {}건 (누적 {}건)", dropped - lastReportedDropped, dropped);
+            lastReportedDropped = dropped;
+        }
     }
 }
@@ -7,6 +7,7 @@ import me.dodo.readingnotes.dto.auth.AuthResult;
 import me.dodo.readingnotes.exception.AuthException;
 import me.dodo.readingnotes.repository.RefreshTokenRepository;
 import me.dodo.readingnotes.repository.UserRepository;
+import me.dodo.readingnotes.util.AccessTokenRevocationStore;
 import me.dodo.readingnotes.util.DeviceInfoParser;
 import me.dodo.readingnotes.util.JwtTokenProvider;
 import me.dodo.readingnotes.util.TokenHasher;
@@ -31,6 +32,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final AuthLogService userAuthLogService;
+    private final AccessTokenRevocationStore revocationStore;
 
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
@@ -39,12 +41,14 @@ public class AuthService {
                        RefreshTokenRepository refreshTokenRepository,
                        UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
-                       AuthLogService userAuthLogService) {
+                       AuthLogService userAuthLogService,
+                       AccessTokenRevocationStore revocationStore) {
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenRepository = refreshTokenRepository;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.userAuthLogService = userAuthLogService;
+        this.revocationStore = revocationStore;
     }
 
     // 유저 로그인(필요한 최소 정보만 따로 받음)
@@ -63,6 +67,10 @@ public class AuthService {
             userAuthLogService.logLoginFail(user, email, "LOCAL", "차단된 계정입니다.", httpRequest);
             throw new AuthException("차단된 계정입니다.");
         }
+        if(user.getUserStatus() == User.UserStatus.DELETING){
+            userAuthLogService.logLoginFail(user, email, "LOCAL", "탈퇴 처리 중인 계정입니다.", httpRequest);
+            throw new AuthException("탈퇴 처리 중인 계정입니다.");
+        }
         if(!passwordEncoder.matches(password,user.getPassword())){ // 평문 비교가 아닌 해시 비교
             userAuthLogService.logLoginFail(user, email, "LOCAL", "비밀번호가 일치하지 않습니다.", httpRequest);
             throw new AuthException("비밀번호가 일치하지 않습니다.");
@@ -96,9 +104,9 @@ public class AuthService {
         return new AuthResult(user, accessToken, refreshToken, expiresIn, serverTime);
     }
 
-    // 현재 기기에서 로그아웃(RefreshToken 삭제)
+    // 현재 기기에서 로그아웃(RefreshToken 삭제 + 현재 access token 폐기)
     @Transactional
-    public void logoutUser(Long userId, String userAgent) {
+    public void logoutUser(Long userId, String userAgent, String accessTokenId) {
         User user = userRepository.findById(userId).
             orElseThrow(()->new IllegalArgumentException("존재하지 않는 유저입니다."));
 
@@ -112,6 +120,8 @@ public class AuthService {
 
         // refreshToken DB에서 삭제
         refreshTokenRepository.delete(token);
+        // 지금 사용 중인 access token도 즉시 무효화
+        revocationStore.revokeToken(accessTokenId);
 
         // 해당 기기 로그아웃 로그 저장
         HttpServletRequest httpRequest = getCurrentHttpRequest();
@@ -126,6 +136,8 @@ public class AuthService {
 
         // 해당 유저의 모든 디바이스의 RefreshToken 삭제
         refreshTokenRepository.deleteAllByUserId(userId);
+        // 이미 발급된 access token도 즉시 무효화 (만료까지 기다리지 않음)
+        revocationStore.revokeAllIssuedBefore(userId);
 
         // 모든 기기 로그아웃 로그 저장
         HttpServletRequest httpRequest = getCurrentHttpRequest();
@@ -1,32 +1,19 @@
 package me.dodo.readingnotes.service;
 
-import me.dodo.readingnotes.domain.Book;
 import me.dodo.readingnotes.domain.BookComment;
-import me.dodo.readingnotes.domain.User;
 import me.dodo.readingnotes.dto.book.BookCommentRequest;
 import me.dodo.readingnotes.dto.book.BookCommentResponse;
 import me.dodo.readingnotes.repository.BookCommentRepository;
-import me.dodo.readingnotes.repository.BookRepository;
-import me.dodo.readingnotes.repository.UserRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.Optional;
-
 @Service
 public class BookCommentService {
 
     private final BookCommentRepository bookCommentRepository;
-    private final BookRepository bookRepository;
-    private final UserRepository userRepository;
 
-    public BookCommentService(BookCommentRepository bookCommentRepository,
-                              BookRepository bookRepository,
-                              UserRepository userRepository) {
+    public BookCommentService(BookCommentRepository bookCommentRepository) {
         this.bookCommentRepository = bookCommentRepository;
-        this.bookRepository = bookRepository;
-        this.userRepository = userRepository;
     }
 
     // 책 코멘트 조회 (없으면 null)
@@ -45,28 +32,10 @@ public class BookCommentService {
             throw new IllegalArgumentException("코멘트 내용이 비어있습니다.");
         }
 
-        Optional<BookComment> existing = bookCommentRepository.findByUser_IdAndBook_Id(userId, bookId);
-
-        BookComment comment;
-        if (existing.isPresent()) {
-            // 수정
-            comment = existing.get();
-            comment.setContent(content.trim());
-            comment.setUpdatedAt(LocalDateTime.now());
-        } else {
-            // 신규 생성
-            User user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자"));
-            Book book = bookRepository.findById(bookId)
-                    .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책"));
-
-            comment = new BookComment();
-            comment.setUser(user);
-            comment.setBook(book);
-            comment.setContent(content.trim());
-        }
-
-        return new BookCommentResponse(bookCommentRepository.save(comment));
+        // 있으면 수정, 없으면 생성 (INSERT ... ON CONFLICT 한 번)
+        BookComment comment = bookCommentRepository.upsert(userId, bookId, content.trim())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 책"));
+        return new BookCommentResponse(comment);
     }
 
     // 책 코멘트 삭제
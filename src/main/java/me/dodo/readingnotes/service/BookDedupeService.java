@@ -0,0 +1,306 @@
+package me.dodo.readingnotes.service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import me.dodo.readingnotes.domain.Book;
+import me.dodo.readingnotes.domain.BookSourceLink;
+import me.dodo.readingnotes.dto.admin.BookDedupeStatusResponse;
+import me.dodo.readingnotes.repository.BookMergeRepository;
+import me.dodo.readingnotes.repository.BookMergeRepository.DedupeBook;
+import me.dodo.readingnotes.repository.BookMergeRepository.MergeCounts;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// 중복 책 탐색/병합 작업 (관리자 요청 시 백그라운드 실행)
+// - ISBN13 없이 들어온 책은 매번 새로 생성되므로 같은 책이 여러 행으로 쌓임
+// - 블로킹 키(정규화 제목 앞 2글자 + 작가 토큰)가 같은 책끼리만 비교 → 전체 쌍 비교를 피함
+// - 유사도는 BookMatcherService와 같은 기준, 임계값 이상인 쌍을 점수 높은 순으로 union-find로 묶음
+// - 묶음마다 대표 책을 정하고 기록/출처 링크/핀/코멘트를 벌크 UPDATE로 옮긴 뒤 중복 책 삭제 (묶음당 트랜잭션 1개)
+// - dryRun이면 묶음만 계산해서 보여주고 DB는 바꾸지 않음
+@Service
+public class BookDedupeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookDedupeService.class);
+    private static final int MAX_BLOCK_SIZE = 500;  // 이보다 큰 블록은 키가 너무 흔한 경우라 건너뜀
+    private static final int MAX_SAMPLES = 100;
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+
+    private final BookMergeRepository bookMergeRepository;
+    private final BookMatcherService bookMatcherService;
+    private final TransactionTemplate txTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final double threshold;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "book-dedupe-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Progress progress;
+
+    public BookDedupeService(BookMergeRepository bookMergeRepository,
+                             BookMatcherService bookMatcherService,
+                             PlatformTransactionManager transactionManager,
+                             EntityManagerFactory entityManagerFactory,
+                             @Value("${book.dedupe.threshold:0.95}") double threshold) {
+        this.bookMergeRepository = bookMergeRepository;
+        this.bookMatcherService = bookMatcherService;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.entityManagerFactory = entityManagerFactory;
+        this.threshold = threshold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // 작업 시작 (이미 실행 중이면 거절)
+    public BookDedupeStatusResponse start(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("이미 중복 책 정리 작업이 실행 중입니다.");
+        }
+        Progress p = new Progress(dryRun);
+        progress = p;
+        try {
+            jobExecutor.execute(() -> run(p));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getStatus();
+    }
+
+    public BookDedupeStatusResponse getStatus() {
+        Progress p = progress;
+        if (p == null) {
+            return new BookDedupeStatusResponse(false, true, null, null, 0, 0, 0, 0, 0, 0,
+                    0, 0, 0, 0, 0, 0, List.of(), null);
+        }
+        return p.toResponse(running.get());
+    }
+
+    private void run(Progress p) {
+        try {
+            List<DedupeBook> books = bookMergeRepository.findAllForDedupe();
+            p.scannedBooks = books.size();
+
+            List<List<DedupeBook>> clusters = findClusters(books, p);
+            p.clusters = clusters.size();
+            p.duplicateBooks = clusters.stream().mapToLong(c -> c.size() - 1).sum();
+            log.info("중복 책 탐색 완료: 책={}, 블록={}, 비교={}, 묶음={}, 중복={}, dryRun={}",
+                    p.scannedBooks, p.blocks, p.comparisons, p.clusters, p.duplicateBooks, p.dryRun);
+
+            for (List<DedupeBook> cluster : clusters) {
+                DedupeBook canonical = cluster.get(0);
+                List<Long> duplicateIds = cluster.subList(1, cluster.size()).stream().map(DedupeBook::id).toList();
+                if (p.samples.size() < MAX_SAMPLES) {
+                    p.samples.add(new BookDedupeStatusResponse.Cluster(
+                            canonical.id(), canonical.title(), canonical.author(), duplicateIds));
+                }
+                if (p.dryRun) continue;
+
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("중복 책 병합 중단: 병합한 책={}", p.mergedBooks);
+                    return;
+                }
+                try {
+                    MergeCounts counts = txTemplate.execute(
+                            status -> bookMergeRepository.merge(canonical.id(), duplicateIds));
+                    Objects.requireNonNull(counts);
+                    evictMerged(canonical.id(), duplicateIds);
+                    p.mergedBooks += counts.deletedBooks();
+                    p.movedRecords += counts.records();
+                    p.movedSourceLinks += counts.sourceLinks();
+                    p.movedPins += counts.pins();
+                    p.movedComments += counts.comments();
+                } catch (Exception e) {
+                    // 한 묶음 실패는 롤백되고 다음 묶음 계속 (다음 실행 때 다시 후보로 잡힘)
+                    p.failedClusters++;
+                    log.warn("중복 책 병합 실패: canonical={}, duplicates={}", canonical.id(), duplicateIds, e);
+                }
+            }
+            if (!p.dryRun) {
+                log.info("중복 책 병합 완료: 삭제={}, 기록 이동={}, 실패 묶음={}",
+                        p.mergedBooks, p.movedRecords, p.failedClusters);
+            }
+        } catch (Exception e) {
+            p.errorMessage = e.getMessage();
+            log.error("중복 책 정리 작업 실패", e);
+        } finally {
+            p.finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    // 병합은 JDBC로 바꾸므로 Hibernate 2차 캐시가 모름 → 커밋 후 직접 제거
+    // (링크는 어느 id가 옮겨졌는지 모르니 region 전체)
+    private void evictMerged(Long canonicalId, List<Long> duplicateIds) {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Book.class, canonicalId);
+        duplicateIds.forEach(id -> cache.evict(Book.class, id));
+        cache.evict(BookSourceLink.class);
+    }
+
+    // 블로킹 → 블록 안 쌍 비교 → 점수 높은 쌍부터 union-find
+    // 반환: 2권 이상인 묶음, 각 묶음의 첫 번째가 대표 책
+    private List<List<DedupeBook>> findClusters(List<DedupeBook> books, Progress p) {
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            DedupeBook b = books.get(i);
+            for (String key : BookMatcherService.blockingKeys(b.title(), b.author())) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+
+        // 작가 토큰이 여러 개면 같은 쌍이 여러 블록에 나오므로 한 번만 비교
+        Set<Long> compared = new HashSet<>();
+        List<ScoredPair> pairs = new ArrayList<>();
+        for (List<Integer> block : blocks.values()) {
+            if (block.size() < 2) continue;
+            if (block.size() > MAX_BLOCK_SIZE) {
+                p.skippedBlocks++;
+                continue;
+            }
+            p.blocks++;
+            for (int x = 0; x < block.size(); x++) {
+                for (int y = x + 1; y < block.size(); y++) {
+                    int i = block.get(x);
+                    int j = block.get(y);
+                    if (!compared.add((long) Math.min(i, j) * books.size() + Math.max(i, j))) continue;
+
+                    DedupeBook a = books.get(i);
+                    DedupeBook b = books.get(j);
+                    if (!mergeable(a, b)) continue;
+                    p.comparisons++;
+                    double score = bookMatcherService.similarity(a.title(), a.author(), b.title(), b.author());
+                    if (score >= threshold) {
+                        pairs.add(new ScoredPair(i, j, score));
+                    }
+                }
+            }
+        }
+
+        pairs.sort(Comparator.comparingDouble(ScoredPair::score).reversed());
+        int[] parent = new int[books.size()];
+        String[] rootIsbn = new String[books.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+            rootIsbn[i] = books.get(i).isbn13();
+        }
+        for (ScoredPair pair : pairs) {
+            int ra = find(parent, pair.a());
+            int rb = find(parent, pair.b());
+            if (ra == rb) continue;
+            // 묶음마다 ISBN13은 최대 1개 (A-B, B-C 연쇄로 서로 다른 ISBN 책이 묶이는 것 방지)
+            if (rootIsbn[ra] != null && rootIsbn[rb] != null && !rootIsbn[ra].equals(rootIsbn[rb])) continue;
+            parent[rb] = ra;
+            if (rootIsbn[ra] == null) rootIsbn[ra] = rootIsbn[rb];
+        }
+
+        Map<Integer, List<DedupeBook>> grouped = new LinkedHashMap<>();
+        for (int i = 0; i < books.size(); i++) {
+            grouped.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(books.get(i));
+        }
+        List<List<DedupeBook>> clusters = new ArrayList<>();
+        for (List<DedupeBook> group : grouped.values()) {
+            if (group.size() < 2) continue;
+            group.sort(CANONICAL_ORDER);
+            clusters.add(group);
+        }
+        return clusters;
+    }
+
+    // 대표 책: 삭제되지 않은 책 > ISBN13 있는 책 > 먼저 생긴 책
+    // (삭제된 책이 대표가 되면 살아 있는 책의 기록이 삭제된 책으로 옮겨짐, ISBN13은 병합 때 대표 책으로 넘어감)
+    static final Comparator<DedupeBook> CANONICAL_ORDER =
+            Comparator.comparing(DedupeBook::deleted)
+                    .thenComparing((DedupeBook b) -> b.isbn13() == null)
+                    .thenComparing(DedupeBook::id);
+
+    // 점수와 무관하게 합치면 안 되는 쌍
+    // - ISBN13이 둘 다 있고 다르면 다른 판본/책
+    // - 제목의 숫자가 다르면 다른 권 ("해리 포터 1" vs "해리 포터 2"는 유사도가 높게 나옴)
+    private static boolean mergeable(DedupeBook a, DedupeBook b) {
+        if (a.isbn13() != null && b.isbn13() != null && !a.isbn13().equals(b.isbn13())) return false;
+        return digits(a.title()).equals(digits(b.title()));
+    }
+
+    private static List<String> digits(String title) {
+        if (title == null) return Collections.emptyList();
+        List<String> result = new ArrayList<>();
+        Matcher m = DIGITS.matcher(title);
+        while (m.find()) {
+            result.add(m.group().replaceFirst("^0+(?=\\d)", ""));
+        }
+        return result;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private record ScoredPair(int a, int b, double score) {}
+
+    // 작업 스레드만 쓰고 요청 스레드는 읽기만 함
+    private static final class Progress {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final boolean dryRun;
+        final List<BookDedupeStatusResponse.Cluster> samples = Collections.synchronizedList(new ArrayList<>());
+        volatile LocalDateTime finishedAt;
+        volatile long scannedBooks;
+        volatile long blocks;
+        volatile long skippedBlocks;
+        volatile long comparisons;
+        volatile long clusters;
+        volatile long duplicateBooks;
+        volatile long mergedBooks;
+        volatile long movedRecords;
+        volatile long movedSourceLinks;
+        volatile long movedPins;
+        volatile long movedComments;
+        volatile long failedClusters;
+        volatile String errorMessage;
+
+        Progress(boolean dryRun) {
+            this.dryRun = dryRun;
+        }
+
+        BookDedupeStatusResponse toResponse(boolean running) {
+            List<BookDedupeStatusResponse.Cluster> sampleCopy;
+            synchronized (samples) {
+                sampleCopy = List.copyOf(samples);
+            }
+            return new BookDedupeStatusResponse(running, dryRun, startedAt, finishedAt, scannedBooks, blocks,
+                    skippedBlocks, comparisons, clusters, duplicateBooks, mergedBooks, movedRecords,
+                    movedSourceLinks, movedPins, movedComments, failedClusters, sampleCopy, errorMessage);
+        }
+    }
+}
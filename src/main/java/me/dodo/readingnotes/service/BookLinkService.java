@@ -1,7 +1,7 @@
 package me.dodo.readingnotes.service;
 
+import jakarta.persistence.EntityManagerFactory;
 import me.dodo.readingnotes.domain.Book;
-import me.dodo.readingnotes.domain.BookSourceLink;
 import me.dodo.readingnotes.domain.ReadingRecord;
 import me.dodo.readingnotes.dto.book.LinkBookRequest;
 import me.dodo.readingnotes.repository.BookRepository;
@@ -11,10 +11,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 @Service
 public class BookLinkService {
@@ -23,13 +26,16 @@ public class BookLinkService {
     private final BookRepository bookRepo;
     private final BookSourceLinkRepository linkRepo;
     private final ReadingRecordRepository recordRepo;
+    private final EntityManagerFactory entityManagerFactory;
 
     public BookLinkService(BookRepository bookRepo,
                            BookSourceLinkRepository linkRepo,
-                           ReadingRecordRepository recordRepo) {
+                           ReadingRecordRepository recordRepo,
+                           EntityManagerFactory entityManagerFactory) {
         this.bookRepo = bookRepo;
         this.linkRepo = linkRepo;
         this.recordRepo = recordRepo;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     // 책 수동 매칭
@@ -66,16 +72,51 @@ public class BookLinkService {
         rec.setMatchedAt(LocalDateTime.now()); // 매칭된 시간 저장
     }
 
+    // 같은 책으로 묶인 매칭 대기 기록들을 한 번에 자동 매칭 (재매칭 작업, 일괄 등록용)
+    // Book/SourceLink는 한 번만 upsert 하고 기록은 벌크 UPDATE, 반영된 기록 수 반환
+    @Transactional
+    public int linkPendingRecordsAuto(List<Long> recordIds, LinkBookRequest req, Double score, String providerPayloadJson) {
+        if (recordIds.isEmpty()) return 0;
+        Book book = upsertBook(req);
+        upsertSourceLink(book, req, score, providerPayloadJson);
+        return recordRepo.linkPendingRecords(recordIds, book, LocalDateTime.now());
+    }
+
+    // 매칭 대기 기록들의 상태만 변경 (NO_CANDIDATE / MULTIPLE_CANDIDATES)
+    @Transactional
+    public int markPendingRecords(List<Long> recordIds, ReadingRecord.MatchStatus status) {
+        if (recordIds.isEmpty()) return 0;
+        return recordRepo.updatePendingStatus(recordIds, status, LocalDateTime.now());
+    }
+
     // Book 엔티티에 upsert
     private Book upsertBook(LinkBookRequest r) {
         if (r.getIsbn13() != null && !r.getIsbn13().isBlank()) {
-            return bookRepo.findByIsbn13(r.getIsbn13())
-                    .orElseGet(() -> bookRepo.save(toBook(r)));
+            // 조회 후 저장 대신 INSERT ... ON CONFLICT 한 번 (동시에 같은 ISBN이 매칭돼도 실패 없음)
+            Long bookId = bookRepo.upsertByIsbn13(r.getTitle(), r.getAuthor(), r.getPublisher(), r.getIsbn10(),
+                    r.getIsbn13(), parseFlexible(r.getPublishedDate()), r.getCoverUrl());
+            // 기존 책이면 빈 정보가 채워졌을 수 있으므로 2차 캐시에서 제거
+            evictBook(bookId);
+            return bookRepo.getReferenceById(bookId); // 기록 연결용 참조만 (SELECT 없음)
         }
         // ISBN13이 없으면(기존 값이 없으면) 제목/저자 기준 신규 생성(나중에 중복 가능성 해결해야함)
         return bookRepo.save(toBook(r));
     }
 
+    // 네이티브 UPDATE는 Hibernate가 모르므로 2차 캐시를 직접 비움
+    // 지금 한 번 + 커밋 후 한 번 (그 사이 다른 트랜잭션이 커밋 전 값을 다시 캐시에 넣을 수 있음)
+    private void evictBook(Long bookId) {
+        entityManagerFactory.getCache().evict(Book.class, bookId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(Book.class, bookId);
+                }
+            });
+        }
+    }
+
     // 찾아온 책 정보 책 엔티티로 옮김
     private Book toBook(LinkBookRequest r) {
         Book b = new Book();
@@ -96,21 +137,10 @@ public class BookLinkService {
     private void upsertSourceLink(Book book, LinkBookRequest r, Double score, String metaJson) {
         if (r.getSource() == null) return;
         if (r.getSource() == "LOCAL") return; // LOCAL은 pass
-        // 기존 값 없으면 새로 생성
-        BookSourceLink link = linkRepo.findBySourceAndExternalId(r.getSource(), r.getExternalId())
-                .orElseGet(BookSourceLink::new);
-        link.setBook(book);
-        link.setSource(r.getSource());
-        link.setExternalId(r.getExternalId());
-        link.setIsbn10(r.getIsbn10());
-        link.setIsbn13(r.getIsbn13());
-        // 자동 매칭이라면 점수/원문 스냅샷을 남겨 추적 가능하게 함
-        if (metaJson != null && !metaJson.isBlank()) {
-            // 기존 수동 흐름과 충돌하지 않게 누적 또는 덮어쓰기 전략 택1
-            link.setMetaJson(metaJson);
-        }
-        link.setCreatedAt(java.time.LocalDateTime.now());
-        linkRepo.save(link);
+        // 기존 링크가 있으면 이 책으로 갱신, 없으면 생성 (INSERT ... ON CONFLICT 한 번)
+        // 자동 매칭이라면 점수/원문 스냅샷을 남겨 추적 가능하게 함 (수동 매칭은 기존 메타 유지)
+        String meta = metaJson == null || metaJson.isBlank() ? null : metaJson;
+        linkRepo.upsert(book.getId(), r.getSource(), r.getExternalId(), r.getIsbn10(), r.getIsbn13(), meta);
     }
     // 수동 매칭 시 사용
     private void upsertSourceLink(Book book, LinkBookRequest r) {
@@ -108,6 +108,37 @@ public class BookMatcherService {
 
     }
 
+    // 두 책의 유사도 (pickBest와 같은 기준: 강매칭이면 1.0, 아니면 제목/작가 가중 평균)
+    public double similarity(String titleA, String authorA, String titleB, String authorB) {
+        String ta = normTitle(titleA);
+        String aa = normAuthorField(authorA);
+        String tb = normTitle(titleB);
+        String ab = normAuthorField(authorB);
+        if (ta.equals(tb) && authorOverlap(aa, ab)) return 1.0;
+        return (nonNull(sim.apply(ta, tb)) * TITLE_WEIGHT) + (nonNull(sim.apply(aa, ab)) * AUTHOR_WEIGHT);
+    }
+
+    // 중복 책 탐색용 블로킹 키: 정규화 제목 앞 2글자(공백 제외) + 작가 토큰
+    // 같은 키를 가진 책끼리만 비교해서 전체 쌍 비교(O(n²))를 피함
+    public static Set<String> blockingKeys(String title, String author) {
+        String t = normTitle(title).replace(" ", "");
+        String prefix = t.substring(0, Math.min(2, t.length()));
+
+        Set<String> keys = new HashSet<>();
+        for (String token : normAuthorField(author).split("[\\s·]+")) {
+            if (token.isEmpty() || AUTHOR_STOPWORDS.contains(token)) continue;
+            keys.add(prefix + "|" + token);
+        }
+        // 작가가 비어 있으면 제목 앞 글자만으로 묶음
+        if (keys.isEmpty()) keys.add(prefix + "|");
+        return keys;
+    }
+
+    // 대량 재매칭 시 같은 책끼리 묶는 키 (정규화한 제목 + 작가, 구두점은 정규화에서 지워지므로 '|'로 구분)
+    public static String matchKey(String rawTitle, String rawAuthor) {
+        return normTitle(rawTitle) + "|" + normAuthorField(rawAuthor);
+    }
+
     // 정규화
     private static String normTitle(String s) {
         if (s == null) return "";
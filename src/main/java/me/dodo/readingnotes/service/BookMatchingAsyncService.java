@@ -1,7 +1,8 @@
 package me.dodo.readingnotes.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import me.dodo.readingnotes.domain.Book;
 import me.dodo.readingnotes.domain.ReadingRecord;
 import me.dodo.readingnotes.dto.book.BookCandidate;
@@ -11,11 +12,14 @@ import me.dodo.readingnotes.external.client.KakaoBookClient;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Semaphore;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,81 +30,207 @@ public class BookMatchingAsyncService {
     private final KakaoBookClient kakaoBookClient;
     private final BookLinkService bookLinkService;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    // 매칭 단계별 소요 시간 (local_lookup / external_search / link)
+    private final Timer localLookupTimer;
+    private final Timer externalSearchTimer;
+    private final Timer linkTimer;
+
+    // @Async 매칭 동시 실행 수 제한
+    // 가상 스레드 모드의 @Async는 풀/큐 없이 바로 실행되므로 여기서 제한 (executor의 concurrency-limit은 호출한 요청 스레드를 막음)
+    // 요청 스레드는 바로 반환되고, 비동기 작업 안에서 차례를 기다림
+    private final Semaphore matchingPermits;
 
     @Autowired
     public BookMatchingAsyncService(BookMatcherService bookMatcherService,
                                     KakaoBookClient kakaoBookClient,
                                     BookLinkService bookLinkService,
-                                    ObjectMapper objectMapper) {
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${book.matching.max-concurrent:2}") int maxConcurrent) {
         this.bookMatcherService = bookMatcherService;
         this.kakaoBookClient = kakaoBookClient;
         this.bookLinkService = bookLinkService;
         this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.localLookupTimer = stageTimer("local_lookup");
+        this.externalSearchTimer = stageTimer("external_search");
+        this.linkTimer = stageTimer("link");
+        this.matchingPermits = new Semaphore(maxConcurrent);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("book.matching.stage")
+                .description("책 매칭 단계별 소요 시간")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    // 매칭 결과 카운트 (local / external / none)
+    private void countResult(String outcome) {
+        meterRegistry.counter("book.matching.result", "outcome", outcome).increment();
     }
 
     // 책 검색 후 매칭
+    // 트랜잭션 없음: 차례를 기다리거나 외부 API를 부르는 동안 커넥션을 잡지 않도록 (연결 저장은 BookLinkService 트랜잭션)
     @Async
-    @Transactional
     public void matchAndSave(ReadingRecord record) {
-        // 기존 책 테이블에서 책 검색 (최대 10개)
-        List<Book> existingBooks = bookMatcherService.fetchCandidatesFromBookTable(
-                record.getRawTitle(), record.getRawAuthor(), 10);
-        // 최종 선택된 책
-        MatchResult result;
-
-        // 책 테이블에 책이 있다면
-        if (!existingBooks.isEmpty()) {
-            // Book -> BookCandidate 변환
-            List<BookCandidate> candidates = existingBooks.stream()
-                    .map(b -> toBookCandidate(b))
-                    .collect(Collectors.toList());
-            // 매칭 시도
-            result = bookMatcherService.pickBest(record.getRawTitle(), record.getRawAuthor(), candidates);
-
-            // 강매칭이거나 높은 점수면 기존 책 사용
-            if (result.isAutoMatch() || result.getScore() > 0.85) {
-                log.info("기존 책 테이블에서 매칭 성공: {} (score: {})", result.getBest().getTitle(), result.getScore());
+        withMatchingPermit(() -> {
+            // 기존 책 테이블에서 확실한 매칭이 있으면 외부 API 호출하지 않음
+            MatchResult result = matchFromBookTable(record.getRawTitle(), record.getRawAuthor());
+            if (result != null) {
                 saveMatchResult(record, result);
+                countResult("local");
                 return;
             }
+            // Kakao 검색
+            List<BookCandidate> candidates = searchExternal(record.getRawTitle(), record.getRawAuthor());
+            // BookMatcher로 베스트 선택
+            result = bookMatcherService.pickBest(record.getRawTitle(), record.getRawAuthor(), candidates);
+            saveMatchResult(record, result); // 매칭 저장
+            countResult(result.getBest() != null && result.isAutoMatch() ? "external" : "none");
+        });
+    }
 
-            log.info("기존 책 중 확실한 매칭 없음. 외부 API 검색 진행...");
+    // 같은 (제목, 작가)로 들어온 기록 묶음을 한 번에 매칭 (검색 1회, 연결은 벌크 UPDATE 1회)
+    // 확실한 매칭이 없으면 matchAndSave와 같이 PENDING 그대로 둠, 반환: 연결된 기록 수
+    public int matchGroup(String rawTitle, String rawAuthor, List<Long> recordIds) {
+        try {
+            return matchGroup(rawTitle, rawAuthor, recordIds, 0);
+        } catch (InterruptedException e) {
+            // 간격 0이면 쉬지 않으므로 오지 않음
+            Thread.currentThread().interrupt();
+            return 0;
+        }
+    }
+
+    // 묶음을 연달아 매칭할 때 (가져오기): 외부 API를 불렀으면 externalCallIntervalMs만큼 쉬고 연결
+    // 책 테이블에서 찾으면 쉬지 않음
+    public int matchGroup(String rawTitle, String rawAuthor, List<Long> recordIds,
+                          long externalCallIntervalMs) throws InterruptedException {
+        MatchResult result = matchFromBookTable(rawTitle, rawAuthor);
+        String outcome = "local";
+        if (result == null) {
+            List<BookCandidate> candidates = searchExternal(rawTitle, rawAuthor);
+            if (externalCallIntervalMs > 0) {
+                Thread.sleep(externalCallIntervalMs); // 외부 API 호출 간격 (요청 폭주 방지)
+            }
+            result = bookMatcherService.pickBest(rawTitle, rawAuthor, candidates);
+            outcome = "external";
+        }
+        if (result.getBest() == null || !result.isAutoMatch()) {
+            countResult("none");
+            return 0;
         }
-        // Kakao 검색
-        List<BookCandidate> candidates = kakaoBookClient.search(record.getRawTitle(), record.getRawAuthor(), 10);
-        // BookMatcher로 베스트 선택
-        result = bookMatcherService.pickBest(record.getRawTitle(), record.getRawAuthor(), candidates);
-        saveMatchResult(record, result); // 매칭 저장
+        LinkBookRequest reqDto = LinkBookRequest.fromCandidate(result.getBest());
+        String snapshotJson = snapshotJson(rawTitle, rawAuthor, reqDto, result);
+        double score = result.getScore();
+        int linked = linkTimer.record(() ->
+                bookLinkService.linkPendingRecordsAuto(recordIds, reqDto, score, snapshotJson));
+        countResult(outcome);
+        return linked;
+    }
+
+    // 요청 스레드에서 바로 반환해야 할 때 (묶음 단위로 큐에 들어감)
+    @Async
+    public void matchGroupAsync(String rawTitle, String rawAuthor, List<Long> recordIds) {
+        withMatchingPermit(() -> {
+            try {
+                matchGroup(rawTitle, rawAuthor, recordIds);
+            } catch (Exception e) {
+                log.warn("묶음 매칭 실패 (PENDING 유지): title={}, author={}, records={}",
+                        rawTitle, rawAuthor, recordIds.size(), e);
+            }
+        });
+    }
+
+    // 동시 실행 수 안에서 task 실행 (기다리다 인터럽트되면 실행하지 않음 → PENDING 유지)
+    private void withMatchingPermit(Runnable task) {
+        try {
+            matchingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("매칭 대기 중 인터럽트 (PENDING 유지)");
+            return;
+        }
+        try {
+            task.run();
+        } finally {
+            matchingPermits.release();
+        }
+    }
+
+    // 기존 책 테이블에서 매칭 (확실한 매칭이 없으면 null)
+    public MatchResult matchFromBookTable(String rawTitle, String rawAuthor) {
+        // 기존 책 테이블에서 책 검색 (최대 10개)
+        List<Book> existingBooks = localLookupTimer.record(
+                () -> bookMatcherService.fetchCandidatesFromBookTable(rawTitle, rawAuthor, 10));
+        if (existingBooks.isEmpty()) return null;
+
+        // Book -> BookCandidate 변환
+        List<BookCandidate> candidates = existingBooks.stream()
+                .map(b -> toBookCandidate(b))
+                .collect(Collectors.toList());
+        // 매칭 시도
+        MatchResult result = bookMatcherService.pickBest(rawTitle, rawAuthor, candidates);
+
+        // 강매칭이거나 높은 점수면 기존 책 사용
+        if (result.isAutoMatch() || result.getScore() > 0.85) {
+            log.info("기존 책 테이블에서 매칭 성공: {} (score: {})", result.getBest().getTitle(), result.getScore());
+            return result;
+        }
+        log.info("기존 책 중 확실한 매칭 없음. 외부 API 검색 진행...");
+        return null;
+    }
+
+    // 외부 API(Kakao) 검색 (최대 10개)
+    public List<BookCandidate> searchExternal(String rawTitle, String rawAuthor) {
+        return externalSearchTimer.record(() -> kakaoBookClient.search(rawTitle, rawAuthor, 10));
     }
 
     private void saveMatchResult(ReadingRecord record, MatchResult result) {
         if (result.getBest() == null || !result.isAutoMatch()) return;
         //검색결과 DTO → 저장 명령 DTO 변환
         LinkBookRequest reqDto = LinkBookRequest.fromCandidate(result.getBest());
-        // 스냅샷(근거 데이터) JSON 구성
-        Map<String, Object> snapshot = Map.of(
-                "provider", reqDto.getSource(),
-                "score", result.getScore(),
-                "query", Map.of("title", record.getRawTitle(), "author", record.getRawAuthor()),
-                "candidate", Map.of(
-                        "title", result.getBest().getTitle(),
-                        "author", result.getBest().getAuthor(),
-                        "isbn10", result.getBest().getIsbn10(),
-                        "isbn13", result.getBest().getIsbn13(),
-                        "publisher", result.getBest().getPublisher(),
-                        "publishedDate", result.getBest().getPublishedDate() == null ? null : result.getBest().getPublishedDate().toString(),
-                        "thumbnailUrl", result.getBest().getThumbnailUrl(),
-                        "externalId", result.getBest().getExternalId()
-                ),
-                "matcher", Map.of(
-                        "threshold", 0.88,
-                        "weights", Map.of("title", 0.7, "author", 0.3),
-                        "version", "2025-08-18"
-                )
-        );
-
-        bookLinkService.linkRecordAuto(record.getId(), reqDto, result.getScore(), toJsonSafe(snapshot));
+        String snapshotJson = snapshotJson(record.getRawTitle(), record.getRawAuthor(), reqDto, result);
+
+        linkTimer.record(() ->
+                bookLinkService.linkRecordAuto(record.getId(), reqDto, result.getScore(), snapshotJson));
+    }
+
+    // 스냅샷(근거 데이터) JSON 구성
+    // 후보의 isbn/출판일 등은 비어 있을 수 있어서 null을 허용하지 않는 Map.of 대신 LinkedHashMap 사용
+    public String snapshotJson(String rawTitle, String rawAuthor, LinkBookRequest reqDto, MatchResult result) {
+        BookCandidate best = result.getBest();
+
+        Map<String, Object> query = new LinkedHashMap<>();
+        query.put("title", rawTitle);
+        query.put("author", rawAuthor);
+
+        Map<String, Object> candidate = new LinkedHashMap<>();
+        candidate.put("title", best.getTitle());
+        candidate.put("author", best.getAuthor());
+        candidate.put("isbn10", best.getIsbn10());
+        candidate.put("isbn13", best.getIsbn13());
+        candidate.put("publisher", best.getPublisher());
+        candidate.put("publishedDate", best.getPublishedDate() == null ? null : best.getPublishedDate().toString());
+        candidate.put("thumbnailUrl", best.getThumbnailUrl());
+        candidate.put("externalId", best.getExternalId());
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("provider", reqDto.getSource());
+        snapshot.put("score", result.getScore());
+        snapshot.put("query", query);
+        snapshot.put("candidate", candidate);
+        snapshot.put("matcher", Map.of(
+                "threshold", 0.88,
+                "weights", Map.of("title", 0.7, "author", 0.3),
+                "version", "2025-08-18"
+        ));
+        return toJsonSafe(snapshot);
     }
+
     private String toJsonSafe(Object obj) {
         try {
             return objectMapper.writeValueAsString(obj);
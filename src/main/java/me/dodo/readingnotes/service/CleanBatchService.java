@@ -1,50 +1,170 @@
 package me.dodo.readingnotes.service;
 
-import me.dodo.readingnotes.domain.ReadingRecord;
+import jakarta.annotation.PreDestroy;
+import me.dodo.readingnotes.dto.admin.CleanJobStatusResponse;
+import me.dodo.readingnotes.dto.admin.CleanJobStatusResponse.State;
 import me.dodo.readingnotes.dto.reading.SentenceCleanProjection;
+import me.dodo.readingnotes.repository.BatchCheckpointRepository;
+import me.dodo.readingnotes.repository.BatchCheckpointRepository.Checkpoint;
+import me.dodo.readingnotes.repository.BatchCheckpointRepository.Status;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository.CleanedSentence;
 import me.dodo.readingnotes.repository.ReadingRecordRepository;
 import me.dodo.readingnotes.util.EbookSourceCleaner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+// sentence 출처 문구 일괄 정리 작업 (관리자 요청 시 백그라운드 실행)
+// - id keyset으로 pageSize씩 읽고, 정리는 코어 수만큼 병렬 처리
+// - 바뀐 행만 JDBC batch UPDATE, 같은 트랜잭션에서 체크포인트(last_id) 갱신
+// - 읽은 뒤 사용자가 문장을 고친 행은 덮어쓰지 않고 건너뜀 (skippedChanged로 집계)
+// - 서버가 중간에 내려가도 다시 시작하면 마지막 체크포인트 다음부터 이어서 처리
 @Service
 public class CleanBatchService {
 
+    private static final Logger log = LoggerFactory.getLogger(CleanBatchService.class);
+    static final String JOB_NAME = "sentence-clean";
+
     private final ReadingRecordRepository readingRecordRepository;
+    private final ReadingRecordBatchRepository readingRecordBatchRepository;
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate txTemplate;
+
+    private final int pageSize;
+    private final int parallelism;
+
+    // 작업 실행 전용 스레드 (@Async 풀은 책 매칭용이라 쓰지 않음)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "sentence-clean-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Long totalEstimate;
+    private volatile Long skippedChanged;
 
     @Autowired
-    public CleanBatchService(ReadingRecordRepository readingRecordRepository) {
+    public CleanBatchService(ReadingRecordRepository readingRecordRepository,
+                             ReadingRecordBatchRepository readingRecordBatchRepository,
+                             BatchCheckpointRepository checkpointRepository,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${clean.sentences.page-size:2000}") int pageSize,
+                             @Value("${clean.sentences.parallelism:0}") int parallelism) {
         this.readingRecordRepository = readingRecordRepository;
+        this.readingRecordBatchRepository = readingRecordBatchRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.pageSize = pageSize;
+        // 0이면 코어 수만큼
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
     }
 
-    // 배치 1회마다 트랜잭션 종료 — OOM 방지를 위해 ReadingRecordService에서 분리
-    @Transactional
-    public int[] cleanBatch(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        List<SentenceCleanProjection> batch = readingRecordRepository.findAllForClean(pageable).getContent();
-        int updated = 0;
-
-        for (SentenceCleanProjection proj : batch) {
-            String base = proj.getSentenceOriginal() != null
-                    ? proj.getSentenceOriginal()
-                    : proj.getSentence();
-            String cleaned = EbookSourceCleaner.clean(base);
-            if (!cleaned.equals(proj.getSentence())) {
-                ReadingRecord record = readingRecordRepository.findById(proj.getId()).orElse(null);
-                if (record == null) continue;
-                if (record.getSentenceOriginal() == null) {
-                    record.setSentenceOriginal(proj.getSentence());
+    // 작업 시작 (이미 실행 중이면 거절), 요청 스레드는 바로 반환
+    public CleanJobStatusResponse start() {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("이미 sentence 정리 작업이 실행 중입니다.");
+        }
+        try {
+            checkpointRepository.start(JOB_NAME);
+            totalEstimate = readingRecordRepository.countForClean();
+            skippedChanged = 0L;
+            jobExecutor.execute(this::run);
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getStatus();
+    }
+
+    public CleanJobStatusResponse getStatus() {
+        Checkpoint cp = checkpointRepository.find(JOB_NAME).orElse(null);
+        if (cp == null) {
+            return new CleanJobStatusResponse(State.IDLE, 0, 0, 0, null, null, null, null, null, null);
+        }
+        State state = switch (cp.status()) {
+            case RUNNING -> running.get() ? State.RUNNING : State.INTERRUPTED;
+            case COMPLETED -> State.COMPLETED;
+            case FAILED -> State.FAILED;
+        };
+        return new CleanJobStatusResponse(state, cp.lastId(), cp.processed(), cp.updated(),
+                totalEstimate, skippedChanged, cp.startedAt(), cp.updatedAt(), cp.finishedAt(), cp.errorMessage());
+    }
+
+    private void run() {
+        ForkJoinPool cleanerPool = new ForkJoinPool(parallelism);
+        try {
+            long lastId = checkpointRepository.find(JOB_NAME).map(Checkpoint::lastId).orElse(0L);
+            log.info("sentence 일괄 정리 시작: lastId={}, pageSize={}, parallelism={}", lastId, pageSize, parallelism);
+
+            while (true) {
+                // 서버 종료로 중단되면 RUNNING 그대로 두고 빠짐 (다음 시작 때 이어서 처리)
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("sentence 일괄 정리 중단: lastId={}", lastId);
+                    return;
                 }
-                record.setSentence(cleaned);
-                readingRecordRepository.save(record);
-                updated++;
+                List<SentenceCleanProjection> page =
+                        readingRecordRepository.findAllForClean(lastId, PageRequest.of(0, pageSize));
+                if (page.isEmpty()) break;
+
+                // CPU 작업(정규식)만 병렬로
+                List<CleanedSentence> changed = cleanerPool.submit(() -> page.parallelStream()
+                        .map(this::cleanOrNull)
+                        .filter(Objects::nonNull)
+                        .toList()).join();
+
+                long pageLastId = page.get(page.size() - 1).getId();
+                int updated = Objects.requireNonNull(txTemplate.execute(status -> {
+                    int count = readingRecordBatchRepository.updateCleanedSentences(changed);
+                    checkpointRepository.advance(JOB_NAME, pageLastId, page.size(), count);
+                    return count;
+                }));
+                lastId = pageLastId;
+                int skipped = changed.size() - updated;
+                if (skipped > 0) {
+                    skippedChanged += skipped;
+                    log.info("sentence 정리 중 사용자가 고친 기록 건너뜀: lastId={}, 건수={}", lastId, skipped);
+                }
+                log.debug("sentence 정리 진행: lastId={}, 이번 페이지 수정={}", lastId, updated);
             }
+
+            checkpointRepository.finish(JOB_NAME, Status.COMPLETED, null);
+            log.info("sentence 일괄 정리 완료");
+        } catch (Exception e) {
+            log.error("sentence 일괄 정리 실패 (다시 시작하면 체크포인트부터 이어서 처리)", e);
+            String message = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            checkpointRepository.finish(JOB_NAME, Status.FAILED,
+                    message.length() > 500 ? message.substring(0, 500) : message);
+        } finally {
+            cleanerPool.shutdown();
+            running.set(false);
         }
-        return new int[]{batch.size(), updated};
+    }
+
+    // 바뀌는 경우만 반환 (원문이 있으면 원문 기준으로 다시 정리)
+    private CleanedSentence cleanOrNull(SentenceCleanProjection proj) {
+        String base = proj.getSentenceOriginal() != null
+                ? proj.getSentenceOriginal()
+                : proj.getSentence();
+        String cleaned = EbookSourceCleaner.clean(base);
+        if (cleaned.equals(proj.getSentence())) return null;
+        return new CleanedSentence(proj.getId(), cleaned, proj.getSentence());
     }
 }
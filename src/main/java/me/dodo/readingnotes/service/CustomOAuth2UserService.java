@@ -110,6 +110,12 @@ public class CustomOAuth2UserService implements
             throw new OAuth2AuthenticationException(new OAuth2Error("account_blocked"), "차단된 계정입니다.");
         }
 
+        // 탈퇴 처리 중인 계정 차단
+        if (existingUser != null && existingUser.getUserStatus() == User.UserStatus.DELETING) {
+            userAuthLogService.logLoginFail(existingUser, email, registrationId, "탈퇴 처리 중인 계정입니다.", httpRequest);
+            throw new OAuth2AuthenticationException(new OAuth2Error("account_deleting"), "탈퇴 처리 중인 계정입니다.");
+        }
+
         // DB에 저장 (신규면 api_key 생성 후 저장)
         User user = existingUser != null
                 ? existingUser
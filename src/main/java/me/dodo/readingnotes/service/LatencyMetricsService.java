@@ -0,0 +1,102 @@
+package me.dodo.readingnotes.service;
+
+import me.dodo.readingnotes.dto.admin.RouteLatencyResponse;
+import me.dodo.readingnotes.util.SlidingLatencyHistogram;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 라우트별 지연시간 분포를 메모리에만 유지 (관리자 대시보드용, DB 조회 없음)
+// - 1m: 10초 슬롯 6개, 5m/1h: 1분 슬롯 60개 중 최근 5개/60개 합산
+// - 라우트는 핸들러 패턴(/api/records/{id}) 기준이라 개수가 한정되지만, 혹시 몰라 상한을 둠
+@Service
+public class LatencyMetricsService {
+
+    private static final String OVERFLOW_ROUTE = "OTHER";
+
+    public enum Window {
+        ONE_MINUTE("1m"),
+        FIVE_MINUTES("5m"),
+        ONE_HOUR("1h");
+
+        private final String label;
+
+        Window(String label) {
+            this.label = label;
+        }
+
+        public String label() { return label; }
+
+        public static Window from(String label) {
+            for (Window w : values()) {
+                if (w.label.equalsIgnoreCase(label)) return w;
+            }
+            throw new IllegalArgumentException("window는 1m, 5m, 1h 중 하나여야 합니다.");
+        }
+    }
+
+    private final Map<String, RouteHistograms> routes = new ConcurrentHashMap<>();
+    private final int maxRoutes;
+
+    public LatencyMetricsService(@Value("${metrics.latency.max-routes:300}") int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    // 요청 한 건 기록 (요청 스레드에서 호출, 락 없음)
+    public void record(String method, String route, long elapsedNanos) {
+        String key = method + " " + route;
+        RouteHistograms histograms = routes.get(key);
+        if (histograms == null) {
+            if (routes.size() >= maxRoutes) key = OVERFLOW_ROUTE;
+            histograms = routes.computeIfAbsent(key, k -> new RouteHistograms());
+        }
+        histograms.record(elapsedNanos / 1_000);
+    }
+
+    // 요청 수 많은 순
+    public List<RouteLatencyResponse> getLatencies(Window window) {
+        return routes.entrySet().stream()
+                .map(e -> toResponse(e.getKey(), window, e.getValue().snapshot(window)))
+                .filter(r -> r.getCount() > 0)
+                .sorted(Comparator.comparingLong(RouteLatencyResponse::getCount).reversed())
+                .toList();
+    }
+
+    private RouteLatencyResponse toResponse(String route, Window window, SlidingLatencyHistogram.Snapshot s) {
+        return new RouteLatencyResponse(
+                route,
+                window.label(),
+                s.getCount(),
+                s.getThroughputPerSecond(),
+                toMillis(s.valueAtQuantile(0.50)),
+                toMillis(s.valueAtQuantile(0.95)),
+                toMillis(s.valueAtQuantile(0.99))
+        );
+    }
+
+    private double toMillis(long micros) {
+        return micros / 1_000.0;
+    }
+
+    private static final class RouteHistograms {
+        private final SlidingLatencyHistogram fine = new SlidingLatencyHistogram(10_000, 6);
+        private final SlidingLatencyHistogram coarse = new SlidingLatencyHistogram(60_000, 60);
+
+        void record(long micros) {
+            fine.record(micros);
+            coarse.record(micros);
+        }
+
+        SlidingLatencyHistogram.Snapshot snapshot(Window window) {
+            return switch (window) {
+                case ONE_MINUTE -> fine.snapshot(6);
+                case FIVE_MINUTES -> coarse.snapshot(5);
+                case ONE_HOUR -> coarse.snapshot(60);
+            };
+        }
+    }
+}
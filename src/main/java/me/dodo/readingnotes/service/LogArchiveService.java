@@ -0,0 +1,164 @@
+package me.dodo.readingnotes.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import me.dodo.readingnotes.repository.LogPartitionRepository;
+import me.dodo.readingnotes.repository.LogPartitionRepository.LogTable;
+import me.dodo.readingnotes.repository.LogPartitionRepository.MonthlyPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.ResultSetMetaData;
+import java.sql.Timestamp;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+// 로그 테이블 월 파티션 관리 + 보관 기간 지난 파티션 아카이브
+// 1) 이번 달 ~ premake-months 뒤까지 파티션 미리 생성 (DEFAULT 파티션으로 새지 않도록)
+// 2) 보관 기간 지난 파티션: DETACH → NDJSON.gz 로 내보내기(로컬 또는 S3) → DROP
+//    내보내기 실패 시 분리된 테이블은 남겨두고 다음 실행 때 다시 시도함
+@Service
+public class LogArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(LogArchiveService.class);
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final LogPartitionRepository partitionRepository;
+    private final S3Service s3Service;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    @Value("${log.retention.months:6}")
+    private int retentionMonths;
+
+    @Value("${log.partition.premake-months:2}")
+    private int premakeMonths;
+
+    @Value("${log.archive.target:local}")
+    private String archiveTarget; // local | s3
+
+    @Value("${log.archive.local-dir:./log-archive}")
+    private String localDir;
+
+    @Value("${log.archive.s3-bucket:}")
+    private String s3Bucket; // 프로필 이미지 버킷(public)과 분리된 비공개 버킷 사용
+
+    @Value("${log.archive.s3-prefix:log-archive/}")
+    private String s3Prefix;
+
+    public LogArchiveService(LogPartitionRepository partitionRepository,
+                             S3Service s3Service,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.partitionRepository = partitionRepository;
+        this.s3Service = s3Service;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // 앞으로 쓸 월 파티션 미리 생성
+    public void ensureUpcomingPartitions() {
+        YearMonth now = YearMonth.now();
+        for (LogTable table : LogTable.values()) {
+            if (!partitionRepository.isPartitioned(table)) {
+                log.info("{} 는 파티션 테이블이 아니라서 건너뜀 (migration/partition_log_tables.sql 미적용)", table.tableName());
+                continue;
+            }
+            for (int i = 0; i <= premakeMonths; i++) {
+                int moved = partitionRepository.createMonthlyPartition(table, now.plusMonths(i));
+                if (moved > 0) {
+                    log.warn("{} DEFAULT 파티션에 있던 {} 행 {}건을 새 파티션으로 옮김 (미리 만들기가 밀렸음)",
+                            table.tableName(), now.plusMonths(i), moved);
+                }
+            }
+        }
+    }
+
+    // 보관 기간 지난 파티션 분리 + 아카이브 + 삭제, 처리한 파티션 수 반환
+    public int archiveExpiredPartitions() {
+        // 이 달 이전(미포함) 파티션이 대상
+        YearMonth keepFrom = YearMonth.now().minusMonths(retentionMonths);
+        int archived = 0;
+
+        for (LogTable table : LogTable.values()) {
+            if (!partitionRepository.isPartitioned(table)) continue;
+
+            for (MonthlyPartition partition : partitionRepository.findMonthlyPartitions(table)) {
+                if (!partition.month().isBefore(keepFrom)) continue;
+
+                try {
+                    if (partition.attached()) {
+                        partitionRepository.detachPartition(table, partition.name());
+                        log.info("파티션 분리: {}", partition.name());
+                    }
+                    exportPartition(partition.name());
+                    partitionRepository.dropTable(partition.name());
+                    archived++;
+                    log.info("파티션 아카이브 완료: {}", partition.name());
+                } catch (Exception e) {
+                    log.error("파티션 아카이브 실패 (다음 실행 때 재시도): {}", partition.name(), e);
+                }
+            }
+        }
+        return archived;
+    }
+
+    // 파티션 전체를 gzip NDJSON 한 파일로 내보냄 (한 행씩 스트리밍, 메모리 일정)
+    private void exportPartition(String partitionName) throws IOException {
+        Path dir = Path.of(localDir);
+        Files.createDirectories(dir);
+        Path target = dir.resolve(partitionName + ".ndjson.gz");
+        Path temp = dir.resolve(partitionName + ".ndjson.gz.part");
+
+        // 행마다 flush 하지 않도록 (gzip 버퍼를 살림)
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+        try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            readOnlyTx.executeWithoutResult(status ->
+                    partitionRepository.streamAll(partitionName, EXPORT_FETCH_SIZE, rs -> {
+                        ResultSetMetaData meta = rs.getMetaData();
+                        Map<String, Object> row = new LinkedHashMap<>();
+                        for (int i = 1; i <= meta.getColumnCount(); i++) {
+                            Object value = rs.getObject(i);
+                            if (value instanceof Timestamp ts) value = ts.toLocalDateTime();
+                            row.put(meta.getColumnLabel(i), value);
+                        }
+                        try {
+                            writer.writeValue(generator, row);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+            generator.writeRaw('\n');
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+
+        if ("s3".equalsIgnoreCase(archiveTarget)) {
+            if (s3Bucket == null || s3Bucket.isBlank()) {
+                throw new IllegalStateException("log.archive.s3-bucket이 비어있습니다.");
+            }
+            s3Service.uploadFile(s3Bucket, s3Prefix + target.getFileName(), target, "application/gzip");
+            Files.deleteIfExists(target);
+        }
+    }
+}
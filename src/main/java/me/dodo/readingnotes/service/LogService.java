@@ -8,16 +8,27 @@ import me.dodo.readingnotes.dto.log.AuthLogDetailResponse;
 import me.dodo.readingnotes.dto.log.AuthLogListResponse;
 import me.dodo.readingnotes.repository.ApiLogRepository;
 import me.dodo.readingnotes.repository.AuthLogRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
 @Service
 public class LogService {
     private final AuthLogRepository authLogRepository;
     private final ApiLogRepository apiLogRepository;
 
+    // 로그 테이블은 월 파티션이라 검색 기간을 제한해야 필요한 파티션만 읽음
+    private static final int DEFAULT_SEARCH_DAYS = 7;
+
+    @Value("${log.search.max-days:93}")
+    private int maxSearchDays;
+
     public LogService(AuthLogRepository authLogRepository,
                       ApiLogRepository apiLogRepository) {
         this.authLogRepository = authLogRepository;
@@ -27,12 +38,12 @@ public class LogService {
     // 전체 인증 로그 목록 조회
     @Transactional(readOnly = true)
     public Page<AuthLogListResponse> findAuthLogs(String keyword, UserAuthLog.AuthEventType type,
-                                              UserAuthLog.AuthResult result, Pageable pageable) {
-        System.out.println("srot: "+ pageable.getSort());
+                                              UserAuthLog.AuthResult result,
+                                              LocalDate from, LocalDate to, Pageable pageable) {
         String kw = normalize(keyword);
-        String lowKw = (kw == null) ? null : "%" + kw.toLowerCase() + "%";
+        LocalDateTime[] window = resolveWindow(from, to);
 
-        return authLogRepository.searchLogs(lowKw, type, result, pageable)
+        return authLogRepository.searchLogs(kw, type, result, window[0], window[1], pageable)
                 .map(AuthLogListResponse::new);
     }
 
@@ -51,15 +62,19 @@ public class LogService {
             ApiLog.Result result,
             Integer statusCode,
             String method,
+            Boolean sqlBudgetExceeded,
+            LocalDate from,
+            LocalDate to,
             Pageable pageable
     ) {
         String kw = normalize(keyword);
-        String lowKw = (kw == null) ? null : "%" + kw.toLowerCase() + "%";
 
         String m = normalize(method);
         if (m != null) m = m.toUpperCase(); // GET/POST 보통 대문자라서 정규화
 
-        return apiLogRepository.searchLogs(lowKw, result, statusCode, m, pageable)
+        LocalDateTime[] window = resolveWindow(from, to);
+
+        return apiLogRepository.searchLogs(kw, result, statusCode, m, sqlBudgetExceeded, window[0], window[1], pageable)
                 .map(ApiLogListResponse::new);
     }
 
@@ -71,6 +86,19 @@ public class LogService {
         return new ApiLogDetailResponse(log);
     }
 
+    // [from 00:00, to 다음날 00:00) 범위로 변환. 기본은 최근 7일, 최대 maxSearchDays일
+    private LocalDateTime[] resolveWindow(LocalDate from, LocalDate to) {
+        LocalDate end = (to == null) ? LocalDate.now() : to;
+        LocalDate start = (from == null) ? end.minusDays(DEFAULT_SEARCH_DAYS - 1) : from;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다.");
+        }
+        if (ChronoUnit.DAYS.between(start, end) + 1 > maxSearchDays) {
+            throw new IllegalArgumentException("검색 기간은 최대 " + maxSearchDays + "일까지 가능합니다.");
+        }
+        return new LocalDateTime[] { start.atStartOfDay(), end.plusDays(1).atStartOfDay() };
+    }
+
     private String normalize(String v) {
         if (v == null) return null;
         String t = v.trim();
@@ -0,0 +1,46 @@
+package me.dodo.readingnotes.service;
+
+import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository.NewRecord;
+import me.dodo.readingnotes.util.EbookSourceCleaner;
+import org.springframework.stereotype.Component;
+
+// 여러 건 저장(가져오기, 단축어 묶음) 공통: 요청 검증 + batch INSERT 행으로 변환
+@Component
+public class NewRecordMapper {
+
+    private static final int SENTENCE_MAX = 1000;
+    private static final int RAW_MAX = 255;
+
+    // 저장할 수 없는 요청이면 이유, 아니면 null
+    public String rejectReason(ReadingRecordRequest req) {
+        if (req == null || (!present(req.getSentence()) && !present(req.getComment()))) {
+            return "문장과 메모가 모두 비어 있습니다.";
+        }
+        if (length(req.getSentence()) > SENTENCE_MAX || length(req.getComment()) > SENTENCE_MAX) {
+            return "문장/메모는 " + SENTENCE_MAX + "자까지 저장할 수 있습니다.";
+        }
+        if (length(req.getRawTitle()) > RAW_MAX || length(req.getRawAuthor()) > RAW_MAX) {
+            return "제목/작가는 " + RAW_MAX + "자까지 저장할 수 있습니다.";
+        }
+        return null;
+    }
+
+    // 요청 → 저장 행 (출처 문구 정리, 원문 보관), 저장할 수 없으면 null
+    public NewRecord toNewRecord(Long userId, ReadingRecordRequest req) {
+        if (rejectReason(req) != null) return null;
+        String rawSentence = req.getSentence();
+        String cleaned = EbookSourceCleaner.clean(rawSentence);
+        String original = (rawSentence != null && !rawSentence.equals(cleaned)) ? rawSentence : null;
+        return new NewRecord(userId, cleaned, original, req.getComment(),
+                req.getRawTitle(), req.getRawAuthor(), req.getRecordedAt());
+    }
+
+    private static boolean present(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+}
@@ -0,0 +1,238 @@
+package me.dodo.readingnotes.service;
+
+import jakarta.annotation.PreDestroy;
+import me.dodo.readingnotes.domain.ReadingRecord;
+import me.dodo.readingnotes.dto.admin.RematchJobStatusResponse;
+import me.dodo.readingnotes.dto.book.BookCandidate;
+import me.dodo.readingnotes.dto.book.LinkBookRequest;
+import me.dodo.readingnotes.dto.book.MatchResult;
+import me.dodo.readingnotes.dto.reading.PendingMatchProjection;
+import me.dodo.readingnotes.repository.ReadingRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 매칭 대기(PENDING) 기록 일괄 재매칭 (관리자 요청 시 백그라운드 실행)
+// - 정규화한 (제목, 작가)로 묶어서 같은 책은 한 번만 검색, 큰 묶음부터 처리
+// - 책 테이블에서 먼저 찾고, 없을 때만 외부 API 호출 (호출 수 예산 안에서만)
+// - 결과: 자동 매칭(RESOLVED_AUTO) / 검색 결과 없음(NO_CANDIDATE) / 후보는 있으나 확정 불가(MULTIPLE_CANDIDATES)
+//   → PENDING만 다시 조회하므로 이미 판정된 묶음은 다음 실행 때 재검색하지 않음
+// - 예산이 떨어진 묶음은 PENDING 그대로 남아 다음 실행 때 이어서 처리
+@Service
+public class PendingRematchService {
+
+    private static final Logger log = LoggerFactory.getLogger(PendingRematchService.class);
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final ReadingRecordRepository readingRecordRepository;
+    private final BookMatchingAsyncService bookMatchingAsyncService;
+    private final BookMatcherService bookMatcherService;
+    private final BookLinkService bookLinkService;
+
+    private final int defaultExternalCallBudget;
+    private final long externalCallIntervalMs;
+
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "pending-rematch-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Progress progress;
+
+    public PendingRematchService(ReadingRecordRepository readingRecordRepository,
+                                 BookMatchingAsyncService bookMatchingAsyncService,
+                                 BookMatcherService bookMatcherService,
+                                 BookLinkService bookLinkService,
+                                 @Value("${rematch.external-call-budget:200}") int defaultExternalCallBudget,
+                                 @Value("${rematch.external-call-interval-ms:100}") long externalCallIntervalMs) {
+        this.readingRecordRepository = readingRecordRepository;
+        this.bookMatchingAsyncService = bookMatchingAsyncService;
+        this.bookMatcherService = bookMatcherService;
+        this.bookLinkService = bookLinkService;
+        this.defaultExternalCallBudget = defaultExternalCallBudget;
+        this.externalCallIntervalMs = externalCallIntervalMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // 작업 시작 (이미 실행 중이면 거절), externalCallBudget이 null이면 설정값 사용
+    public RematchJobStatusResponse start(Integer externalCallBudget) {
+        int budget = (externalCallBudget == null) ? defaultExternalCallBudget : externalCallBudget;
+        if (budget < 0) {
+            throw new IllegalArgumentException("외부 호출 예산은 0 이상이어야 합니다.");
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalArgumentException("이미 재매칭 작업이 실행 중입니다.");
+        }
+        Progress p = new Progress(budget);
+        progress = p;
+        try {
+            jobExecutor.execute(() -> run(p));
+        } catch (RuntimeException e) {
+            running.set(false);
+            throw e;
+        }
+        return getStatus();
+    }
+
+    public RematchJobStatusResponse getStatus() {
+        Progress p = progress;
+        if (p == null) {
+            return new RematchJobStatusResponse(false, null, null, 0, 0, 0, 0,
+                    defaultExternalCallBudget, 0, 0, 0, 0, 0, null);
+        }
+        return p.toResponse(running.get());
+    }
+
+    private void run(Progress p) {
+        try {
+            List<Group> groups = loadGroups(p);
+            log.info("재매칭 시작: 대기 기록={}, 묶음={}, 외부 호출 예산={}", p.pendingRecords, groups.size(), p.externalCallBudget);
+
+            for (Group group : groups) {
+                if (Thread.currentThread().isInterrupted()) {
+                    log.info("재매칭 중단: 처리한 묶음={}", p.processedGroups);
+                    return;
+                }
+                try {
+                    processGroup(group, p);
+                } catch (InterruptedException e) {
+                    // 호출 간격 대기 중 중단 (shutdownNow) - 인터럽트 상태를 되살리고 종료, 실패로 세지 않음
+                    Thread.currentThread().interrupt();
+                    log.info("재매칭 중단: 처리한 묶음={}", p.processedGroups);
+                    return;
+                } catch (Exception e) {
+                    // 한 묶음 실패로 전체를 멈추지 않음 (PENDING 그대로 남아 다음 실행 때 재시도)
+                    p.failedGroups++;
+                    log.warn("재매칭 실패: title={}, author={}", group.rawTitle, group.rawAuthor, e);
+                }
+                p.processedGroups++;
+            }
+            log.info("재매칭 완료: 매칭={}, 후보 없음={}, 후보 여럿={}, 외부 호출={}, 예산 초과로 남김={}",
+                    p.resolvedRecords, p.noCandidateRecords, p.multipleCandidatesRecords,
+                    p.externalCalls, p.budgetSkippedGroups);
+        } catch (Exception e) {
+            p.errorMessage = e.getMessage();
+            log.error("재매칭 작업 실패", e);
+        } finally {
+            p.finishedAt = LocalDateTime.now();
+            running.set(false);
+        }
+    }
+
+    // PENDING 전체를 id keyset으로 읽어 (제목, 작가) 정규화 키로 묶음
+    private List<Group> loadGroups(Progress p) {
+        Map<String, Group> groups = new LinkedHashMap<>();
+        long lastId = 0;
+        while (true) {
+            List<PendingMatchProjection> page =
+                    readingRecordRepository.findPendingForRematch(lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            if (page.isEmpty()) break;
+            for (PendingMatchProjection row : page) {
+                String key = BookMatcherService.matchKey(row.getRawTitle(), row.getRawAuthor());
+                groups.computeIfAbsent(key, k -> new Group(row.getRawTitle(), row.getRawAuthor()))
+                        .recordIds.add(row.getId());
+            }
+            p.pendingRecords += page.size();
+            lastId = page.get(page.size() - 1).getId();
+        }
+
+        // 기록이 많은 책부터 (외부 호출 1회로 더 많은 기록을 해결)
+        List<Group> ordered = new ArrayList<>(groups.values());
+        ordered.sort(Comparator.comparingInt((Group g) -> g.recordIds.size()).reversed());
+        p.groups = ordered.size();
+        return ordered;
+    }
+
+    private void processGroup(Group group, Progress p) throws InterruptedException {
+        // 1) 책 테이블 (외부 호출 없음)
+        MatchResult local = bookMatchingAsyncService.matchFromBookTable(group.rawTitle, group.rawAuthor);
+        if (local != null && local.isAutoMatch()) {
+            p.resolvedRecords += link(group, local);
+            return;
+        }
+
+        // 2) 외부 API (예산 안에서만)
+        if (p.externalCalls >= p.externalCallBudget) {
+            p.budgetSkippedGroups++;
+            return;
+        }
+        p.externalCalls++;
+        List<BookCandidate> candidates = bookMatchingAsyncService.searchExternal(group.rawTitle, group.rawAuthor);
+        if (externalCallIntervalMs > 0) {
+            Thread.sleep(externalCallIntervalMs); // 외부 API 호출 간격 (요청 폭주 방지)
+        }
+
+        MatchResult result = bookMatcherService.pickBest(group.rawTitle, group.rawAuthor, candidates);
+        if (result.getBest() != null && result.isAutoMatch()) {
+            p.resolvedRecords += link(group, result);
+        } else if (candidates.isEmpty()) {
+            p.noCandidateRecords += bookLinkService.markPendingRecords(
+                    group.recordIds, ReadingRecord.MatchStatus.NO_CANDIDATE);
+        } else {
+            p.multipleCandidatesRecords += bookLinkService.markPendingRecords(
+                    group.recordIds, ReadingRecord.MatchStatus.MULTIPLE_CANDIDATES);
+        }
+    }
+
+    // 묶음 전체를 한 번에 연결 (Book/SourceLink upsert 1회 + 기록 벌크 UPDATE)
+    private int link(Group group, MatchResult result) {
+        LinkBookRequest req = LinkBookRequest.fromCandidate(result.getBest());
+        String snapshotJson = bookMatchingAsyncService.snapshotJson(group.rawTitle, group.rawAuthor, req, result);
+        return bookLinkService.linkPendingRecordsAuto(group.recordIds, req, result.getScore(), snapshotJson);
+    }
+
+    private static final class Group {
+        final String rawTitle;   // 묶음의 첫 기록 기준으로 검색
+        final String rawAuthor;
+        final List<Long> recordIds = new ArrayList<>();
+
+        Group(String rawTitle, String rawAuthor) {
+            this.rawTitle = rawTitle;
+            this.rawAuthor = rawAuthor;
+        }
+    }
+
+    // 작업 스레드만 쓰고 요청 스레드는 읽기만 함
+    private static final class Progress {
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final long externalCallBudget;
+        volatile LocalDateTime finishedAt;
+        volatile long pendingRecords;
+        volatile long groups;
+        volatile long processedGroups;
+        volatile long externalCalls;
+        volatile long budgetSkippedGroups;
+        volatile long resolvedRecords;
+        volatile long noCandidateRecords;
+        volatile long multipleCandidatesRecords;
+        volatile long failedGroups;
+        volatile String errorMessage;
+
+        Progress(long externalCallBudget) {
+            this.externalCallBudget = externalCallBudget;
+        }
+
+        RematchJobStatusResponse toResponse(boolean running) {
+            return new RematchJobStatusResponse(running, startedAt, finishedAt, pendingRecords, groups,
+                    processedGroups, externalCalls, externalCallBudget, budgetSkippedGroups, resolvedRecords,
+                    noCandidateRecords, multipleCandidatesRecords, failedGroups, errorMessage);
+        }
+    }
+}
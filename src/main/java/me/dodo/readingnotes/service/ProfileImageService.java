@@ -0,0 +1,184 @@
+package me.dodo.readingnotes.service;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import me.dodo.readingnotes.util.ImageResizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 프로필 이미지 업로드 파이프라인
+// - 요청 스레드: 크기/형식만 확인하고 바로 반환 (응답은 업로드 + DB 반영이 끝난 뒤 비동기로 나감)
+// - 이미지 풀(고정 크기, 대기열 제한): 업로드를 한 번만 읽으며 검증 + 리사이즈 → 결과를 버퍼 하나에 바로 인코딩
+// - S3AsyncClient: 인코딩한 버퍼를 복사 없이 전송, 끝나면 이미지 풀에서 DB 반영
+// - 업로드 1건당 이미지 처리 스레드 할당량(byte)을 image.upload.allocated 로 기록
+@Service
+public class ProfileImageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProfileImageService.class);
+    private static final long MAX_UPLOAD_BYTES = 5 * 1024 * 1024;
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
+    private final S3Service s3Service;
+    private final UserService userService;
+    private final ImageResizer imageResizer;
+
+    private final ThreadPoolExecutor imageExecutor;
+    private final Timer processTimer;
+    private final Timer storeTimer;
+    private final DistributionSummary allocatedBytes;
+
+    public ProfileImageService(S3Service s3Service,
+                               UserService userService,
+                               ImageResizer imageResizer,
+                               MeterRegistry meterRegistry,
+                               @Value("${image.pool-size:2}") int poolSize,
+                               @Value("${image.queue-capacity:8}") int queueCapacity) {
+        this.s3Service = s3Service;
+        this.userService = userService;
+        this.imageResizer = imageResizer;
+
+        AtomicInteger seq = new AtomicInteger();
+        this.imageExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r, "image-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        this.processTimer = Timer.builder("image.upload").tag("stage", "process")
+                .description("프로필 이미지 처리 단계별 소요 시간").register(meterRegistry);
+        this.storeTimer = Timer.builder("image.upload").tag("stage", "store")
+                .description("프로필 이미지 처리 단계별 소요 시간").register(meterRegistry);
+        this.allocatedBytes = DistributionSummary.builder("image.upload.allocated")
+                .description("업로드 1건 처리 중 이미지 스레드가 할당한 메모리")
+                .baseUnit("bytes")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        imageExecutor.shutdownNow();
+    }
+
+    // 업로드 후 기존 이미지를 교체하고 새 URL로 완료
+    public CompletableFuture<String> upload(Long userId, MultipartFile image) {
+        String contentType = validateRequest(image);
+        // 출력 형식은 입력 형식을 따름
+        String format = "image/png".equals(contentType) ? "png" : "jpg";
+        String outputContentType = "png".equals(format) ? "image/png" : "image/jpeg";
+        String fileName = "user-" + userId + "_" + LocalDateTime.now().format(FILE_TIMESTAMP);
+
+        CompletableFuture<ByteBuffer> processed;
+        try {
+            processed = CompletableFuture.supplyAsync(() -> process(image, format), imageExecutor);
+        } catch (RejectedExecutionException e) {
+            throw new IllegalArgumentException("이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        return processed
+                .thenCompose(body -> {
+                    Timer.Sample storeSample = Timer.start();
+                    return s3Service.uploadProfileImageAsync(body, fileName, outputContentType)
+                            .whenComplete((url, e) -> storeSample.stop(storeTimer));
+                })
+                // SDK 이벤트 루프에서 DB 작업을 하지 않도록 이미지 풀로 넘김
+                .thenApplyAsync(imageUrl -> {
+                    try {
+                        userService.replaceProfileImage(userId, imageUrl);
+                    } catch (RuntimeException e) {
+                        // DB 반영 실패 시 올린 파일이 고아가 되지 않도록 삭제
+                        deleteQuietly(fileName);
+                        throw e;
+                    }
+                    return imageUrl;
+                }, imageExecutor);
+    }
+
+    // 요청 스레드에서 바로 거절할 수 있는 것만 (본문은 읽지 않음)
+    private String validateRequest(MultipartFile image) {
+        if (image == null || image.isEmpty()) {
+            throw new IllegalArgumentException("이미지 파일이 비어 있습니다.");
+        }
+        if (image.getSize() > MAX_UPLOAD_BYTES) {
+            throw new IllegalArgumentException("이미지 크기는 5MB를 초과할 수 없습니다.");
+        }
+        String contentType = image.getContentType();
+        // webp는 JDK ImageIO로 디코드할 수 없어 받지 않음
+        if (!"image/jpeg".equals(contentType) && !"image/png".equals(contentType)) {
+            throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+        }
+        return contentType;
+    }
+
+    // 이미지 풀에서 실행: 검증 + 리사이즈, 결과 버퍼는 복사 없이 그대로 전송에 사용
+    // (ProfileImageUploadBenchmark에서 직접 호출하므로 package-private)
+    ByteBuffer process(MultipartFile image, String format) {
+        long allocatedBefore = currentThreadAllocatedBytes();
+        Timer.Sample sample = Timer.start();
+        try {
+            // 형식/해상도 검증은 리사이즈와 같은 한 번의 읽기에서 처리
+            DirectByteArrayOutputStream out = new DirectByteArrayOutputStream(64 * 1024);
+            try (InputStream in = image.getInputStream()) {
+                imageResizer.resizeKeepRatio(in, format, out);
+            }
+            return out.toByteBuffer();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지를 처리할 수 없습니다.");
+        } finally {
+            sample.stop(processTimer);
+            long allocated = currentThreadAllocatedBytes() - allocatedBefore;
+            if (allocatedBefore >= 0 && allocated >= 0) {
+                allocatedBytes.record(allocated);
+                log.debug("프로필 이미지 처리: size={}, allocated={}", image.getSize(), allocated);
+            }
+        }
+    }
+
+    private void deleteQuietly(String fileName) {
+        try {
+            s3Service.deleteFile(fileName);
+        } catch (Exception e) {
+            log.warn("업로드한 프로필 이미지 정리 실패: {}", fileName, e);
+        }
+    }
+
+    // 지원하지 않는 JVM이면 -1
+    private static long currentThreadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            return bean.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    // toByteArray() 복사 없이 내부 버퍼를 그대로 감쌈
+    private static final class DirectByteArrayOutputStream extends ByteArrayOutputStream {
+        DirectByteArrayOutputStream(int initialSize) {
+            super(initialSize);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+    }
+}
@@ -28,6 +28,7 @@ public class ReadingCalendarService {
     }
 
     // 한 달 동안 기록한 날짜 조회(월간 달력용)
+    @Transactional(readOnly = true)
     public CalendarResponse getMonthly(Long userId, int year, int month) {
         YearMonth ym = YearMonth.of(year, month);
         LocalDate startDate = ym.atDay(1);
@@ -36,6 +37,7 @@ public class ReadingCalendarService {
     }
 
     // 연간 기록한 날짜 조회(연간 히트맵용)
+    @Transactional(readOnly = true)
     public CalendarResponse getYearly(Long userId, int year) {
         LocalDate startDate = LocalDate.of(year, 1, 1);
         LocalDate endDate = LocalDate.of(year, 12, 31);
@@ -7,10 +7,14 @@ import me.dodo.readingnotes.domain.User;
 import me.dodo.readingnotes.dto.admin.*;
 import me.dodo.readingnotes.dto.book.*;
 import me.dodo.readingnotes.dto.reading.ReadingRecordItem;
+import me.dodo.readingnotes.dto.reading.RecordBatchItemResult;
 import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
 import me.dodo.readingnotes.dto.reading.ReadingRecordResponse;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRow;
 import me.dodo.readingnotes.repository.BookCommentRepository;
 import me.dodo.readingnotes.repository.BookRepository;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository.NewRecord;
 import me.dodo.readingnotes.repository.ReadingRecordRepository;
 import me.dodo.readingnotes.repository.UserRepository;
 import me.dodo.readingnotes.util.EbookSourceCleaner;
@@ -23,9 +27,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -40,7 +47,8 @@ public class ReadingRecordService {
     private final BookLinkService bookLinkService;
     private final BookMatchingAsyncService bookMatchingAsyncService;
     private final BookCommentRepository bookCommentRepository;
-    private final CleanBatchService cleanBatchService;
+    private final ReadingRecordBatchRepository readingRecordBatchRepository;
+    private final NewRecordMapper newRecordMapper;
 
     private static final Logger log = LoggerFactory.getLogger(ReadingRecordService.class);
 
@@ -54,14 +62,16 @@ public class ReadingRecordService {
                                 BookLinkService bookLinkService,
                                 BookMatchingAsyncService bookMatchingAsyncService,
                                 BookCommentRepository bookCommentRepository,
-                                CleanBatchService cleanBatchService) {
+                                ReadingRecordBatchRepository readingRecordBatchRepository,
+                                NewRecordMapper newRecordMapper) {
         this.readingRecordRepository = readingRecordRepository;
         this.userRepository = userRepository;
         this.bookRepository = bookRepository;
         this.bookLinkService = bookLinkService;
         this.bookMatchingAsyncService = bookMatchingAsyncService;
         this.bookCommentRepository = bookCommentRepository;
-        this.cleanBatchService = cleanBatchService;
+        this.readingRecordBatchRepository = readingRecordBatchRepository;
+        this.newRecordMapper = newRecordMapper;
     }
 
     // 새로운 기록 생성 (User 객체를 Optional로 받아서 jwt, api 분리)
@@ -101,14 +111,61 @@ public class ReadingRecordService {
     }
     private boolean present(String s) { return s != null && !s.isBlank(); }
 
+    // 여러 기록 한 번에 생성 (단축어에서 모아 둔 문장들)
+    // - 한 트랜잭션에서 batch INSERT, 저장할 수 없는 항목은 건너뛰고 이유를 돌려줌
+    // - 매칭은 커밋 후 (제목, 작가) 묶음마다 한 번만 큐에 넣음
+    @Transactional
+    public List<RecordBatchItemResult> createBatchByUserId(Long userId, List<ReadingRecordRequest> reqs) {
+        List<RecordBatchItemResult> results = new ArrayList<>(reqs.size());
+        List<NewRecord> rows = new ArrayList<>();
+        List<Integer> rowIndexes = new ArrayList<>();
+        for (int i = 0; i < reqs.size(); i++) {
+            String reason = newRecordMapper.rejectReason(reqs.get(i));
+            if (reason != null) {
+                results.add(RecordBatchItemResult.skipped(i, reason));
+                continue;
+            }
+            rows.add(newRecordMapper.toNewRecord(userId, reqs.get(i)));
+            rowIndexes.add(i);
+            results.add(null); // 저장 후 채움
+        }
+
+        List<Long> ids = readingRecordBatchRepository.insertRecords(rows);
+        Map<String, List<Long>> groups = new LinkedHashMap<>();
+        Map<String, NewRecord> groupHeads = new LinkedHashMap<>();
+        for (int k = 0; k < ids.size(); k++) {
+            NewRecord row = rows.get(k);
+            results.set(rowIndexes.get(k), RecordBatchItemResult.saved(rowIndexes.get(k), ids.get(k)));
+            if (!present(row.rawTitle()) || !present(row.rawAuthor())) continue;
+            String key = BookMatcherService.matchKey(row.rawTitle(), row.rawAuthor());
+            groups.computeIfAbsent(key, x -> new ArrayList<>()).add(ids.get(k));
+            groupHeads.putIfAbsent(key, row);
+        }
+
+        // 커밋 전에 비동기 매칭이 돌면 아직 안 보이는 기록을 찾게 되므로 커밋 후 실행
+        if (!groups.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    groups.forEach((key, recordIds) -> bookMatchingAsyncService.matchGroupAsync(
+                            groupHeads.get(key).rawTitle(), groupHeads.get(key).rawAuthor(), recordIds));
+                }
+            });
+        }
+        log.debug("기록 여러 건 저장: userId={}, 요청={}, 저장={}, 매칭 묶음={}", userId, reqs.size(), ids.size(), groups.size());
+        return results;
+    }
+
     // 해당 유저의 최신 N개 기록 조회
-    public List<ReadingRecord> getLatestRecords(Long userId, int size) {
+    @Transactional(readOnly = true)
+    public List<ReadingRecordRow> getLatestRecords(Long userId, int size) {
         PageRequest pr = PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, "recordedAt"));
         return readingRecordRepository.findLatestByUser(userId, pr);
     }
 
     // 해당 유저의 모든 기록 조회(제목/작가 or 문장/코멘트 로 검색)
-    public Page<ReadingRecord> getMyRecords(Long userId, String scope, String q, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public Page<ReadingRecordRow> getMyRecords(Long userId, String scope, String q, Pageable pageable) {
         // q가 비어있으면 null로 전달 → 쿼리에서 전체 조회 + 최신순 정렬(Pageable)
         String normalizedQ = (q != null && !q.trim().isEmpty()) ? q.trim() : null;
         if ("titleAndAuthor".equalsIgnoreCase(scope)) {
@@ -151,7 +208,7 @@ public class ReadingRecordService {
 //                userId, bookId, c.cursorAt, c.cursorId, PageRequest.of(0, pageSize + 1, sort)
 //        );
         // postgreSql
-        List<ReadingRecord> fetched;
+        List<ReadingRecordItem> fetched;
         if (c == null || c.cursorAt == null || c.cursorId == null) {
             // 첫 페이지
             fetched = readingRecordRepository.findSliceFirstPage(
@@ -172,7 +229,7 @@ public class ReadingRecordService {
         // 현재 페이지의 마지막 요소의 (recordedAt, id)를 커서 문자열(“epochMillis_id”)로 직렬화하여 반환
         String nextCursor = null;
         if (hasMore && !fetched.isEmpty()) {
-            ReadingRecord last = fetched.get(fetched.size() - 1);
+            ReadingRecordItem last = fetched.get(fetched.size() - 1);
             nextCursor = buildCursor(last.getRecordedAt(), last.getId());
         }
 
@@ -195,18 +252,13 @@ public class ReadingRecordService {
                 periodEnd
         );
 
-        // 기록 정보 매핑
-        List<ReadingRecordItem> items = fetched.stream()
-                .map(r -> new ReadingRecordItem(r.getId(), r.getRecordedAt(), r.getSentence(), r.getComment()))
-                .toList();
-
         // 책 코멘트 조회
         BookCommentResponse bookComment = bookCommentRepository
                 .findByUser_IdAndBook_Id(userId, bookId)
                 .map(BookCommentResponse::new)
                 .orElse(null);
 
-        return new BookRecordsPageResponse(bookMeta, bookComment, items, nextCursor, hasMore);
+        return new BookRecordsPageResponse(bookMeta, bookComment, fetched, nextCursor, hasMore);
     }
     // pageSize 최소/최대 규정
     private int normalizeSize(int size) {
@@ -298,24 +350,6 @@ public class ReadingRecordService {
         readingRecordRepository.deleteAllByBookIdAndUserId(bookId, userId);
     }
 
-    // 기존 sentence 일괄 정리 (출처 문구 제거)
-    public Map<String, Integer> cleanAllSentences() {
-        int total = 0;
-        int updated = 0;
-        int page = 0;
-        final int BATCH_SIZE = 1000;
-
-        while (true) {
-            int[] result = cleanBatchService.cleanBatch(page, BATCH_SIZE);
-            total += result[0];
-            updated += result[1];
-            if (result[1] == 0) break;
-        }
-
-        log.info("sentence 일괄 정리 완료: 전체={}, 수정={}", total, updated);
-        return Map.of("total", total, "updated", updated);
-    }
-
     // ##############################
     // 관리자 전용 메서드
     // ##############################
@@ -0,0 +1,325 @@
+package me.dodo.readingnotes.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import me.dodo.readingnotes.domain.Book;
+import me.dodo.readingnotes.domain.ReadingRecord;
+import me.dodo.readingnotes.repository.ReadingRecordRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+// 유저 전체 기록 내보내기 (JSON / CSV / Markdown)
+// - 기록을 책 순서로 정렬해 앞으로만 읽으면서 바로 응답 스트림에 씀 → 라이브러리 크기와 무관하게 메모리 일정
+// - 쓴 엔티티는 즉시 detach (영속성 컨텍스트에 쌓이지 않도록)
+// - 책 단위로 묶어서 출력 (매칭 전 기록은 원문 제목/작가 기준으로 묶음)
+@Service
+public class RecordExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordExportService.class);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public enum Format {
+        JSON("application/json", "json"),
+        CSV("text/csv; charset=UTF-8", "csv"),
+        MARKDOWN("text/markdown; charset=UTF-8", "md");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+        public String getExtension() { return extension; }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) return JSON;
+            return switch (value.trim().toLowerCase()) {
+                case "json" -> JSON;
+                case "csv" -> CSV;
+                case "md", "markdown" -> MARKDOWN;
+                default -> throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            };
+        }
+    }
+
+    private final ReadingRecordRepository readingRecordRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    public RecordExportService(ReadingRecordRepository readingRecordRepository,
+                               EntityManager entityManager,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager) {
+        this.readingRecordRepository = readingRecordRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // PostgreSQL은 트랜잭션(autocommit off) 안에서만 fetch size 단위로 끊어 읽음
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    // out은 호출 측(응답 스트림)이 닫음
+    public void export(Long userId, Format format, OutputStream out) {
+        long startNanos = System.nanoTime();
+        long count = Objects.requireNonNull(readOnlyTx.execute(status -> {
+            try (Stream<ReadingRecord> records = readingRecordRepository.streamAllForExport(userId)) {
+                ExportWriter writer = switch (format) {
+                    case JSON -> new JsonExportWriter(objectMapper, out);
+                    case CSV -> new CsvExportWriter(out);
+                    case MARKDOWN -> new MarkdownExportWriter(out);
+                };
+                return write(records.iterator(), writer);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+        log.info("기록 내보내기 완료: userId={}, format={}, records={}, {}ms",
+                userId, format, count, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+
+    private long write(Iterator<ReadingRecord> it, ExportWriter writer) throws IOException {
+        writer.begin();
+        String currentKey = null;
+        Book currentBook = null;
+        long count = 0;
+        while (it.hasNext()) {
+            ReadingRecord r = it.next();
+            String key = groupKey(r);
+            if (!key.equals(currentKey)) {
+                if (currentKey != null) writer.endBook();
+                // 이전 책은 더 이상 나오지 않으므로 같이 detach
+                if (currentBook != null && currentBook != r.getBook()) entityManager.detach(currentBook);
+                currentKey = key;
+                currentBook = r.getBook();
+                writer.startBook(r);
+            }
+            writer.record(r);
+            entityManager.detach(r);
+            count++;
+        }
+        if (currentKey != null) writer.endBook();
+        writer.finish();
+        return count;
+    }
+
+    private static String groupKey(ReadingRecord r) {
+        if (r.getBook() != null) return "b:" + r.getBook().getId();
+        return "r:" + r.getRawTitle() + "|" + r.getRawAuthor();
+    }
+
+    private static String title(ReadingRecord r) {
+        return r.getBook() != null ? r.getBook().getTitle() : r.getRawTitle();
+    }
+
+    private static String author(ReadingRecord r) {
+        return r.getBook() != null ? r.getBook().getAuthor() : r.getRawAuthor();
+    }
+
+    private static String format(LocalDateTime dateTime) {
+        return dateTime == null ? "" : dateTime.format(DATE_TIME);
+    }
+
+    private interface ExportWriter {
+        void begin() throws IOException;
+        void startBook(ReadingRecord first) throws IOException;
+        void record(ReadingRecord r) throws IOException;
+        void endBook() throws IOException;
+        void finish() throws IOException;
+    }
+
+    // { "exportedAt": ..., "books": [ { 책 정보..., "records": [ ... ] } ] }
+    private static final class JsonExportWriter implements ExportWriter {
+        private final JsonGenerator gen;
+
+        JsonExportWriter(ObjectMapper objectMapper, OutputStream out) throws IOException {
+            this.gen = objectMapper.getFactory().createGenerator(out);
+        }
+
+        @Override
+        public void begin() throws IOException {
+            gen.writeStartObject();
+            gen.writeStringField("exportedAt", LocalDateTime.now().toString());
+            gen.writeArrayFieldStart("books");
+        }
+
+        @Override
+        public void startBook(ReadingRecord first) throws IOException {
+            Book book = first.getBook();
+            gen.writeStartObject();
+            gen.writeStringField("title", title(first));
+            gen.writeStringField("author", author(first));
+            gen.writeStringField("publisher", book == null ? null : book.getPublisher());
+            gen.writeStringField("isbn13", book == null ? null : book.getIsbn13());
+            gen.writeBooleanField("matched", book != null);
+            gen.writeArrayFieldStart("records");
+        }
+
+        @Override
+        public void record(ReadingRecord r) throws IOException {
+            gen.writeStartObject();
+            gen.writeNumberField("id", r.getId());
+            gen.writeStringField("sentence", r.getSentence());
+            gen.writeStringField("comment", r.getComment());
+            gen.writeStringField("recordedAt", r.getRecordedAt() == null ? null : r.getRecordedAt().toString());
+            gen.writeStringField("createdAt", r.getCreatedAt() == null ? null : r.getCreatedAt().toString());
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void endBook() throws IOException {
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+
+        @Override
+        public void finish() throws IOException {
+            gen.writeEndArray();
+            gen.writeEndObject();
+            gen.flush(); // out은 닫지 않음
+        }
+    }
+
+    // 한 줄에 기록 하나 (책 정보는 매 줄 반복), 엑셀에서 한글이 깨지지 않도록 BOM 포함
+    private static final class CsvExportWriter implements ExportWriter {
+        private final Writer w;
+        private String title;
+        private String author;
+        private String publisher;
+        private String isbn13;
+
+        CsvExportWriter(OutputStream out) {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void begin() throws IOException {
+            w.write('\uFEFF');
+            w.write("title,author,publisher,isbn13,sentence,comment,recorded_at,created_at\r\n");
+        }
+
+        @Override
+        public void startBook(ReadingRecord first) throws IOException {
+            Book book = first.getBook();
+            title = title(first);
+            author = author(first);
+            publisher = book == null ? null : book.getPublisher();
+            isbn13 = book == null ? null : book.getIsbn13();
+        }
+
+        @Override
+        public void record(ReadingRecord r) throws IOException {
+            cell(title); w.write(',');
+            cell(author); w.write(',');
+            cell(publisher); w.write(',');
+            cell(isbn13); w.write(',');
+            cell(r.getSentence()); w.write(',');
+            cell(r.getComment()); w.write(',');
+            cell(format(r.getRecordedAt())); w.write(',');
+            cell(format(r.getCreatedAt()));
+            w.write("\r\n");
+        }
+
+        // RFC 4180: 구분자/따옴표/줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번
+        private void cell(String value) throws IOException {
+            if (value == null || value.isEmpty()) return;
+            boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                    || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+            if (!quote) {
+                w.write(value);
+                return;
+            }
+            w.write('"');
+            w.write(value.replace("\"", "\"\""));
+            w.write('"');
+        }
+
+        @Override
+        public void endBook() {}
+
+        @Override
+        public void finish() throws IOException {
+            w.flush();
+        }
+    }
+
+    // ## 제목 - 작가 / > 문장 / 메모 / 기록 시각
+    private static final class MarkdownExportWriter implements ExportWriter {
+        private final Writer w;
+
+        MarkdownExportWriter(OutputStream out) {
+            this.w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void begin() throws IOException {
+            w.write("# 나의 독서 기록\n\n");
+            w.write("내보낸 시각: " + format(LocalDateTime.now()) + "\n");
+        }
+
+        @Override
+        public void startBook(ReadingRecord first) throws IOException {
+            String title = title(first);
+            String author = author(first);
+            w.write("\n## ");
+            w.write(title == null || title.isBlank() ? "(제목 없음)" : oneLine(title));
+            if (author != null && !author.isBlank()) {
+                w.write(" - ");
+                w.write(oneLine(author));
+            }
+            w.write("\n");
+        }
+
+        @Override
+        public void record(ReadingRecord r) throws IOException {
+            w.write("\n");
+            if (r.getSentence() != null && !r.getSentence().isBlank()) {
+                for (String line : r.getSentence().split("\\R", -1)) {
+                    w.write("> ");
+                    w.write(line);
+                    w.write("\n");
+                }
+                w.write("\n");
+            }
+            if (r.getComment() != null && !r.getComment().isBlank()) {
+                w.write(r.getComment().strip());
+                w.write("\n\n");
+            }
+            w.write("*");
+            w.write(format(r.getRecordedAt()));
+            w.write("*\n");
+        }
+
+        private static String oneLine(String value) {
+            return value.replaceAll("\\s*\\R\\s*", " ");
+        }
+
+        @Override
+        public void endBook() {}
+
+        @Override
+        public void finish() throws IOException {
+            w.flush();
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package me.dodo.readingnotes.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
+import me.dodo.readingnotes.dto.reading.RecordImportStatusResponse;
+import me.dodo.readingnotes.dto.reading.RecordImportStatusResponse.State;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository;
+import me.dodo.readingnotes.repository.ReadingRecordBatchRepository.NewRecord;
+import me.dodo.readingnotes.repository.UserRepository;
+import me.dodo.readingnotes.util.RecordCsvParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// 기록 일괄 등록 (다른 앱에서 옮겨올 때, 백그라운드 실행)
+// - 출처 문구 정리는 병렬, 저장은 chunkSize씩 JDBC batch INSERT (chunk마다 커밋)
+// - 책 매칭은 기록마다가 아니라 (제목, 작가) 묶음마다 한 번 → 같은 책 기록은 검색 1회 + 벌크 연결
+// - 작업 상태는 메모리에만 보관 (완료 후 일정 시간 지나면 정리)
+@Service
+public class RecordImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecordImportService.class);
+    private static final long FINISHED_JOB_TTL_MINUTES = 60;
+
+    private final ReadingRecordBatchRepository batchRepository;
+    private final UserRepository userRepository;
+    private final BookMatchingAsyncService bookMatchingAsyncService;
+    private final NewRecordMapper newRecordMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate txTemplate;
+
+    private final int maxRecords;
+    private final int chunkSize;
+    private final long externalCallIntervalMs;
+
+    // 등록 작업은 한 번에 하나씩 (외부 검색 호출이 몰리지 않도록), 대기열이 차면 거절
+    private final ThreadPoolExecutor jobExecutor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public RecordImportService(ReadingRecordBatchRepository batchRepository,
+                               UserRepository userRepository,
+                               BookMatchingAsyncService bookMatchingAsyncService,
+                               NewRecordMapper newRecordMapper,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${records.import.max-records:5000}") int maxRecords,
+                               @Value("${records.import.chunk-size:500}") int chunkSize,
+                               @Value("${records.import.queue-capacity:20}") int queueCapacity,
+                               @Value("${records.import.external-call-interval-ms:100}") long externalCallIntervalMs) {
+        this.batchRepository = batchRepository;
+        this.userRepository = userRepository;
+        this.bookMatchingAsyncService = bookMatchingAsyncService;
+        this.newRecordMapper = newRecordMapper;
+        this.objectMapper = objectMapper;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.maxRecords = maxRecords;
+        this.chunkSize = chunkSize;
+        this.externalCallIntervalMs = externalCallIntervalMs;
+        this.jobExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+            Thread t = new Thread(r, "record-import-job");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // 파일 업로드 (.csv 또는 .json 배열)
+    public RecordImportStatusResponse submitFile(Long userId, MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어 있습니다.");
+        }
+        String name = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase();
+        List<ReadingRecordRequest> requests;
+        try (Reader reader = new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8)) {
+            if (name.endsWith(".csv")) {
+                requests = RecordCsvParser.parse(reader, maxRecords);
+            } else if (name.endsWith(".json")) {
+                requests = objectMapper.readValue(reader, new TypeReference<List<ReadingRecordRequest>>() {});
+            } else {
+                throw new IllegalArgumentException("csv 또는 json 파일만 등록할 수 있습니다.");
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("파일을 읽을 수 없습니다: " + e.getMessage());
+        }
+        return submit(userId, requests);
+    }
+
+    // 작업 등록 후 바로 반환 (유저당 진행 중인 작업은 하나만)
+    public RecordImportStatusResponse submit(Long userId, List<ReadingRecordRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("등록할 기록이 없습니다.");
+        }
+        if (requests.size() > maxRecords) {
+            throw new IllegalArgumentException("한 번에 등록할 수 있는 기록은 최대 " + maxRecords + "개입니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자");
+        }
+        evictFinishedJobs();
+        boolean busy = jobs.values().stream()
+                .anyMatch(j -> j.userId.equals(userId) && (j.state == State.QUEUED || j.state == State.RUNNING));
+        if (busy) {
+            throw new IllegalArgumentException("이미 진행 중인 가져오기 작업이 있습니다.");
+        }
+
+        Job job = new Job(UUID.randomUUID().toString(), userId,
+                requests.stream().filter(Objects::nonNull).toList());
+        jobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new IllegalArgumentException("가져오기 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return job.toResponse();
+    }
+
+    // 본인 작업만 조회
+    public RecordImportStatusResponse getStatus(Long userId, String jobId) {
+        Job job = jobs.get(jobId);
+        if (job == null || !job.userId.equals(userId)) {
+            throw new IllegalArgumentException("가져오기 작업을 찾을 수 없습니다.");
+        }
+        return job.toResponse();
+    }
+
+    private void run(Job job) {
+        job.state = State.RUNNING;
+        ForkJoinPool cleanerPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        try {
+            // 1) 정리 + 검증 (CPU 작업만 병렬)
+            List<NewRecord> rows = cleanerPool.submit(() -> job.requests.parallelStream()
+                    .map(req -> newRecordMapper.toNewRecord(job.userId, req))
+                    .toList()).join();
+            job.requests = null; // 원본 요청은 더 이상 필요 없음
+
+            List<NewRecord> valid = rows.stream().filter(Objects::nonNull).toList();
+            job.skipped = rows.size() - valid.size();
+
+            // 2) chunk 단위 batch INSERT, 생성된 id를 (제목, 작가) 묶음에 모음
+            Map<String, BookGroup> groups = new LinkedHashMap<>();
+            for (int from = 0; from < valid.size(); from += chunkSize) {
+                List<NewRecord> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+                List<Long> ids = Objects.requireNonNull(txTemplate.execute(status -> batchRepository.insertRecords(chunk)));
+                for (int i = 0; i < ids.size(); i++) {
+                    NewRecord row = chunk.get(i);
+                    if (!present(row.rawTitle()) || !present(row.rawAuthor())) continue;
+                    groups.computeIfAbsent(BookMatcherService.matchKey(row.rawTitle(), row.rawAuthor()),
+                                    k -> new BookGroup(row.rawTitle(), row.rawAuthor()))
+                            .recordIds.add(ids.get(i));
+                }
+                job.inserted += ids.size();
+            }
+            job.bookGroups = groups.size();
+
+            // 3) 묶음마다 매칭 1회 (실패해도 기록은 PENDING으로 남아 재매칭 대상이 됨)
+            // 외부 API를 부른 묶음 뒤에는 재매칭과 같이 호출 간격을 둠 (책이 많은 파일도 한꺼번에 몰리지 않게)
+            for (BookGroup group : groups.values()) {
+                if (Thread.currentThread().isInterrupted()) break;
+                try {
+                    job.linkedRecords += bookMatchingAsyncService.matchGroup(
+                            group.rawTitle, group.rawAuthor, group.recordIds, externalCallIntervalMs);
+                } catch (InterruptedException e) {
+                    // 서버 종료 (shutdownNow) - 남은 묶음은 PENDING으로 남김
+                    Thread.currentThread().interrupt();
+                    break;
+                } catch (Exception e) {
+                    log.warn("가져오기 매칭 실패: title={}, author={}", group.rawTitle, group.rawAuthor, e);
+                }
+                job.matchedGroups++;
+            }
+            job.state = State.COMPLETED;
+            log.info("기록 가져오기 완료: userId={}, 저장={}, 건너뜀={}, 책 묶음={}, 연결={}",
+                    job.userId, job.inserted, job.skipped, job.bookGroups, job.linkedRecords);
+        } catch (Exception e) {
+            job.state = State.FAILED;
+            job.errorMessage = e.getMessage();
+            log.error("기록 가져오기 실패: userId={}, 저장된 기록={}", job.userId, job.inserted, e);
+        } finally {
+            cleanerPool.shutdown();
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    private static boolean present(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private void evictFinishedJobs() {
+        LocalDateTime limit = LocalDateTime.now().minusMinutes(FINISHED_JOB_TTL_MINUTES);
+        jobs.values().removeIf(j -> j.finishedAt != null && j.finishedAt.isBefore(limit));
+    }
+
+    private static final class BookGroup {
+        final String rawTitle;
+        final String rawAuthor;
+        final List<Long> recordIds = new ArrayList<>();
+
+        BookGroup(String rawTitle, String rawAuthor) {
+            this.rawTitle = rawTitle;
+            this.rawAuthor = rawAuthor;
+        }
+    }
+
+    // 작업 스레드만 쓰고 요청 스레드는 읽기만 함
+    private static final class Job {
+        final String id;
+        final Long userId;
+        final LocalDateTime requestedAt = LocalDateTime.now();
+        final long total;
+        volatile List<ReadingRecordRequest> requests;
+        volatile State state = State.QUEUED;
+        volatile LocalDateTime finishedAt;
+        volatile long skipped;
+        volatile long inserted;
+        volatile long bookGroups;
+        volatile long matchedGroups;
+        volatile long linkedRecords;
+        volatile String errorMessage;
+
+        Job(String id, Long userId, List<ReadingRecordRequest> requests) {
+            this.id = id;
+            this.userId = userId;
+            this.requests = requests;
+            this.total = requests.size();
+        }
+
+        RecordImportStatusResponse toResponse() {
+            return new RecordImportStatusResponse(id, state, requestedAt, finishedAt, total, skipped,
+                    inserted, bookGroups, matchedGroups, linkedRecords, errorMessage);
+        }
+    }
+}
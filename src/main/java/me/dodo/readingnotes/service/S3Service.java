@@ -2,16 +2,21 @@ package me.dodo.readingnotes.service;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
-import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 public class S3Service {
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
 
 //    @Value("${supabase.storage.url}")
 //    private String baseUrl;
@@ -22,28 +27,42 @@ public class S3Service {
     @Value("${supabase.storage.bucket}")
     private String bucket;
 
-    public S3Service(S3Client s3Client) {
+    public S3Service(S3Client s3Client, S3AsyncClient s3AsyncClient) {
         this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
     }
 
 
-    // 사진 업로드
-    public String uploadProfileImage(byte[] file, String fileName, String contentType) throws IOException {
+    // 사진 업로드 (비동기, 업로드가 끝나면 공개 URL로 완료)
+    // body는 복사하지 않고 그대로 전송하므로 완료 전까지 호출 측에서 수정하면 안 됨
+    public CompletableFuture<String> uploadProfileImageAsync(ByteBuffer body, String fileName, String contentType) {
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucket)
                 .key(fileName)
                 .contentType(contentType)
+                .contentLength((long) body.remaining())
                 .build();
 
-        s3Client.putObject(request, RequestBody.fromBytes(file));
-
-        return getPublicUrl(fileName);
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromByteBufferUnsafe(body))
+                .thenApply(response -> getPublicUrl(fileName));
     }
+
     private String getPublicUrl(String fileName) {
         // supabase.storage.url과 별도로 public URL용 base를 따로 쓰거나
         return publicUrl + "/" + bucket + "/" + fileName;
     }
 
+    // 파일 업로드 (로그 아카이브 등, 버킷 지정)
+    public void uploadFile(String targetBucket, String key, Path file, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(targetBucket)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        s3Client.putObject(request, RequestBody.fromFile(file));
+    }
+
     // 사진 삭제
     public void deleteFile(String fileName){
         DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
@@ -0,0 +1,219 @@
+package me.dodo.readingnotes.service;
+
+import jakarta.annotation.PreDestroy;
+import me.dodo.readingnotes.domain.User;
+import me.dodo.readingnotes.dto.user.UserDeletionStatusResponse;
+import me.dodo.readingnotes.dto.user.UserDeletionStatusResponse.State;
+import me.dodo.readingnotes.repository.RefreshTokenRepository;
+import me.dodo.readingnotes.repository.UserDeletionRepository;
+import me.dodo.readingnotes.repository.UserRepository;
+import me.dodo.readingnotes.util.AccessTokenRevocationStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongConsumer;
+
+// 회원 탈퇴 / 관리자 유저 삭제 (백그라운드 실행)
+// - users 행 하나를 지우면 CASCADE/SET NULL이 기록, 핀, 코멘트, 토큰, 로그까지 한 트랜잭션에서 처리
+//   → 기록이 많은 유저면 트랜잭션이 길어지고 그동안 커넥션과 행 락을 붙잡음
+// - 요청 시: DELETING 상태로 바꾸고 토큰 폐기 (짧은 트랜잭션 1개) 후 바로 응답, 로그인/API Key 차단
+// - 작업 스레드: 테이블별로 chunk-size건씩 삭제(로그는 user_id만 NULL), chunk마다 트랜잭션 1개 + chunk-pause-ms 쉼
+// - 마지막에 users 행 삭제 (남은 자식 행이 거의 없어 CASCADE가 금방 끝남)
+// - 진행 위치는 따로 저장하지 않음: 삭제는 다시 해도 같은 결과라 DELETING 상태가 곧 체크포인트
+//   → 서버 재시작 시 DELETING으로 남은 유저를 처음부터 다시 처리
+@Service
+public class UserDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserDeletionService.class);
+    private static final int MAX_TRACKED = 100;  // 끝난 작업은 최근 것만 상태 조회용으로 보관
+
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserDeletionRepository userDeletionRepository;
+    private final AccessTokenRevocationStore revocationStore;
+    private final TransactionTemplate txTemplate;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+
+    // 유저 여러 명이 동시에 탈퇴해도 삭제는 한 명씩 (DB 부하를 한 커넥션 분량으로 제한)
+    private final ExecutorService jobExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "user-delete-job");
+        t.setDaemon(true);
+        return t;
+    });
+    private final Map<Long, Progress> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Progress> eldest) {
+            return size() > MAX_TRACKED && eldest.getValue().finishedAt != null;
+        }
+    });
+
+    public UserDeletionService(UserRepository userRepository,
+                               RefreshTokenRepository refreshTokenRepository,
+                               UserDeletionRepository userDeletionRepository,
+                               AccessTokenRevocationStore revocationStore,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${user.delete.chunk-size:1000}") int chunkSize,
+                               @Value("${user.delete.chunk-pause-ms:50}") long chunkPauseMs) {
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userDeletionRepository = userDeletionRepository;
+        this.revocationStore = revocationStore;
+        this.txTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    // 서버가 삭제 도중 내려갔던 유저 이어서 처리
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        try {
+            List<Long> userIds = userDeletionRepository.findDeletingUserIds();
+            if (userIds.isEmpty()) return;
+            log.info("중단된 유저 삭제 재개: {}명", userIds.size());
+            userIds.forEach(this::enqueue);
+        } catch (Exception e) {
+            log.warn("중단된 유저 삭제 재개 실패", e);
+        }
+    }
+
+    // 삭제 요청 (이미 대기/진행 중이면 현재 상태만 반환)
+    public UserDeletionStatusResponse request(Long userId) {
+        Progress current = jobs.get(userId);
+        if (current != null && current.finishedAt == null) {
+            return current.toResponse();
+        }
+        txTemplate.executeWithoutResult(status -> markDeleting(userId));
+        return enqueue(userId).toResponse();
+    }
+
+    public UserDeletionStatusResponse getStatus(Long userId) {
+        Progress p = jobs.get(userId);
+        if (p == null) {
+            throw new IllegalArgumentException("해당 유저의 삭제 작업이 없습니다.");
+        }
+        return p.toResponse();
+    }
+
+    private void markDeleting(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 ID의 유저가 없습니다."));
+        user.setUserStatus(User.UserStatus.DELETING);
+        userRepository.save(user);
+        refreshTokenRepository.deleteAllByUserId(userId);
+        // 이미 발급된 access token도 즉시 사용 불가
+        revocationStore.revokeAllIssuedBefore(userId);
+        log.info("유저 삭제 요청: userId={}", userId);
+    }
+
+    private Progress enqueue(Long userId) {
+        Progress p = new Progress(userId);
+        jobs.put(userId, p);
+        try {
+            jobExecutor.execute(() -> run(p));
+        } catch (RuntimeException e) {
+            jobs.remove(userId);
+            throw e;
+        }
+        return p;
+    }
+
+    private void run(Progress p) {
+        long userId = p.userId;
+        p.state = State.RUNNING;
+        try {
+            drain(p, limit -> userDeletionRepository.deleteRecords(userId, limit), n -> p.deletedRecords += n);
+            drain(p, limit -> userDeletionRepository.deletePins(userId, limit), n -> p.deletedPins += n);
+            drain(p, limit -> userDeletionRepository.deleteComments(userId, limit), n -> p.deletedComments += n);
+            drain(p, limit -> userDeletionRepository.deleteRefreshTokens(userId, limit), n -> p.deletedRefreshTokens += n);
+            drain(p, limit -> userDeletionRepository.detachApiLogs(userId, limit), n -> p.detachedApiLogs += n);
+            drain(p, limit -> userDeletionRepository.detachAuthLogs(userId, limit), n -> p.detachedAuthLogs += n);
+
+            Integer deleted = txTemplate.execute(status -> userDeletionRepository.deleteUser(userId));
+            p.chunks++;
+            if (deleted == null || deleted == 0) {
+                // 그 사이 다른 경로로 이미 지워졌거나 상태가 바뀐 경우
+                log.warn("유저 삭제: users 행이 없거나 DELETING 상태가 아님, userId={}", userId);
+            }
+            p.state = State.COMPLETED;
+            log.info("유저 삭제 완료: userId={}, 기록={}, 핀={}, 코멘트={}, 로그 분리={}/{}, chunk={}",
+                    userId, p.deletedRecords, p.deletedPins, p.deletedComments,
+                    p.detachedApiLogs, p.detachedAuthLogs, p.chunks);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            p.state = State.FAILED;
+            p.errorMessage = "서버 종료로 중단 (재시작 시 이어서 처리)";
+            log.info("유저 삭제 중단: userId={}, chunk={}", userId, p.chunks);
+        } catch (Exception e) {
+            // DELETING 상태는 그대로 → 다시 요청하거나 재시작 시 이어서 처리
+            p.state = State.FAILED;
+            p.errorMessage = e.getMessage();
+            log.error("유저 삭제 실패: userId={}", userId, e);
+        } finally {
+            p.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    // chunk 하나씩 별도 트랜잭션으로, 덜 찬 chunk가 나오면 그 테이블은 끝
+    private void drain(Progress p, IntUnaryOperator chunk, LongConsumer onChunk) throws InterruptedException {
+        while (true) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException();
+            }
+            Integer changed = txTemplate.execute(status -> chunk.applyAsInt(chunkSize));
+            p.chunks++;
+            int n = changed == null ? 0 : changed;
+            onChunk.accept(n);
+            if (n < chunkSize) return;
+            if (chunkPauseMs > 0) {
+                // 다른 요청이 커넥션/락을 잡을 틈
+                Thread.sleep(chunkPauseMs);
+            }
+        }
+    }
+
+    // 작업 스레드만 쓰고 요청 스레드는 읽기만 함
+    private static final class Progress {
+        final Long userId;
+        final LocalDateTime requestedAt = LocalDateTime.now();
+        volatile State state = State.QUEUED;
+        volatile LocalDateTime finishedAt;
+        volatile long deletedRecords;
+        volatile long deletedPins;
+        volatile long deletedComments;
+        volatile long deletedRefreshTokens;
+        volatile long detachedApiLogs;
+        volatile long detachedAuthLogs;
+        volatile long chunks;
+        volatile String errorMessage;
+
+        Progress(Long userId) {
+            this.userId = userId;
+        }
+
+        UserDeletionStatusResponse toResponse() {
+            return new UserDeletionStatusResponse(userId, state, requestedAt, finishedAt, deletedRecords,
+                    deletedPins, deletedComments, deletedRefreshTokens, detachedApiLogs, detachedAuthLogs,
+                    chunks, errorMessage);
+        }
+    }
+}
@@ -4,6 +4,7 @@ package me.dodo.readingnotes.service;
 import me.dodo.readingnotes.dto.admin.AdminPageUserResponse;
 import me.dodo.readingnotes.exception.PasswordMismatchException;
 import me.dodo.readingnotes.repository.RefreshTokenRepository;
+import me.dodo.readingnotes.util.AccessTokenRevocationStore;
 import me.dodo.readingnotes.util.ApiKeyGenerator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,42 +25,43 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final S3Service s3Service;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AccessTokenRevocationStore revocationStore;
 
     @Autowired
     public UserService(UserRepository userRepository,
                        PasswordEncoder passwordEncoder,
                        S3Service s3Service,
-                       RefreshTokenRepository refreshTokenRepository) {
+                       RefreshTokenRepository refreshTokenRepository,
+                       AccessTokenRevocationStore revocationStore) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.s3Service = s3Service;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.revocationStore = revocationStore;
     }
 
     // 유저 회원가입
     @Transactional // 트랜젝션 처리
     public User registerUser(User user) {
-        if (userRepository.existsByEmail(user.getEmail())){
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
-        }
-        if (userRepository.existsByUsername(user.getUsername())) {
-            throw new IllegalArgumentException("이미 사용 중인 이름입니다.");
-        }
-
         // 비밀번호 암호화(해싱)
         String encodedPw = passwordEncoder.encode(user.getPassword());
-        user.setPassword(encodedPw);
 
-        // provider 일반 로그인으로 저장
-        user.setProvider("local");
+        // provider는 일반 로그인(local), api_key 생성
+        // 이메일/이름 중복은 유니크 제약으로 판단 → 확인 쿼리 없이 INSERT 한 번 (동시 가입도 한 명만 성공)
+        return userRepository.insertLocalUser(user.getUsername(), user.getEmail(), encodedPw, ApiKeyGenerator.generate())
+                .orElseThrow(() -> duplicateSignup(user));
+    }
 
-        // api_key
-        user.setApiKey(ApiKeyGenerator.generate()); // api_key 생성
-        if (user.getApiKey() == null){
-            log.warn("api_key가 null임.");
+    // 가입이 충돌했을 때만 어느 값이 겹쳤는지 확인
+    private IllegalArgumentException duplicateSignup(User user) {
+        if (userRepository.existsByEmail(user.getEmail())) {
+            return new IllegalArgumentException("이미 사용 중인 이메일입니다.");
         }
-
-        return userRepository.save(user);
+        if (userRepository.existsByUsername(user.getUsername())) {
+            return new IllegalArgumentException("이미 사용 중인 이름입니다.");
+        }
+        // api_key 충돌 (사실상 없음)
+        return new IllegalArgumentException("회원가입에 실패했습니다. 다시 시도해주세요.");
     }
 
     // api_key 재발급
@@ -221,18 +223,6 @@ public class UserService {
             .orElseThrow(() -> new IllegalArgumentException("해당 ID의 유저가 없습니다."));
     }
 
-    // 유저 삭제
-    public boolean deleteUserById(Long id) {
-        User user = userRepository.findById(id)
-                .orElseThrow(()-> new IllegalArgumentException("해당 ID의 유저가 없습니다."));
-        // 삭제
-        userRepository.delete(user);
-
-        // 삭제 완료 메시지
-        log.info("Deleted:" + user.getEmail());
-        return true;
-    }
-
     // 관리자인지 권한 확인
     public void assertAdmin(Long userId) {
         User user = userRepository.findById(userId)
@@ -249,13 +239,23 @@ public class UserService {
             throw new IllegalArgumentException("status가 없습니다.");
         }
 
+        // 탈퇴 처리는 삭제 API로만 (상태만 바꾸면 삭제 작업이 돌지 않음)
+        if (status == User.UserStatus.DELETING) {
+            throw new IllegalArgumentException("DELETING 상태는 직접 지정할 수 없습니다.");
+        }
+
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 ID의 유저가 없습니다."));
+        if (user.getUserStatus() == User.UserStatus.DELETING) {
+            throw new IllegalArgumentException("탈퇴 처리 중인 유저입니다.");
+        }
 
         user.setUserStatus(status);
         userRepository.save(user);
         if (status == User.UserStatus.BLOCKED) {
             refreshTokenRepository.deleteAllByUserId(userId);
+            // 차단 즉시 기존 access token도 사용 불가
+            revocationStore.revokeAllIssuedBefore(userId);
         }
     }
 
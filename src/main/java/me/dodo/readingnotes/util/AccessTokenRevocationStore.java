@@ -0,0 +1,105 @@
+package me.dodo.readingnotes.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 이미 발급된 access token 폐기 여부를 메모리에서 O(1)로 판단
+// - 유저 단위: "이 시각 이전에 발급된 토큰은 무효" (모든 기기 로그아웃, 차단)
+// - 토큰 단위: 토큰 ID(jti) Bloom filter (현재 기기 로그아웃)
+// access token 수명(30분)이 지나면 폐기 정보도 필요 없으므로 주기적으로 비움.
+// 단일 인스턴스 기준이라 서버 재시작 시 폐기 정보는 사라짐 (refresh token은 DB에서 이미 삭제된 상태)
+@Component
+public class AccessTokenRevocationStore {
+
+    private static final Logger log = LoggerFactory.getLogger(AccessTokenRevocationStore.class);
+
+    // userId -> 이 시각(epoch 밀리초) 이하에 발급된 토큰은 폐기
+    private final ConcurrentHashMap<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    private final long tokenValidityMillis;
+    private final boolean bloomEnabled;
+    private final int bloomBits;
+    private final int bloomHashes;
+    private final LongSupplier clock;
+
+    // 두 세대를 번갈아 사용: 회전 직전에 넣은 jti도 최소 토큰 수명만큼은 남아있음
+    private volatile TokenIdBloomFilter currentBloom;
+    private volatile TokenIdBloomFilter previousBloom;
+    private volatile long bloomRotatedAt;
+
+    @Autowired
+    public AccessTokenRevocationStore(JwtTokenProvider jwtTokenProvider,
+                                      @Value("${auth.revocation.bloom.enabled:true}") boolean bloomEnabled,
+                                      @Value("${auth.revocation.bloom.bits:65536}") int bloomBits,
+                                      @Value("${auth.revocation.bloom.hashes:5}") int bloomHashes) {
+        this(jwtTokenProvider.getAccessTokenValidity(), bloomEnabled, bloomBits, bloomHashes, System::currentTimeMillis);
+    }
+
+    AccessTokenRevocationStore(long tokenValidityMillis, boolean bloomEnabled,
+                               int bloomBits, int bloomHashes, LongSupplier clock) {
+        this.tokenValidityMillis = tokenValidityMillis;
+        this.bloomEnabled = bloomEnabled;
+        this.bloomBits = bloomBits;
+        this.bloomHashes = bloomHashes;
+        this.clock = clock;
+        if (bloomEnabled) {
+            this.currentBloom = new TokenIdBloomFilter(bloomBits, bloomHashes);
+            this.previousBloom = new TokenIdBloomFilter(bloomBits, bloomHashes);
+        }
+        this.bloomRotatedAt = clock.getAsLong();
+    }
+
+    // 해당 유저에게 지금까지 발급된 access token 전부 폐기
+    public void revokeAllIssuedBefore(Long userId) {
+        if (userId == null) return;
+        revokedBefore.merge(userId, clock.getAsLong(), Math::max);
+    }
+
+    // access token 하나만 폐기 (Bloom filter 사용 시에만 동작)
+    public void revokeToken(String tokenId) {
+        if (!bloomEnabled || tokenId == null) return;
+        currentBloom.add(tokenId);
+    }
+
+    // JwtAuthFilter에서 매 요청마다 호출됨. DB 조회 없음.
+    // issuedAt은 밀리초 단위 발급 시각 (JwtTokenProvider.getIssuedAt) - 폐기 직후 같은 초에 발급된 토큰은 유효
+    public boolean isRevoked(Long userId, Date issuedAt, String tokenId) {
+        if (userId != null && issuedAt != null) {
+            Long cutoff = revokedBefore.get(userId);
+            if (cutoff != null && issuedAt.getTime() <= cutoff) {
+                return true;
+            }
+        }
+        if (bloomEnabled && tokenId != null) {
+            return currentBloom.mightContain(tokenId) || previousBloom.mightContain(tokenId);
+        }
+        return false;
+    }
+
+    // 토큰 수명이 지난 폐기 정보 정리 + Bloom filter 세대 회전
+    @Scheduled(fixedDelayString = "${auth.revocation.cleanup-interval-ms:300000}")
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        long expiredBefore = now - tokenValidityMillis;
+        revokedBefore.entrySet().removeIf(e -> e.getValue() < expiredBefore);
+
+        if (bloomEnabled && now - bloomRotatedAt >= tokenValidityMillis) {
+            previousBloom = currentBloom;
+            currentBloom = new TokenIdBloomFilter(bloomBits, bloomHashes);
+            bloomRotatedAt = now;
+            log.debug("access token 폐기 Bloom filter 회전");
+        }
+    }
+
+    int trackedUserCount() {
+        return revokedBefore.size();
+    }
+}
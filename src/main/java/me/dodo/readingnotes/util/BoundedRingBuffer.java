@@ -0,0 +1,94 @@
+package me.dodo.readingnotes.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// 고정 크기 lock-free 링 버퍼 (슬롯별 시퀀스 번호 방식)
+// - 여러 요청 스레드가 동시에 offer 해도 락을 잡지 않음
+// - 가득 차면 기다리지 않고 false 반환 (호출하는 쪽에서 버림 처리)
+public class BoundedRingBuffer<T> {
+
+    private final AtomicReferenceArray<T> slots;
+    private final AtomicLongArray sequences;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+    private final AtomicLong head = new AtomicLong(); // 다음에 꺼낼 위치
+
+    public BoundedRingBuffer(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity는 2 이상의 2의 거듭제곱이어야 합니다.");
+        }
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public boolean offer(T item) {
+        if (item == null) throw new IllegalArgumentException("null은 넣을 수 없습니다.");
+        while (true) {
+            long pos = tail.get();
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                if (tail.compareAndSet(pos, pos + 1)) {
+                    slots.set(index, item);
+                    sequences.set(index, pos + 1); // 소비자에게 공개
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false; // 가득 참
+            }
+            // diff > 0: 다른 생산자가 먼저 가져감, 재시도
+        }
+    }
+
+    public T poll() {
+        while (true) {
+            long pos = head.get();
+            int index = (int) (pos & mask);
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                if (head.compareAndSet(pos, pos + 1)) {
+                    T item = slots.get(index);
+                    slots.set(index, null);
+                    sequences.set(index, pos + mask + 1); // 다음 바퀴의 생산자에게 반환
+                    return item;
+                }
+            } else if (diff < 0) {
+                return null; // 비어 있음 (또는 생산자가 아직 쓰는 중)
+            }
+        }
+    }
+
+    // 최대 maxItems개를 꺼내 target에 담고 꺼낸 개수를 반환
+    public int drainTo(List<? super T> target, int maxItems) {
+        int count = 0;
+        while (count < maxItems) {
+            T item = poll();
+            if (item == null) break;
+            target.add(item);
+            count++;
+        }
+        return count;
+    }
+
+    // 동시 변경 중에는 근사값
+    public int size() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -1,11 +1,20 @@
 package me.dodo.readingnotes.util;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 public class EbookSourceCleaner {
 
     private EbookSourceCleaner() {}
 
+    // 정적 유틸이라 스프링 빈 주입 대신 전역 레지스트리 사용 (Boot가 Prometheus 레지스트리를 전역에 등록함)
+    private static final Timer CLEAN_TIMER = Timer.builder("ebook.cleaner.clean")
+            .description("e-book 출처 문구 정제 소요 시간")
+            .register(Metrics.globalRegistry);
+
     // -----------------------------------------------------------------------
     // 교보eBook 멀티라인: "[제목]중에서" 줄 바로 다음에 "교보eBook에서 자세히 보기:" 줄이
     //   이어지는 형식 + 선택적 URL 줄
@@ -81,15 +90,77 @@ public class EbookSourceCleaner {
             return sentence;
         }
 
+        long start = System.nanoTime();
+        try {
+            return removeSources(sentence);
+        } finally {
+            CLEAN_TIMER.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String removeSources(String sentence) {
+        int markers = scanMarkers(sentence);
+        // 대부분의 문장은 출처 문구가 없음 → 정규식을 하나도 돌리지 않음
+        if (markers == 0) {
+            return sentence.strip();
+        }
+
+        // 앞 패턴이 지운 결과에 다음 패턴을 적용하는 순서 의존이 있어서 순서는 그대로 두고,
+        // 필요한 표식이 없는 패턴만 건너뜀 (지우기만 하므로 원문에 없던 표식이 생기지 않음)
         String result = sentence;
-        result = KYOBO_INLINE_BLOCK.matcher(result).replaceAll("");
-        result = KYOBO_LIBRARY_URL_INLINE.matcher(result).replaceAll("");
-        result = KYOBO_PRODUCT_URL_INLINE.matcher(result).replaceAll("");
-        result = KYOBO_MULTILINE_BLOCK.matcher(result).replaceAll("");
-        result = NAVER_BLOCK.matcher(result).replaceAll("");
-        result = MILLIE_INLINE.matcher(result).replaceAll("");
-        result = TRAILING_URL.matcher(result).replaceAll("");
+        if (has(markers, M_JUNGESEO | M_KYOBO)) {
+            result = KYOBO_INLINE_BLOCK.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_JUNGESEO | M_HTTP)) {
+            result = KYOBO_LIBRARY_URL_INLINE.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_HTTP)) {
+            result = KYOBO_PRODUCT_URL_INLINE.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_JUNGESEO | M_KYOBO)) {
+            result = KYOBO_MULTILINE_BLOCK.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_NAVER)) {
+            result = NAVER_BLOCK.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_MILLIE)) {
+            result = MILLIE_INLINE.matcher(result).replaceAll("");
+        }
+        if (has(markers, M_HTTP)) {
+            result = TRAILING_URL.matcher(result).replaceAll("");
+        }
 
         return result.strip();
     }
-}
\ No newline at end of file
+
+    // -----------------------------------------------------------------------
+    // 출처 표식 사전 검사: 문장을 한 번만 훑어서 어떤 표식이 있는지 비트로 반환
+    //   각 표식의 첫 글자에서만 regionMatches 하므로 정규식보다 훨씬 가벼움
+    // -----------------------------------------------------------------------
+    private static final int M_JUNGESEO = 1;      // 중에서
+    private static final int M_KYOBO = 1 << 1;    // 교보eBook
+    private static final int M_NAVER = 1 << 2;    // 네이버시리즈
+    private static final int M_MILLIE = 1 << 3;   // 밀리의 서재
+    private static final int M_HTTP = 1 << 4;     // http
+
+    static int scanMarkers(String s) {
+        int found = 0;
+        int len = s.length();
+        for (int i = 0; i < len; i++) {
+            switch (s.charAt(i)) {
+                case '중' -> { if (s.startsWith("중에서", i)) found |= M_JUNGESEO; }
+                case '교' -> { if (s.startsWith("교보eBook", i)) found |= M_KYOBO; }
+                case '네' -> { if (s.startsWith("네이버시리즈", i)) found |= M_NAVER; }
+                case '밀' -> { if (s.startsWith("밀리의 서재", i)) found |= M_MILLIE; }
+                case 'h' -> { if (s.startsWith("http", i)) found |= M_HTTP; }
+                default -> { }
+            }
+        }
+        return found;
+    }
+
+    // required 비트가 모두 있으면 true
+    private static boolean has(int markers, int required) {
+        return (markers & required) == required;
+    }
+}
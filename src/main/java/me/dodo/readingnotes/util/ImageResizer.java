@@ -1,38 +1,103 @@
 package me.dodo.readingnotes.util;
 
 import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Iterator;
 
+// 업로드 스트림을 한 번만 읽어서 검증 + 리사이즈
+// 1) 앞 12바이트로 형식 확인 (mark/reset이라 다시 읽지 않음)
+// 2) ImageReader가 헤더만 읽은 상태에서 가로/세로 확인 → 너무 크면 픽셀 디코드 전에 거절
+// 3) 같은 reader로 디코드, 결과보다 2배 이상 크면 서브샘플링으로 줄여서 읽음
 @Service
 public class ImageResizer {
     private static final int MAX_WIDTH = 325;
     private static final int MAX_HEIGHT = 272;
 
-    // 비율 유지하면서 리사이징
-    public byte[] resizeImageKeepRatio(MultipartFile image) throws IOException {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    // format: jpg | png, 검증 실패는 IllegalArgumentException
+    public void resizeKeepRatio(InputStream in, String format, OutputStream out) throws IOException {
+        // ImageIO.createImageInputStream은 임시 파일 캐시를 쓰므로 메모리 캐시로 직접 생성 (업로드는 5MB 이하)
+        try (ImageInputStream iis = new MemoryCacheImageInputStream(in)) {
+            ImageValidator.validateMagicBytes(readHeader(iis));
 
-        Thumbnails.of(image.getInputStream())
-                .size(MAX_WIDTH, MAX_HEIGHT)  // 비율 유지하며 이 크기 안에 맞춤
-                .keepAspectRatio(true)
-                .outputFormat(getFormat(image.getOriginalFilename()))
-                .toOutputStream(outputStream);
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+            if (!readers.hasNext()) {
+                // JDK가 못 읽는 포맷(예: webp, 업로드 Content-Type에서 먼저 거절)
+                throw new IllegalArgumentException("지원하지 않는 이미지 형식입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(iis, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                ImageValidator.validateDimensions(width, height);
 
-        return outputStream.toByteArray();
+                // 폰 사진의 EXIF 회전 (Thumbnails.of(InputStream)이 해주던 처리)
+                Orientation orientation = "jpeg".equalsIgnoreCase(reader.getFormatName())
+                        ? ExifUtils.getExifOrientation(reader, 0)
+                        : null;
+                boolean rotated = orientation != null && isQuarterTurn(orientation);
+                int boxWidth = rotated ? MAX_HEIGHT : MAX_WIDTH;
+                int boxHeight = rotated ? MAX_WIDTH : MAX_HEIGHT;
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = subsampling(width, height, boxWidth, boxHeight);
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                BufferedImage decoded = reader.read(0, param);
+
+                Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(decoded)
+                        .size(boxWidth, boxHeight)
+                        .keepAspectRatio(true)
+                        .outputFormat(format);
+                if (orientation != null && orientation != Orientation.TOP_LEFT) {
+                    builder.addFilter(ExifFilterUtils.getFilterForOrientation(orientation));
+                }
+                builder.toOutputStream(out);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 결과 크기의 2배 이상은 남겨야 축소 품질이 유지됨 → 그 범위 안에서 가장 큰 정수 간격
+    static int subsampling(int width, int height, int boxWidth, int boxHeight) {
+        double ratio = Math.max((double) width / boxWidth, (double) height / boxHeight);
+        return Math.max(1, (int) (ratio / 2));
+    }
+
+    private static byte[] readHeader(ImageInputStream iis) throws IOException {
+        byte[] header = new byte[ImageValidator.HEADER_BYTES];
+        iis.mark();
+        int n = 0;
+        while (n < header.length) {
+            int r = iis.read(header, n, header.length - n);
+            if (r < 0) break;
+            n += r;
+        }
+        iis.reset();
+        return n == header.length ? header : Arrays.copyOf(header, n);
     }
 
-    private String getFormat(String filename) {
-        if (filename == null) return "jpg";
-        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
-        return switch (extension) {
-            case "png" -> "png";
-            case "gif" -> "gif";
-            case "webp" -> "webp";
-            default -> "jpg";
+    // EXIF 5~8: 90도 회전이 들어가 가로/세로가 바뀜
+    private static boolean isQuarterTurn(Orientation orientation) {
+        return switch (orientation) {
+            case LEFT_TOP, RIGHT_TOP, RIGHT_BOTTOM, LEFT_BOTTOM -> true;
+            default -> false;
         };
     }
 }
@@ -1,54 +1,22 @@
 package me.dodo.readingnotes.util;
 
-import org.springframework.web.multipart.MultipartFile;
-
-import javax.imageio.ImageIO;
-import javax.imageio.ImageReader;
-import javax.imageio.stream.ImageInputStream;
-import java.io.IOException;
-import java.util.Iterator;
-
 public class ImageValidator {
 
-    public static void validateMagicBytes(MultipartFile image) {
-        byte[] header;
-        try (var is = image.getInputStream()) {
-            header = is.readNBytes(12);
-        } catch (IOException e) {
-            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
-        }
+    public static final int HEADER_BYTES = 12;
+    private static final long MAX_PIXELS = 64_000_000L;
 
+    // 앞 12바이트로 jpeg / png / webp 여부 확인 (확장자, Content-Type 위조 방지)
+    public static void validateMagicBytes(byte[] header) {
         if (isJpeg(header) || isPng(header) || isWebP(header)) {
             return;
         }
         throw new IllegalArgumentException("지원하지 않거나 위조된 이미지 형식입니다.");
     }
 
-    public static void validateDimensions(MultipartFile image) {
-        ImageInputStream iis = null;
-        ImageReader reader = null;
-        try {
-            iis = ImageIO.createImageInputStream(image.getInputStream());
-            Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
-            if (!readers.hasNext()) {
-                return; // JDK가 못 읽는 포맷(예: 환경에 따라 webp) — 차원 검증 건너뜀
-            }
-            reader = readers.next();
-            reader.setInput(iis);
-            int width = reader.getWidth(0);
-            int height = reader.getHeight(0);
-            if ((long) width * height > 64_000_000L) {
-                throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
-            }
-        } catch (IllegalArgumentException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new IllegalArgumentException("이미지를 읽을 수 없습니다.");
-        } finally {
-            if (reader != null) reader.dispose();
-            if (iis != null) {
-                try { iis.close(); } catch (IOException ignored) {}
-            }
+    // 헤더에서 읽은 크기로 검사 (픽셀 디코드 전에 호출해야 의미 있음)
+    public static void validateDimensions(int width, int height) {
+        if ((long) width * height > MAX_PIXELS) {
+            throw new IllegalArgumentException("이미지 해상도가 너무 큽니다.");
         }
     }
 
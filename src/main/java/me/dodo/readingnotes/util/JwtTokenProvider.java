@@ -1,5 +1,6 @@
 package me.dodo.readingnotes.util;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
@@ -15,11 +16,13 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 @Component // static 메서드만 있으면 필요 없긴 함.
 public class JwtTokenProvider {
 
     private static final Logger log = LoggerFactory.getLogger(JwtTokenProvider.class);
+    private static final String ISSUED_AT_MILLIS = "iatMs"; // 밀리초 발급 시각 claim
 
     @Value("${jwt.secret}")
     private String secret;
@@ -48,7 +51,9 @@ public class JwtTokenProvider {
                 .setSubject(user.getEmail()) // 토큰 주인 email
                 .claim("userId", user.getId()) // 토큰 주인 ID
                 .claim("role", user.getRole()) // 토큰 주인 Role
-                .setIssuedAt(now) // 발급 시간
+                .setId(UUID.randomUUID().toString()) // 토큰 ID(jti), 개별 폐기용
+                .setIssuedAt(now) // 발급 시간 (초 단위로 잘림)
+                .claim(ISSUED_AT_MILLIS, now.getTime()) // 발급 시간 (밀리초), 폐기 시각 비교용
                 .setExpiration(expiryDate) // 만료 시간
                 .signWith(key) // 서명(변조 방지)
                 .compact(); // 최종 문자열로 변환
@@ -67,6 +72,25 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    // access token 발급 시각 (밀리초), 이 claim이 없는 예전 토큰은 초 단위 iat
+    public Date getIssuedAt(Claims claims) {
+        Long millis = claims.get(ISSUED_AT_MILLIS, Long.class);
+        return millis != null ? new Date(millis) : claims.getIssuedAt();
+    }
+
+    public long getAccessTokenValidity() {
+        return accessTokenValidity;
+    }
+
+    // 서명 검증 + 클레임 파싱을 한 번에 (예외는 그대로 던짐)
+    public Claims parseClaims(String token) {
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
     // 클라이언트에서 보낸 토큰에서 userId 추출
     public Long getUserIdFromToken(String token) {
         return Jwts.parserBuilder()
@@ -0,0 +1,157 @@
+package me.dodo.readingnotes.util;
+
+import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// 기록 일괄 등록용 CSV 파서 (RFC 4180: 따옴표 안의 쉼표/줄바꿈/"" 허용)
+// - 첫 줄은 헤더, 열 순서는 자유 (내보내기 CSV를 그대로 다시 올릴 수 있음)
+// - 알 수 없는 열(publisher, isbn13 등)은 무시
+public class RecordCsvParser {
+
+    private RecordCsvParser() {}
+
+    private enum Column { TITLE, AUTHOR, SENTENCE, COMMENT, RECORDED_AT }
+
+    // 헤더 이름(소문자, 공백/밑줄/하이픈 제거) → 열
+    private static final Map<String, Column> HEADER_ALIASES = new HashMap<>();
+    static {
+        for (String h : List.of("title", "rawtitle", "booktitle", "제목")) HEADER_ALIASES.put(h, Column.TITLE);
+        for (String h : List.of("author", "rawauthor", "작가", "저자")) HEADER_ALIASES.put(h, Column.AUTHOR);
+        for (String h : List.of("sentence", "quote", "highlight", "text", "문장")) HEADER_ALIASES.put(h, Column.SENTENCE);
+        for (String h : List.of("comment", "note", "memo", "메모")) HEADER_ALIASES.put(h, Column.COMMENT);
+        for (String h : List.of("recordedat", "date", "dateadded", "기록일")) HEADER_ALIASES.put(h, Column.RECORDED_AT);
+    }
+
+    private static final DateTimeFormatter MINUTE = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    private static final DateTimeFormatter SECOND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    // maxRecords를 넘으면 끝까지 읽지 않고 바로 거절
+    public static List<ReadingRecordRequest> parse(Reader reader, int maxRecords) throws IOException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.nextRow();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV가 비어 있습니다.");
+        }
+        Column[] columns = new Column[header.size()];
+        boolean hasSentence = false;
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).toLowerCase(Locale.ROOT).replaceAll("[\\s_\\-]", "");
+            columns[i] = HEADER_ALIASES.get(name);
+            hasSentence |= columns[i] == Column.SENTENCE;
+        }
+        if (!hasSentence) {
+            throw new IllegalArgumentException("CSV 헤더에 sentence 열이 없습니다.");
+        }
+
+        List<ReadingRecordRequest> result = new ArrayList<>();
+        List<String> row;
+        while ((row = csv.nextRow()) != null) {
+            if (row.size() == 1 && row.get(0).isBlank()) continue; // 빈 줄
+            if (result.size() >= maxRecords) {
+                throw new IllegalArgumentException("한 번에 등록할 수 있는 기록은 최대 " + maxRecords + "개입니다.");
+            }
+            ReadingRecordRequest req = new ReadingRecordRequest();
+            for (int i = 0; i < Math.min(row.size(), columns.length); i++) {
+                if (columns[i] == null) continue;
+                String value = row.get(i).strip();
+                if (value.isEmpty()) continue;
+                switch (columns[i]) {
+                    case TITLE -> req.setRawTitle(value);
+                    case AUTHOR -> req.setRawAuthor(value);
+                    case SENTENCE -> req.setSentence(value);
+                    case COMMENT -> req.setComment(value);
+                    case RECORDED_AT -> req.setRecordedAt(parseDateTime(value, csv.rowNumber));
+                }
+            }
+            result.add(req);
+        }
+        return result;
+    }
+
+    // 2025-01-31 13:05 / 2025-01-31 13:05:10 / 2025-01-31T13:05:10 / 2025-01-31
+    static LocalDateTime parseDateTime(String value, int rowNumber) {
+        try {
+            if (value.length() == 10) return LocalDate.parse(value).atStartOfDay();
+            if (value.indexOf('T') > 0) return LocalDateTime.parse(value);
+            return LocalDateTime.parse(value, value.length() == 16 ? MINUTE : SECOND);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(rowNumber + "번째 줄의 날짜 형식이 올바르지 않습니다: " + value);
+        }
+    }
+
+    // 한 글자씩 읽으며 행 단위로 자름 (따옴표 안의 줄바꿈은 값에 포함)
+    private static final class CsvReader {
+        private final Reader reader;
+        private int pushback = -2;
+        int rowNumber = 0;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int read() throws IOException {
+            if (pushback != -2) {
+                int c = pushback;
+                pushback = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        List<String> nextRow() throws IOException {
+            int c = read();
+            if (c == -1) return null;
+            rowNumber++;
+            if (rowNumber == 1 && c == '\uFEFF') c = read(); // UTF-8 BOM (엑셀 저장 파일)
+
+            List<String> row = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                if (quoted) {
+                    if (c == -1) {
+                        throw new IllegalArgumentException(rowNumber + "번째 줄의 따옴표가 닫히지 않았습니다.");
+                    }
+                    if (c == '"') {
+                        int next = read();
+                        if (next == '"') {
+                            cell.append('"');
+                        } else {
+                            quoted = false;
+                            c = next;
+                            continue;
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    row.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '\r' || c == '\n' || c == -1) {
+                    if (c == '\r') {
+                        int next = read();
+                        if (next != '\n') pushback = next;
+                    }
+                    row.add(cell.toString());
+                    return row;
+                } else {
+                    cell.append((char) c);
+                }
+                c = read();
+            }
+        }
+    }
+}
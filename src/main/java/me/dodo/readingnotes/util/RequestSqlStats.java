@@ -0,0 +1,37 @@
+package me.dodo.readingnotes.util;
+
+// 요청 스레드 단위 SQL 실행 횟수/시간 누적
+// - 요청 시작 시 begin(), 끝날 때 end()로 결과를 꺼냄
+// - begin() 하지 않은 스레드(@Async, 스케줄러 등)에서는 아무것도 누적하지 않음
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statementCount;
+    private long elapsedNanos;
+
+    private RequestSqlStats() {}
+
+    public static void begin() {
+        CURRENT.set(new RequestSqlStats());
+    }
+
+    // 누적 결과 반환 후 정리 (begin 없이 호출되면 null)
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    // statements: JDBC batch 실행은 1회로 셈
+    public static void record(int statements, long nanos) {
+        RequestSqlStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statementCount += statements;
+        stats.elapsedNanos += nanos;
+    }
+
+    public int getStatementCount() { return statementCount; }
+    public long getElapsedNanos() { return elapsedNanos; }
+    public int getElapsedMillis() { return (int) (elapsedNanos / 1_000_000); }
+}
@@ -0,0 +1,148 @@
+package me.dodo.readingnotes.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+// 시간 슬롯 링 기반 지연시간 히스토그램 (락 없음)
+// - 값(마이크로초)은 HDR 방식의 로그-선형 버킷에 누적: 2의 거듭제곱 구간마다 8칸 → 상대 오차 약 6% 이내
+// - slotMillis 단위로 슬롯을 돌려 쓰고, 지난 슬롯은 새 슬롯 객체로 교체(리셋 경합 없음)
+// - 슬롯이 바뀌는 순간 기록된 몇 건은 유실될 수 있음 (대시보드용 근사값)
+public class SlidingLatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS; // 8
+    static final int MAX_MAGNITUDE = 27;                       // 2^27µs ≈ 134초, 그 이상은 마지막 버킷
+    static final int BUCKET_COUNT = (MAX_MAGNITUDE - SUB_BUCKET_BITS + 2) * SUB_BUCKET_COUNT;
+
+    private final long slotMillis;
+    private final int slotCount;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Slot> slots;
+
+    public SlidingLatencyHistogram(long slotMillis, int slotCount) {
+        this(slotMillis, slotCount, System::currentTimeMillis);
+    }
+
+    SlidingLatencyHistogram(long slotMillis, int slotCount, LongSupplier clock) {
+        if (slotMillis <= 0 || slotCount <= 0) {
+            throw new IllegalArgumentException("slotMillis, slotCount는 0보다 커야 합니다.");
+        }
+        this.slotMillis = slotMillis;
+        this.slotCount = slotCount;
+        this.clock = clock;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+    }
+
+    public void record(long micros) {
+        long epoch = clock.getAsLong() / slotMillis;
+        int index = (int) (epoch % slotCount);
+
+        Slot slot = slots.get(index);
+        while (slot == null || slot.epoch < epoch) {
+            Slot fresh = new Slot(epoch);
+            if (slots.compareAndSet(index, slot, fresh)) {
+                slot = fresh;
+                break;
+            }
+            slot = slots.get(index);
+        }
+        if (slot.epoch != epoch) return; // 시계가 되돌아간 경우 등은 무시
+
+        slot.counts.incrementAndGet(bucketIndex(micros));
+    }
+
+    // 현재 슬롯을 포함한 최근 lastSlots개 슬롯을 합산
+    public Snapshot snapshot(int lastSlots) {
+        if (lastSlots <= 0 || lastSlots > slotCount) {
+            throw new IllegalArgumentException("lastSlots는 1 ~ " + slotCount + " 사이여야 합니다.");
+        }
+        long now = clock.getAsLong();
+        long currentEpoch = now / slotMillis;
+        long oldestEpoch = currentEpoch - lastSlots + 1;
+
+        long[] merged = new long[BUCKET_COUNT];
+        long total = 0;
+        for (int i = 0; i < slotCount; i++) {
+            Slot slot = slots.get(i);
+            if (slot == null || slot.epoch < oldestEpoch || slot.epoch > currentEpoch) continue;
+            for (int b = 0; b < BUCKET_COUNT; b++) {
+                long c = slot.counts.get(b);
+                merged[b] += c;
+                total += c;
+            }
+        }
+
+        // 현재 슬롯은 진행 중이므로 경과한 만큼만 구간 길이에 포함
+        long coveredMillis = (lastSlots - 1) * slotMillis + (now - currentEpoch * slotMillis) + 1;
+        return new Snapshot(merged, total, coveredMillis);
+    }
+
+    // 값 → 버킷 번호 (0 ~ 7은 그대로, 이후는 2의 거듭제곱 구간마다 8칸)
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) Math.max(value, 0);
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        if (magnitude > MAX_MAGNITUDE) return BUCKET_COUNT - 1;
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int sub = (int) ((value >>> shift) & (SUB_BUCKET_COUNT - 1));
+        return (magnitude - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    // 버킷의 하한값
+    static long bucketLowerBound(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        int sub = index % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + sub) << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    // 버킷 폭 (다음 버킷 하한 - 하한)
+    static long bucketWidth(int index) {
+        if (index < SUB_BUCKET_COUNT) return 1;
+        int magnitude = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        return 1L << (magnitude - SUB_BUCKET_BITS);
+    }
+
+    private static final class Slot {
+        final long epoch;
+        final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+        Slot(long epoch) {
+            this.epoch = epoch;
+        }
+    }
+
+    // 합산 결과 (percentile은 버킷 중간값, 마이크로초)
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+        private final long coveredMillis;
+
+        Snapshot(long[] counts, long count, long coveredMillis) {
+            this.counts = counts;
+            this.count = count;
+            this.coveredMillis = coveredMillis;
+        }
+
+        public long getCount() { return count; }
+
+        // 초당 처리량
+        public double getThroughputPerSecond() {
+            return count * 1000.0 / coveredMillis;
+        }
+
+        // quantile: 0.0 ~ 1.0, 기록이 없으면 0
+        public long valueAtQuantile(double quantile) {
+            if (count == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return bucketLowerBound(i) + bucketWidth(i) / 2;
+                }
+            }
+            return bucketLowerBound(counts.length - 1);
+        }
+    }
+}
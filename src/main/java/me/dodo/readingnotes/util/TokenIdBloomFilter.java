@@ -0,0 +1,82 @@
+package me.dodo.readingnotes.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 토큰 ID(jti) 폐기 여부를 확인하는 고정 크기 Bloom filter
+// - false negative 없음: 폐기한 토큰은 반드시 걸러짐
+// - false positive 있음: 폐기하지 않은 토큰이 드물게 폐기로 판정될 수 있음 (호출하는 쪽에서 재발급 경로로 처리)
+// - 락 없이 AtomicLongArray의 CAS로 비트를 세팅함
+public class TokenIdBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    public TokenIdBloomFilter(int bitCount, int hashCount) {
+        if (bitCount < 64) {
+            throw new IllegalArgumentException("bitCount는 64 이상이어야 합니다.");
+        }
+        if (hashCount < 1) {
+            throw new IllegalArgumentException("hashCount는 1 이상이어야 합니다.");
+        }
+        this.words = new AtomicLongArray((bitCount + 63) >>> 6);
+        this.bitCount = bitCount;
+        this.hashCount = hashCount;
+    }
+
+    public void add(String tokenId) {
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    public boolean mightContain(String tokenId) {
+        long hash = hash64(tokenId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashCount; i++) {
+            if (!getBit(index(h1 + i * h2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        // 음수 해시도 [0, bitCount) 범위로
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private void setBit(int bit) {
+        int wordIndex = bit >>> 6;
+        long mask = 1L << (bit & 63);
+        long prev;
+        do {
+            prev = words.get(wordIndex);
+            if ((prev & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, prev, prev | mask));
+    }
+
+    private boolean getBit(int bit) {
+        return (words.get(bit >>> 6) & (1L << (bit & 63))) != 0;
+    }
+
+    // FNV-1a 64bit + 비트 믹싱 (double hashing의 두 해시값을 한 번에 얻기 위함)
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+        h ^= (h >>> 33);
+        h *= 0xff51afd7ed558ccdL;
+        h ^= (h >>> 33);
+        return h;
+    }
+}
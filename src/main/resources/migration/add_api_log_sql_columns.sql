@@ -0,0 +1,14 @@
+-- =========================================================
+-- api_logs 요청당 SQL 실행 횟수/시간 컬럼 추가 (1회 실행)
+-- - 파티션 부모 테이블에 추가하면 모든 파티션에 반영됨
+-- - 기존 행은 NULL (측정 전 로그)
+-- =========================================================
+
+ALTER TABLE api_logs ADD COLUMN IF NOT EXISTS sql_count INTEGER NULL;
+ALTER TABLE api_logs ADD COLUMN IF NOT EXISTS sql_time_ms INTEGER NULL;
+ALTER TABLE api_logs ADD COLUMN IF NOT EXISTS sql_budget_exceeded BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- 관리자 로그 화면에서 예산 초과 요청만 모아볼 때
+CREATE INDEX IF NOT EXISTS idx_api_logs_sql_budget_exceeded
+    ON api_logs (created_at DESC)
+    WHERE sql_budget_exceeded;
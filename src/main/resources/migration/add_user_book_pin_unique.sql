@@ -0,0 +1,25 @@
+-- =========================================================
+-- user_book_pins (user_id, book_id) 유니크 제약 추가 (1회 실행)
+-- - 책 고정은 INSERT ... ON CONFLICT (user_id, book_id)라 이 제약이 없으면 실패
+--   ("no unique or exclusion constraint matching the ON CONFLICT specification")
+-- - 예전에 ddl-auto(update)로 만들어진 테이블에는 제약이 없을 수 있음
+-- - 중복 고정이 있으면 가장 먼저 만든 행만 남기고 지운 뒤 추가
+-- =========================================================
+
+BEGIN;
+
+DELETE FROM user_book_pins p
+USING user_book_pins keep
+WHERE p.user_id = keep.user_id
+  AND p.book_id = keep.book_id
+  AND p.id > keep.id;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint
+                   WHERE conrelid = 'user_book_pins'::regclass AND conname = 'uq_user_book_pin') THEN
+        ALTER TABLE user_book_pins ADD CONSTRAINT uq_user_book_pin UNIQUE (user_id, book_id);
+    END IF;
+END $$;
+
+COMMIT;
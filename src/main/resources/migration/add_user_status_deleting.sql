@@ -0,0 +1,13 @@
+-- =========================================================
+-- users.user_status에 DELETING 추가 (1회 실행)
+-- - 탈퇴 요청 후 백그라운드 삭제가 끝날 때까지의 상태 (로그인/API Key 차단)
+-- - 서버 재시작 시 이 상태로 남은 유저는 삭제 작업을 이어서 처리
+-- =========================================================
+
+BEGIN;
+
+ALTER TABLE users DROP CONSTRAINT IF EXISTS ck_users_user_status;
+ALTER TABLE users ADD CONSTRAINT ck_users_user_status
+    CHECK (user_status IN ('ACTIVE', 'BLOCKED', 'SUSPENDED', 'DELETING'));
+
+COMMIT;
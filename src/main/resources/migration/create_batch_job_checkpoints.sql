@@ -0,0 +1,17 @@
+-- =========================================================
+-- 배치 작업 체크포인트 테이블 (1회 실행)
+-- - sentence 일괄 정리 등 관리자 배치 작업이 진행 위치를 저장
+-- - JPA 엔티티가 아니므로 ddl-auto로 생성되지 않음
+-- =========================================================
+
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    job_name      VARCHAR(100) PRIMARY KEY,
+    last_id       BIGINT       NOT NULL DEFAULT 0,
+    processed     BIGINT       NOT NULL DEFAULT 0,
+    updated       BIGINT       NOT NULL DEFAULT 0,
+    status        VARCHAR(20)  NOT NULL,   -- RUNNING / COMPLETED / FAILED
+    started_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    finished_at   TIMESTAMP    NULL,
+    error_message VARCHAR(500) NULL
+);
@@ -0,0 +1,130 @@
+-- =========================================================
+-- api_logs / user_auth_logs 월 단위 파티셔닝 마이그레이션 (1회 실행)
+-- - created_at 기준 RANGE 파티션 + DEFAULT 파티션
+-- - 기존 데이터가 있는 달 ~ 다음 달까지 파티션을 미리 만들고 데이터 이관
+-- - 이후 파티션 생성/보관 기간 지난 파티션 분리·아카이브는 LogPartitionScheduler가 처리
+-- 실행 전 백업 필수. 실행 중에는 로그 테이블에 쓰기가 잠깐 막힘.
+-- =========================================================
+
+BEGIN;
+
+-- ---------------------------------------------------------
+-- api_logs
+-- ---------------------------------------------------------
+ALTER TABLE api_logs RENAME TO api_logs_legacy;
+
+-- 기존 id가 serial/identity 어느 쪽이든 상관없도록 별도 시퀀스 사용
+CREATE SEQUENCE IF NOT EXISTS api_logs_part_id_seq;
+SELECT setval('api_logs_part_id_seq', COALESCE((SELECT MAX(id) FROM api_logs_legacy), 0) + 1, false);
+
+CREATE TABLE api_logs (
+    id                BIGINT NOT NULL DEFAULT nextval('api_logs_part_id_seq'),
+    user_id           BIGINT NULL,
+    user_role         VARCHAR(255) NULL,
+    method            VARCHAR(100) NULL,
+    path              VARCHAR(255) NULL,
+    query_string      VARCHAR(255) NULL,
+    status_code       INTEGER NOT NULL,
+    result            VARCHAR(20) NOT NULL,
+    ip_address        VARCHAR(45) NULL,
+    user_agent        VARCHAR(255) NULL,
+    execution_time_ms INTEGER NOT NULL,
+    error_code        VARCHAR(20) NULL,
+    error_message     VARCHAR(100) NULL,
+    created_at        TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+
+    -- 파티션 테이블의 PK에는 파티션 키가 포함되어야 함
+    CONSTRAINT pk_api_logs PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_api_logs_user
+        FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE SET NULL
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE api_logs_part_id_seq OWNED BY api_logs.id;
+
+CREATE TABLE api_logs_default PARTITION OF api_logs DEFAULT;
+
+DO $$
+DECLARE
+    m DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM api_logs_legacy), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + interval '1 month')::date;
+BEGIN
+    WHILE m <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF api_logs FOR VALUES FROM (%L) TO (%L)',
+                       'api_logs_p' || to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END$$;
+
+INSERT INTO api_logs (id, user_id, user_role, method, path, query_string, status_code, result,
+                      ip_address, user_agent, execution_time_ms, error_code, error_message, created_at)
+SELECT id, user_id, user_role, method, path, query_string, status_code, result::text,
+       ip_address, user_agent, execution_time_ms, error_code, error_message, created_at
+FROM api_logs_legacy;
+
+DROP TABLE api_logs_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_api_logs_created_at ON api_logs (created_at);
+CREATE INDEX IF NOT EXISTS idx_api_logs_user_id     ON api_logs (user_id);
+CREATE INDEX IF NOT EXISTS idx_api_logs_result      ON api_logs (result);
+CREATE INDEX IF NOT EXISTS idx_api_logs_path        ON api_logs (path);
+
+-- ---------------------------------------------------------
+-- user_auth_logs
+-- id는 엔티티(Hibernate 시퀀스)에서 채우므로 기본값 없음
+-- ---------------------------------------------------------
+ALTER TABLE user_auth_logs RENAME TO user_auth_logs_legacy;
+
+CREATE TABLE user_auth_logs (
+    id          BIGINT NOT NULL,
+    user_id     BIGINT,
+    event_type  VARCHAR(50) NOT NULL,
+    result      VARCHAR(20) NOT NULL,
+    fail_reason VARCHAR(50),
+    ip_address  VARCHAR(45),
+    user_agent  VARCHAR(255),
+    identifier  VARCHAR(255),
+    provider    VARCHAR(20),
+    created_at  TIMESTAMP NOT NULL DEFAULT now(),
+
+    CONSTRAINT pk_user_auth_logs PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_user_auth_logs_user
+        FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE SET NULL,
+    CONSTRAINT ck_user_auth_logs_event_type
+        CHECK (event_type IN ('LOGIN', 'LOGIN_FAIL', 'LOGOUT_CURRENT_DEVICE', 'LOGOUT_ALL_DEVICES')),
+    CONSTRAINT ck_user_auth_logs_result
+        CHECK (result IN ('SUCCESS', 'FAIL'))
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE user_auth_logs_default PARTITION OF user_auth_logs DEFAULT;
+
+DO $$
+DECLARE
+    m DATE := date_trunc('month', COALESCE((SELECT MIN(created_at) FROM user_auth_logs_legacy), now()))::date;
+    last_month DATE := (date_trunc('month', now()) + interval '1 month')::date;
+BEGIN
+    WHILE m <= last_month LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF user_auth_logs FOR VALUES FROM (%L) TO (%L)',
+                       'user_auth_logs_p' || to_char(m, 'YYYYMM'), m, (m + interval '1 month')::date);
+        m := (m + interval '1 month')::date;
+    END LOOP;
+END$$;
+
+INSERT INTO user_auth_logs (id, user_id, event_type, result, fail_reason, ip_address, user_agent,
+                            identifier, provider, created_at)
+SELECT id, user_id, event_type, result, fail_reason, ip_address, user_agent,
+       identifier, provider, created_at
+FROM user_auth_logs_legacy;
+
+DROP TABLE user_auth_logs_legacy;
+
+CREATE INDEX IF NOT EXISTS idx_user_auth_logs_user_created
+    ON user_auth_logs (user_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_user_auth_logs_fail
+    ON user_auth_logs (result, created_at DESC)
+    WHERE result = 'FAIL';
+CREATE INDEX IF NOT EXISTS idx_user_auth_logs_identifier
+    ON user_auth_logs (identifier);
+CREATE INDEX IF NOT EXISTS idx_user_auth_logs_ip
+    ON user_auth_logs (ip_address);
+
+COMMIT;
@@ -0,0 +1,41 @@
+-- =========================================================
+-- IDENTITY(BIGSERIAL) → 증가폭 50 시퀀스 전환 (1회 실행)
+-- - 엔티티가 nextval 한 번으로 id 50개(hi-49 ~ hi)를 받아 쓰는 pooled 방식
+--   → persist 시 바로 INSERT하지 않아 hibernate.jdbc.batch_size로 묶임
+-- - 시퀀스 증가폭과 엔티티 allocationSize가 다르면 앱이 기동되지 않으므로 배포 전에 실행
+-- - last_value를 현재 최대 id 이상으로 맞춰 두면 다음 블록은 항상 기존 id보다 큼
+-- - 컬럼 기본값(nextval)은 그대로 두므로 기존 INSERT도 계속 동작 (값 간격만 50)
+-- =========================================================
+
+BEGIN;
+
+-- reading_records (BIGSERIAL 시퀀스 그대로 사용)
+ALTER SEQUENCE reading_records_id_seq INCREMENT BY 50;
+SELECT setval('reading_records_id_seq',
+              GREATEST((SELECT last_value FROM reading_records_id_seq),
+                       COALESCE((SELECT MAX(id) FROM reading_records), 0), 1),
+              true);
+
+-- book_source_links
+ALTER SEQUENCE book_source_links_id_seq INCREMENT BY 50;
+SELECT setval('book_source_links_id_seq',
+              GREATEST((SELECT last_value FROM book_source_links_id_seq),
+                       COALESCE((SELECT MAX(id) FROM book_source_links), 0), 1),
+              true);
+
+-- api_logs (파티션 테이블 기본값 시퀀스)
+ALTER SEQUENCE api_logs_part_id_seq INCREMENT BY 50;
+SELECT setval('api_logs_part_id_seq',
+              GREATEST((SELECT last_value FROM api_logs_part_id_seq),
+                       COALESCE((SELECT MAX(id) FROM api_logs), 0), 1),
+              true);
+
+-- user_auth_logs (기존엔 ddl-auto가 만든 시퀀스, 없으면 생성)
+CREATE SEQUENCE IF NOT EXISTS user_auth_logs_seq INCREMENT BY 50;
+ALTER SEQUENCE user_auth_logs_seq INCREMENT BY 50;
+SELECT setval('user_auth_logs_seq',
+              GREATEST((SELECT last_value FROM user_auth_logs_seq),
+                       COALESCE((SELECT MAX(id) FROM user_auth_logs), 0), 1),
+              true);
+
+COMMIT;
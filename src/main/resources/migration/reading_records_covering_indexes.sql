@@ -0,0 +1,33 @@
+-- =========================================================
+-- reading_records 인덱스 정리 (1회 실행)
+-- - 책장/기록 목록/관리자 통계 쿼리가 index-only scan으로 끝나도록 필요한 컬럼까지 포함한 인덱스로 교체
+-- - (user_id, recorded_at)             → (user_id, recorded_at, id)               정렬 tie-break까지 인덱스 순서로
+-- - (user_id, match_status, recorded_at) → (user_id, match_status, book_id, recorded_at)  책별 group by/max
+-- - 추가: (book_id, user_id), (created_at, user_id), (recorded_at, user_id)
+-- - 삭제: idx_rr_matched_at (matched_at으로 조회하는 쿼리 없음, 쓰기 비용만 듦)
+-- CONCURRENTLY라 트랜잭션(BEGIN/COMMIT) 없이 한 문장씩 실행 (기록 저장은 막히지 않음)
+-- 중간에 실패하면 INVALID 인덱스가 남으므로 DROP INDEX 후 해당 문장부터 다시 실행
+-- 새 인덱스를 다 만든 뒤 예전 인덱스를 지움
+-- =========================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rr_user_recorded_id
+    ON reading_records (user_id, recorded_at, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rr_user_status_book_recorded
+    ON reading_records (user_id, match_status, book_id, recorded_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rr_book_user
+    ON reading_records (book_id, user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rr_created_user
+    ON reading_records (created_at, user_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_rr_recorded_user
+    ON reading_records (recorded_at, user_id);
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_rr_user_recorded;
+DROP INDEX CONCURRENTLY IF EXISTS idx_rr_user_match_status_recorded;
+DROP INDEX CONCURRENTLY IF EXISTS idx_rr_matched_at;
+
+-- index-only scan은 visibility map이 최신일 때만 힙을 건너뜀
+VACUUM (ANALYZE) reading_records;
@@ -20,7 +20,7 @@ CREATE TABLE IF NOT EXISTS users (
     CONSTRAINT uq_users_api_key  UNIQUE (api_key),
 
     CONSTRAINT ck_users_user_status
-    CHECK (user_status IN ('ACTIVE', 'BLOCKED', 'SUSPENDED'))
+    CHECK (user_status IN ('ACTIVE', 'BLOCKED', 'SUSPENDED', 'DELETING'))
     );
 
 -- 보통 로그인/조회에서 자주 쓰는 인덱스 (UNIQUE면 자동 인덱스가 생기지만 명시 유지해도 무방)
@@ -127,8 +127,12 @@ CREATE TRIGGER trg_books_set_updated_at
 -- =========================
 -- Table: reading_records
 -- =========================
+-- id는 증가폭 50 시퀀스 (엔티티 pooled 할당, 기존 BIGSERIAL은 migration/pooled_id_sequences.sql)
+-- 50부터 시작: 첫 nextval(50)이 1~50 블록 (1부터면 -48~1 블록이 됨, 마이그레이션의 setval과 같은 규칙)
+CREATE SEQUENCE IF NOT EXISTS reading_records_id_seq INCREMENT BY 50 START WITH 50;
+
 CREATE TABLE IF NOT EXISTS reading_records (
-    id            BIGSERIAL PRIMARY KEY,
+    id            BIGINT PRIMARY KEY DEFAULT nextval('reading_records_id_seq'),
 
     book_id       BIGINT,
     user_id       BIGINT NOT NULL,
@@ -167,28 +171,43 @@ CREATE TABLE IF NOT EXISTS reading_records (
                            ))
     );
 
--- 엔티티에 선언한 인덱스 반영
-CREATE INDEX IF NOT EXISTS idx_rr_user_recorded
-    ON reading_records (user_id, recorded_at);
+ALTER SEQUENCE reading_records_id_seq OWNED BY reading_records.id;
+
+-- 엔티티에 선언한 인덱스 반영 (자주 도는 쿼리가 index-only scan으로 끝나도록 필요한 컬럼까지 포함)
+-- 내 기록 목록/달력: user_id로 좁히고 recorded_at desc, id desc 순서 그대로 읽음 (정렬 없음), 개수/일별 집계는 index-only
+CREATE INDEX IF NOT EXISTS idx_rr_user_recorded_id
+    ON reading_records (user_id, recorded_at, id);
 
+-- 책별 기록 슬라이스, 책별 기간(min/max), 기록 존재 여부
 CREATE INDEX IF NOT EXISTS idx_record_user_book_at_id
     ON reading_records (user_id, book_id, recorded_at, id);
 
--- (선택) 매칭 상태/시간 기반 조회가 잦으면 도움
-CREATE INDEX IF NOT EXISTS idx_rr_match_status
-    ON reading_records (match_status);
+-- 책장(매칭 완료 책 목록): user_id + match_status로 좁히고 book_id별 max(recorded_at) → index-only
+CREATE INDEX IF NOT EXISTS idx_rr_user_status_book_recorded
+    ON reading_records (user_id, match_status, book_id, recorded_at);
+
+-- 책 기준: 영구 삭제 시 연결 해제(detachBook), FK ON DELETE SET NULL, 책 병합, 인기 책 통계(유저 수)
+CREATE INDEX IF NOT EXISTS idx_rr_book_user
+    ON reading_records (book_id, user_id);
 
-CREATE INDEX IF NOT EXISTS idx_rr_user_match_status_recorded
-    ON reading_records (user_id, match_status, recorded_at);
+-- 관리자 통계 (기간 내 일별 기록 수, 활성 유저 수, 오늘 기록 수) → index-only
+CREATE INDEX IF NOT EXISTS idx_rr_created_user
+    ON reading_records (created_at, user_id);
 
-CREATE INDEX IF NOT EXISTS idx_rr_matched_at
-    ON reading_records (matched_at);
+CREATE INDEX IF NOT EXISTS idx_rr_recorded_user
+    ON reading_records (recorded_at, user_id);
+
+-- 매칭 상태별 집계, 재매칭 대상
+CREATE INDEX IF NOT EXISTS idx_rr_match_status
+    ON reading_records (match_status);
 
 -- =========================
 -- Table: book_source_links
 -- =========================
+CREATE SEQUENCE IF NOT EXISTS book_source_links_id_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS book_source_links (
-    id           BIGSERIAL PRIMARY KEY,
+    id           BIGINT PRIMARY KEY DEFAULT nextval('book_source_links_id_seq'),
 
     book_id      BIGINT NOT NULL,
 
@@ -211,6 +230,8 @@ CREATE TABLE IF NOT EXISTS book_source_links (
     CONSTRAINT uq_source_external UNIQUE (source, external_id)
     );
 
+ALTER SEQUENCE book_source_links_id_seq OWNED BY book_source_links.id;
+
 -- 엔티티 인덱스 반영
 CREATE INDEX IF NOT EXISTS idx_bsl_isbn13
     ON book_source_links (isbn13);
@@ -225,8 +246,13 @@ CREATE INDEX IF NOT EXISTS idx_bsl_source
 -- =========================
 -- Table: user_auth_logs
 -- =========================
+-- created_at 월 단위 RANGE 파티션 (월 파티션 생성/보관 기간 지난 파티션 아카이브는 LogPartitionScheduler)
+-- 기존 단일 테이블에서 옮길 때는 migration/partition_log_tables.sql 사용
+-- id는 엔티티가 user_auth_logs_seq에서 50개씩 받아 채움 (기본값 없음)
+CREATE SEQUENCE IF NOT EXISTS user_auth_logs_seq INCREMENT BY 50;
+
 CREATE TABLE IF NOT EXISTS user_auth_logs (
-    id          BIGSERIAL PRIMARY KEY,
+    id          BIGINT NOT NULL,
     user_id     BIGINT,
 
     event_type  VARCHAR(50) NOT NULL,
@@ -242,6 +268,9 @@ CREATE TABLE IF NOT EXISTS user_auth_logs (
 
     created_at  TIMESTAMP NOT NULL DEFAULT now(),
 
+    -- 파티션 테이블의 PK에는 파티션 키가 포함되어야 함
+    CONSTRAINT pk_user_auth_logs PRIMARY KEY (id, created_at),
+
     CONSTRAINT fk_user_auth_logs_user
     FOREIGN KEY (user_id)
     REFERENCES users(id)
@@ -257,7 +286,10 @@ CREATE TABLE IF NOT EXISTS user_auth_logs (
 
     CONSTRAINT ck_user_auth_logs_result
     CHECK (result IN ('SUCCESS', 'FAIL'))
-    );
+    ) PARTITION BY RANGE (created_at);
+
+-- 월 파티션이 아직 없는 구간의 데이터 보관용
+CREATE TABLE IF NOT EXISTS user_auth_logs_default PARTITION OF user_auth_logs DEFAULT;
 
 -- 유저별 인증 이력 조회
 CREATE INDEX IF NOT EXISTS idx_user_auth_logs_user_created
@@ -279,47 +311,53 @@ CREATE INDEX IF NOT EXISTS idx_user_auth_logs_ip
 -- =========================
 -- Table: api_logs
 -- =========================
-DO $$
-BEGIN
-  IF NOT EXISTS (SELECT 1 FROM pg_type WHERE typname = 'api_log_result') THEN
-     CREATE TYPE api_log_result AS ENUM ('SUCCESS', 'FAIL');
-END IF;
-END$$;
+-- created_at 월 단위 RANGE 파티션 (user_auth_logs와 동일)
+CREATE SEQUENCE IF NOT EXISTS api_logs_part_id_seq INCREMENT BY 50;
 
 CREATE TABLE IF NOT EXISTS api_logs (
-    id              BIGSERIAL PRIMARY KEY,
+    id                BIGINT NOT NULL DEFAULT nextval('api_logs_part_id_seq'),
 
-    user_id         BIGINT NULL,              -- 실패 시 null 가능
-    user_role       VARCHAR(255) NULL,
+    user_id           BIGINT NULL,              -- 실패 시 null 가능
+    user_role         VARCHAR(255) NULL,
 
-    method          VARCHAR(100) NULL,
-    path            VARCHAR(255) NULL,
-    query_string    VARCHAR(255) NULL,
+    method            VARCHAR(100) NULL,
+    path              VARCHAR(255) NULL,
+    query_string      VARCHAR(255) NULL,
 
-    status_code     INTEGER NOT NULL,          -- @Column(length=20)은 DDL에 영향 없음(숫자)
-    result          api_log_result NOT NULL,   -- 또는 아래 "CHECK 제약" 방식으로 대체 가능
+    status_code       INTEGER NOT NULL,
+    result            VARCHAR(20) NOT NULL,     -- SUCCESS / FAIL (엔티티 EnumType.STRING)
 
-    ip_address      VARCHAR(45) NULL,
-    user_agent      VARCHAR(255) NULL,
-    executionTimeMs INT(255) NOT NULL,
+    ip_address        VARCHAR(45) NULL,
+    user_agent        VARCHAR(255) NULL,
+    execution_time_ms INTEGER NOT NULL,
 
+    error_code        VARCHAR(20) NULL,
+    error_message     VARCHAR(100) NULL,
 
-    error_code      VARCHAR(20) NULL,
-    error_message   VARCHAR(100) NULL,
+    sql_count           INTEGER NULL,           -- 요청 중 실행된 SQL 수 (JDBC batch는 1회)
+    sql_time_ms         INTEGER NULL,           -- SQL 실행 누적 시간
+    sql_budget_exceeded BOOLEAN NOT NULL DEFAULT FALSE, -- api.log.sql-budget 초과 여부
 
-    created_at      TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+    created_at        TIMESTAMP WITHOUT TIME ZONE NOT NULL DEFAULT NOW(),
+
+    CONSTRAINT pk_api_logs PRIMARY KEY (id, created_at),
 
     CONSTRAINT fk_api_logs_user
     FOREIGN KEY (user_id)
     REFERENCES users (id)
     ON DELETE SET NULL
-);
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE api_logs_part_id_seq OWNED BY api_logs.id;
+
+CREATE TABLE IF NOT EXISTS api_logs_default PARTITION OF api_logs DEFAULT;
 
 -- 자주 조회할 만한 인덱스(선택)
 CREATE INDEX IF NOT EXISTS idx_api_logs_created_at ON api_logs (created_at);
 CREATE INDEX IF NOT EXISTS idx_api_logs_user_id     ON api_logs (user_id);
 CREATE INDEX IF NOT EXISTS idx_api_logs_result      ON api_logs (result);
 CREATE INDEX IF NOT EXISTS idx_api_logs_path        ON api_logs (path);
+CREATE INDEX IF NOT EXISTS idx_api_logs_sql_budget_exceeded ON api_logs (created_at DESC) WHERE sql_budget_exceeded;
 
 -- =========================
 -- Table: notices
@@ -345,4 +383,41 @@ CREATE TABLE book_comments (
     CONSTRAINT uq_book_comment_user_book UNIQUE (user_id, book_id)
 );
 
-CREATE INDEX idx_bc_user_book ON book_comments (user_id, book_id);
\ No newline at end of file
+CREATE INDEX idx_bc_user_book ON book_comments (user_id, book_id);
+
+-- =========================
+-- Table: user_book_pins
+-- =========================
+-- (user_id, book_id) 유니크 = 고정 upsert(ON CONFLICT) 대상
+CREATE TABLE IF NOT EXISTS user_book_pins (
+    id         BIGSERIAL PRIMARY KEY,
+    user_id    BIGINT    NOT NULL,
+    book_id    BIGINT    NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT now(),
+
+    CONSTRAINT uq_user_book_pin UNIQUE (user_id, book_id),
+
+    CONSTRAINT fk_ubp_user
+    FOREIGN KEY (user_id)
+    REFERENCES users(id)
+    ON DELETE CASCADE,
+
+    CONSTRAINT fk_ubp_book
+    FOREIGN KEY (book_id)
+    REFERENCES books(id)
+    );
+-- =========================
+-- Table: batch_job_checkpoints
+-- =========================
+-- 관리자 배치 작업 진행 위치 (중단 후 last_id 다음부터 재개)
+CREATE TABLE IF NOT EXISTS batch_job_checkpoints (
+    job_name      VARCHAR(100) PRIMARY KEY,
+    last_id       BIGINT       NOT NULL DEFAULT 0,
+    processed     BIGINT       NOT NULL DEFAULT 0,
+    updated       BIGINT       NOT NULL DEFAULT 0,
+    status        VARCHAR(20)  NOT NULL,   -- RUNNING / COMPLETED / FAILED
+    started_at    TIMESTAMP    NOT NULL,
+    updated_at    TIMESTAMP    NOT NULL,
+    finished_at   TIMESTAMP    NULL,
+    error_message VARCHAR(500) NULL
+);
@@ -0,0 +1,42 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.repository.BookMergeRepository.MergeCounts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 중복 책 병합 SQL 확인 (공통 준비는 PostgresPlanTestSupport, 테스트마다 롤백)
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/postgres BENCH_DB_USERNAME=postgres ./gradlew test --tests '*BookMergeRepositoryTest'
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+@Import(BookMergeRepository.class)
+class BookMergeRepositoryTest extends PostgresPlanTestSupport {
+
+    @Autowired BookMergeRepository bookMergeRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("대표 책에 ISBN13이 없으면 삭제된 중복 책의 ISBN13을 넘겨받고 중복 책은 지워진다")
+    void merge_carriesIsbnFromDeletedDuplicate() {
+        Long live = jdbcTemplate.queryForObject(
+                "INSERT INTO books (title, author) VALUES ('merge book', 'merge author') RETURNING id", Long.class);
+        Long deleted = jdbcTemplate.queryForObject("""
+                INSERT INTO books (title, author, isbn13, deleted_at)
+                VALUES ('merge book', 'merge author', '9791222222222', NOW()) RETURNING id
+                """, Long.class);
+
+        MergeCounts counts = bookMergeRepository.merge(live, List.of(deleted));
+
+        assertThat(counts.deletedBooks()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT isbn13 FROM books WHERE id = ?", String.class, live))
+                .isEqualTo("9791222222222");
+        assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM books WHERE id = ?", Integer.class, deleted))
+                .isZero();
+    }
+}
@@ -0,0 +1,155 @@
+package me.dodo.readingnotes.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 실행 계획 테스트 공통 (EXPLAIN (GENERIC_PLAN), PostgreSQL 16 이상)
+// - PostgreSQL 전용 네이티브 쿼리(ON CONFLICT 등) 테스트도 같은 스키마를 씀 (UpsertQueryTest)
+// - 실제 PostgreSQL이 필요해서 하위 클래스는 BENCH_DB_URL(+ BENCH_DB_USERNAME, BENCH_DB_PASSWORD)이 있을 때만 실행
+// - JVM당 한 번 별도 스키마(search_plan_test)에 schema.sql 적용 + 테스트 데이터 넣고 VACUUM ANALYZE
+//   (통계와 visibility map이 있어야 index-only scan 여부를 제대로 봄), JVM 종료 시 스키마 삭제
+// - 레포지토리 메서드가 실행한 SQL을 가로채서 ? → $n으로 바꾼 뒤 EXPLAIN
+// - generic plan = 파라미터 값과 무관한 plan (prepared statement 재사용 시 PostgreSQL이 결국 쓰는 plan)
+// - enable_seqscan=off로 두고 "쓸 수 있는 인덱스 중 무엇을 어떻게 쓰는지"를 봄
+@DataJpaTest(properties = {
+        "spring.profiles.active=plan-test",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "me.dodo.readingnotes.repository.PostgresPlanTestSupport$CapturingInspector"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+abstract class PostgresPlanTestSupport {
+
+    private static final String SCHEMA = "search_plan_test";
+    private static final List<String> CAPTURED = Collections.synchronizedList(new ArrayList<>());
+    private static boolean schemaReady;
+
+    // 유저 200명, 책 1000권, 기록 5만 건 (1년에 고르게, 5건 중 1건은 매칭 전)
+    private static final String SEED = """
+            INSERT INTO users (username, email, provider, api_key)
+            SELECT 'plan' || g, 'plan' || g || '@test.com', CASE WHEN g % 3 = 0 THEN 'kakao' ELSE 'local' END, 'key' || g
+            FROM generate_series(1, 200) g;
+
+            INSERT INTO books (title, author, isbn13)
+            SELECT 'book ' || g, 'author ' || (g % 50), (9780000000000 + g)::text
+            FROM generate_series(1, 1000) g;
+
+            INSERT INTO reading_records (user_id, book_id, sentence, raw_title, raw_author, match_status,
+                                         created_at, recorded_at, updated_at)
+            SELECT u.min_id + g % 200,
+                   CASE WHEN g % 5 = 0 THEN NULL ELSE b.min_id + g % 1000 END,
+                   repeat('문장 ', 20), 'title ' || g % 1000, 'author',
+                   CASE WHEN g % 5 = 0 THEN 'PENDING' WHEN g % 2 = 0 THEN 'RESOLVED_AUTO' ELSE 'RESOLVED_MANUAL' END,
+                   t.at, t.at, t.at
+            FROM generate_series(1, 50000) g
+            CROSS JOIN (SELECT min(id) AS min_id FROM users) u
+            CROSS JOIN (SELECT min(id) AS min_id FROM books) b
+            CROSS JOIN LATERAL (SELECT timestamp '2025-01-01' + (g % 365) * interval '1 day'
+                                       + (g % 1440) * interval '1 minute' AS at) t;
+
+            INSERT INTO user_book_pins (user_id, book_id)
+            SELECT DISTINCT user_id, book_id FROM reading_records WHERE book_id IS NOT NULL AND id % 97 = 0;
+            """;
+
+    // Hibernate가 실행하는 SQL을 그대로 모음
+    public static class CapturingInspector implements StatementInspector {
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", PostgresPlanTestSupport::schemaUrl);
+        registry.add("spring.datasource.username", () -> env("BENCH_DB_USERNAME"));
+        registry.add("spring.datasource.password", () -> env("BENCH_DB_PASSWORD"));
+    }
+
+    @BeforeAll
+    static synchronized void createSchema() throws Exception {
+        if (schemaReady) return;
+        try (Connection c = connect(System.getenv("BENCH_DB_URL")); Statement st = c.createStatement()) {
+            st.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            st.execute("CREATE SCHEMA " + SCHEMA);
+            st.execute("SET search_path TO " + SCHEMA);
+            st.execute(new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8));
+            st.execute(SEED);
+            // VACUUM은 트랜잭션 안에서 못 돌아서 따로 실행
+            st.execute("VACUUM (ANALYZE)");
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try (Connection c = connect(System.getenv("BENCH_DB_URL")); Statement st = c.createStatement()) {
+                st.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+            } catch (SQLException ignored) {
+                // 다음 실행 때 다시 지우고 만듦
+            }
+        }));
+        schemaReady = true;
+    }
+
+    // call 실행 중 나간 SQL
+    protected static List<String> captureSql(Runnable call) {
+        CAPTURED.clear();
+        call.run();
+        return List.copyOf(CAPTURED);
+    }
+
+    // $n이 든 SQL은 extended protocol로 보내면 바인딩 값을 요구해서 simple query 모드 커넥션 사용
+    protected static String explain(String sql) throws SQLException {
+        try (Connection c = connect(schemaUrl() + "&preferQueryMode=simple"); Statement st = c.createStatement()) {
+            st.execute("SET enable_seqscan = off");
+            try (ResultSet rs = st.executeQuery("EXPLAIN (GENERIC_PLAN) " + numberParameters(sql))) {
+                StringBuilder plan = new StringBuilder();
+                while (rs.next()) {
+                    plan.append(rs.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    // JDBC ? → $1, $2 ... (GENERIC_PLAN은 번호 파라미터만 받음)
+    private static String numberParameters(String sql) {
+        StringBuilder out = new StringBuilder();
+        int n = 0;
+        for (char ch : sql.toCharArray()) {
+            if (ch == '?') {
+                out.append('$').append(++n);
+            } else {
+                out.append(ch);
+            }
+        }
+        return out.toString();
+    }
+
+    private static Connection connect(String url) throws SQLException {
+        return DriverManager.getConnection(url, env("BENCH_DB_USERNAME"), env("BENCH_DB_PASSWORD"));
+    }
+
+    private static String schemaUrl() {
+        String url = System.getenv("BENCH_DB_URL");
+        return url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA;
+    }
+
+    private static String env(String name) {
+        String value = System.getenv(name);
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,125 @@
+package me.dodo.readingnotes.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// reading_records 인덱스 설계 확인 (schema.sql / ReadingRecord @Index, 공통 준비는 PostgresPlanTestSupport)
+// - 자주 도는 쿼리가 의도한 인덱스를 쓰는지, 필요한 컬럼이 다 인덱스에 있어 index-only scan으로 끝나는지
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/postgres BENCH_DB_USERNAME=postgres ./gradlew test --tests '*PlanTest'
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class ReadingRecordIndexPlanTest extends PostgresPlanTestSupport {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 6, 1, 0, 0);
+    // 결과가 없는 먼 페이지 → 목록 + count 둘 다 실행
+    private static final PageRequest FAR_PAGE = PageRequest.of(1000, 20);
+
+    @Autowired ReadingRecordRepository readingRecordRepository;
+    @Autowired BookRepository bookRepository;
+
+    @Test
+    @DisplayName("책장: user_id + match_status 범위에서 책별 max(recorded_at)까지 index-only (목록 + count)")
+    void confirmedBooks() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.findConfirmedBooksByRecent(1L, null, FAR_PAGE),
+                "idx_rr_user_status_book_recorded", 2);
+        assertIndexOnly(() -> readingRecordRepository.findConfirmedBooksForMain(1L, null, PageRequest.of(0, 10)),
+                "idx_rr_user_status_book_recorded", 1);
+    }
+
+    @Test
+    @DisplayName("내 기록 목록: 인덱스 순서(recorded_at desc, id desc) 그대로 읽어 정렬 없음, count는 index-only")
+    void myRecords() throws SQLException {
+        List<String> statements = captureSql(
+                () -> readingRecordRepository.findMyRecordsByText(1L, null, FAR_PAGE));
+        assertThat(statements).hasSize(2);
+
+        String listPlan = explain(statements.get(0));
+        assertThat(listPlan).as(listPlan)
+                .containsPattern("Index Scan Backward using idx_rr_user_recorded_id on reading_records")
+                .doesNotContain("Sort")
+                .doesNotContain("Seq Scan");
+
+        String countPlan = explain(statements.get(1));
+        assertThat(countPlan).as(countPlan)
+                .contains("Index Only Scan using idx_rr_user_recorded_id on reading_records");
+    }
+
+    @Test
+    @DisplayName("달력 일별 개수: (user_id, recorded_at) 범위 index-only")
+    void calendarCounts() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.countByDayInRange(1L, FROM, FROM.plusMonths(1)),
+                "idx_rr_user_recorded_id", 1);
+    }
+
+    @Test
+    @DisplayName("책별 기간(min/max): (user_id, book_id, recorded_at) index-only")
+    void bookPeriod() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.findMinRecordedAtByUserAndBook(1L, 1L),
+                "idx_record_user_book_at_id", 1);
+        assertIndexOnly(() -> readingRecordRepository.findMaxRecordedAtByUserAndBook(1L, 1L),
+                "idx_record_user_book_at_id", 1);
+    }
+
+    @Test
+    @DisplayName("책 연결 해제(detachBook): book_id 단독 조건도 인덱스로 찾음")
+    void detachBook() throws SQLException {
+        List<String> statements = captureSql(() -> readingRecordRepository.detachBook(1L));
+        assertThat(statements).hasSize(1);
+        String plan = explain(statements.get(0));
+        assertThat(plan).as(plan)
+                .containsPattern("Index Scan using idx_rr_book_user on reading_records|Bitmap Index Scan on idx_rr_book_user")
+                .doesNotContain("Seq Scan");
+    }
+
+    @Test
+    @DisplayName("인기 책 통계: 책별 유저 수를 (book_id, user_id) index-only로 집계")
+    void topBooks() throws SQLException {
+        assertIndexOnly(() -> bookRepository.findTopBooksByRecordCount(), "idx_rr_book_user", 1);
+    }
+
+    @Test
+    @DisplayName("매칭 상태별 집계: match_status index-only")
+    void countByMatchStatus() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.countByMatchStatus(), "idx_rr_match_status", 1);
+    }
+
+    @Test
+    @DisplayName("관리자 통계(입력 시각 기준): created_at 범위 index-only")
+    void statsByCreatedAt() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.countDailyFromByCreatedAt(FROM), "idx_rr_created_user", 1);
+        assertIndexOnly(() -> readingRecordRepository.countDistinctActiveUsersFromByCreatedAt(FROM),
+                "idx_rr_created_user", 1);
+        assertIndexOnly(() -> readingRecordRepository.countTodayRecordsByCreatedAt(FROM), "idx_rr_created_user", 1);
+    }
+
+    @Test
+    @DisplayName("관리자 통계(기록 시각 기준): recorded_at 범위 index-only")
+    void statsByRecordedAt() throws SQLException {
+        assertIndexOnly(() -> readingRecordRepository.countDailyFrom(FROM), "idx_rr_recorded_user", 1);
+        // 유저 수는 user_id 순서로 이미 정렬된 (user_id, recorded_at, id) 전체를 훑는 쪽을 고를 수도 있음 (둘 다 index-only)
+        assertIndexOnly(() -> readingRecordRepository.countDistinctActiveUsersFrom(FROM),
+                "idx_rr_recorded_user|idx_rr_user_recorded_id", 1);
+        assertIndexOnly(() -> readingRecordRepository.countTodayRecords(FROM), "idx_rr_recorded_user", 1);
+    }
+
+    // 실행된 SQL마다 reading_records를 해당 인덱스(정규식) index-only scan으로만 읽는지 확인
+    private void assertIndexOnly(Runnable call, String index, int expectedStatements) throws SQLException {
+        List<String> statements = captureSql(call);
+        assertThat(statements).hasSize(expectedStatements);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as(sql + "\n" + plan)
+                    .containsPattern("Index Only Scan using (" + index + ") on reading_records")
+                    .doesNotContain("Seq Scan")
+                    .doesNotContainPattern("(Index|Bitmap Heap) Scan[^\\n]* on reading_records");
+        }
+    }
+}
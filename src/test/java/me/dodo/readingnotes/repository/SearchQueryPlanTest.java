@@ -0,0 +1,125 @@
+package me.dodo.readingnotes.repository;
+
+import me.dodo.readingnotes.domain.ApiLog;
+import me.dodo.readingnotes.domain.ReadingRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 검색 쿼리 조건 조합별 실행 계획 확인 (공통 준비는 PostgresPlanTestSupport)
+// - 들어온 조건만 WHERE에 넣었을 때 조합마다 인덱스를 타는지
+// - 결과가 없는 먼 페이지를 요청해서 목록 쿼리와 count 쿼리를 둘 다 실행시킴
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/postgres BENCH_DB_USERNAME=postgres ./gradlew test --tests '*PlanTest'
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class SearchQueryPlanTest extends PostgresPlanTestSupport {
+
+    private static final Pageable FAR_PAGE = PageRequest.of(1000, 20);
+    private static final Pageable ADMIN_FAR_PAGE = PageRequest.of(1000, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired ReadingRecordRepository readingRecordRepository;
+    @Autowired BookRepository bookRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired ApiLogRepository apiLogRepository;
+
+    @Test
+    @DisplayName("내 기록 목록: 검색어 없음/문장 검색 모두 user_id 인덱스 조건으로 조회")
+    void myRecords() throws SQLException {
+        assertPlan(() -> readingRecordRepository.findMyRecordsByBook(1L, null, FAR_PAGE), indexCond("user_id"));
+        assertPlan(() -> readingRecordRepository.findMyRecordsByText(1L, "", FAR_PAGE), indexCond("user_id"));
+        assertPlan(() -> readingRecordRepository.findMyRecordsByText(1L, "문장", FAR_PAGE), indexCond("user_id"));
+    }
+
+    @Test
+    @DisplayName("달력 기간 조회: 기간 조건까지 (user_id, recorded_at) 인덱스 범위로 들어감")
+    void recordsInRange() throws SQLException {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Pageable pageable = PageRequest.of(1000, 20, Sort.by(Sort.Direction.ASC, "recordedAt"));
+        assertPlan(() -> readingRecordRepository.findRecordsInRange(1L, start, start.plusMonths(1), null, pageable),
+                indexCond("user_id = \\$\\d+\\) AND \\(recorded_at >="));
+    }
+
+    @Test
+    @DisplayName("매칭 완료 책 목록: 정렬 3종 모두 user_id 인덱스 조건 + 핀은 유니크 인덱스")
+    void confirmedBooks() throws SQLException {
+        assertPlan(() -> readingRecordRepository.findConfirmedBooksByRecent(1L, null, FAR_PAGE),
+                indexCond("user_id"), usingIndex("uq_user_book_pin"));
+        assertPlan(() -> readingRecordRepository.findConfirmedBooksForMain(1L, null, FAR_PAGE),
+                indexCond("user_id"));
+        assertPlan(() -> readingRecordRepository.findConfirmedBooksByTitle(1L, "제목", FAR_PAGE),
+                indexCond("user_id"));
+    }
+
+    @Test
+    @DisplayName("관리자 기록 목록: 유저만/유저+매칭 상태 조합")
+    void adminRecords() throws SQLException {
+        assertPlan(() -> readingRecordRepository.findAllForAdmin(null, null, 1L, ADMIN_FAR_PAGE),
+                indexCond("user_id"));
+        assertPlan(() -> readingRecordRepository.findAllForAdmin(null, ReadingRecord.MatchStatus.PENDING, 1L,
+                ADMIN_FAR_PAGE), indexCond("user_id"));
+    }
+
+    @Test
+    @DisplayName("관리자 책 목록: 삭제 제외 기본값이 부분 인덱스 사용")
+    void adminBooks() throws SQLException {
+        assertPlan(() -> bookRepository.findAllForAdmin(null, false, ADMIN_FAR_PAGE),
+                usingIndex("idx_books_not_deleted"));
+    }
+
+    @Test
+    @DisplayName("관리자 유저 목록: 가입 경로 필터가 provider 인덱스 사용")
+    void adminUsers() throws SQLException {
+        assertPlan(() -> userRepository.searchUsers(null, "kakao", null, ADMIN_FAR_PAGE),
+                usingIndex("idx_users_provider_provider_id"));
+    }
+
+    @Test
+    @DisplayName("API 로그: 기간만/SQL 예산 초과/결과 필터 조합")
+    void apiLogs() throws SQLException {
+        LocalDateTime to = LocalDateTime.of(2025, 1, 8, 0, 0);
+        assertPlan(() -> apiLogRepository.searchLogs(null, null, null, null, null, to.minusDays(7), to,
+                ADMIN_FAR_PAGE), indexCond("created_at >="));
+        // 부분 인덱스 (WHERE sql_budget_exceeded) - 조건이 바인딩 파라미터였으면 generic plan에서 못 씀
+        assertPlan(() -> apiLogRepository.searchLogs(null, null, null, null, true, to.minusDays(7), to,
+                ADMIN_FAR_PAGE), usingIndex("api_logs_default_created_at_idx1"));
+        assertPlan(() -> apiLogRepository.searchLogs(null, ApiLog.Result.FAIL, null, null, null,
+                to.minusDays(7), to, ADMIN_FAR_PAGE), "Index (Only )?Scan|Bitmap Index Scan");
+    }
+
+    // 호출 중 실행된 SQL(목록 + count)마다 EXPLAIN해서 기대한 인덱스 사용, Seq Scan 없음 확인
+    // user_id로 시작하는 인덱스가 여러 개라 이름 대신 Index Cond(첫 조건 컬럼)로 확인
+    private void assertPlan(Runnable call, String... expectedPatterns) throws SQLException {
+        List<String> statements = captureSql(call);
+        assertThat(statements).as("목록 + count 쿼리").hasSize(2);
+        for (String sql : statements) {
+            String plan = explain(sql);
+            assertThat(plan).as(sql + "\n" + plan).doesNotContain("Seq Scan");
+            if (sql.startsWith("select count")) {
+                assertThat(plan).as(sql + "\n" + plan).containsPattern(expectedPatterns[0]);
+            } else {
+                for (String pattern : expectedPatterns) {
+                    assertThat(plan).as(sql + "\n" + plan).containsPattern(pattern);
+                }
+            }
+        }
+    }
+
+    // 인덱스 첫 조건이 column (Index Cond: (col ... / Index Cond: ((col ...)
+    private static String indexCond(String column) {
+        return "Index Cond: \\(+" + column;
+    }
+
+    // Index Scan using name / Bitmap Index Scan on name
+    private static String usingIndex(String name) {
+        return "(using|Scan on) " + name + " ";
+    }
+}
@@ -0,0 +1,136 @@
+package me.dodo.readingnotes.repository;
+
+import jakarta.persistence.EntityManager;
+import me.dodo.readingnotes.domain.BookComment;
+import me.dodo.readingnotes.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// INSERT ... ON CONFLICT upsert 확인 (공통 준비는 PostgresPlanTestSupport)
+// - 새 행이면 INSERT, 충돌하면 각 쿼리의 DO NOTHING / DO UPDATE 대로 동작하는지
+// - 충돌 대상 제약(uq_isbn13, uq_source_external, uq_user_book_pin, uq_book_comment_user_book, users 유니크)이
+//   schema.sql에 있어야 통과 (없으면 ON CONFLICT에 맞는 제약이 없다는 오류)
+// - 테스트마다 롤백되므로 준비된 데이터는 그대로
+// 실행: BENCH_DB_URL=jdbc:postgresql://localhost:5432/postgres BENCH_DB_USERNAME=postgres ./gradlew test --tests '*UpsertQueryTest'
+@EnabledIfEnvironmentVariable(named = "BENCH_DB_URL", matches = ".+")
+class UpsertQueryTest extends PostgresPlanTestSupport {
+
+    private static final long MISSING_BOOK_ID = -1L;
+
+    @Autowired BookRepository bookRepository;
+    @Autowired BookSourceLinkRepository bookSourceLinkRepository;
+    @Autowired UserBookPinRepository userBookPinRepository;
+    @Autowired BookCommentRepository bookCommentRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired EntityManager entityManager;
+
+    private Long userId;
+    private Long bookId;
+
+    @BeforeEach
+    void setUp() {
+        // 고정/코멘트/링크가 하나도 없는 새 유저와 새 책 (테스트 끝나면 롤백)
+        userId = jdbcTemplate.queryForObject("""
+                INSERT INTO users (username, email, provider, api_key)
+                VALUES ('upsert', 'upsert@test.com', 'local', 'upsert-key') RETURNING id
+                """, Long.class);
+        bookId = jdbcTemplate.queryForObject("""
+                INSERT INTO books (title, author, isbn13) VALUES ('upsert book', 'upsert author', '9791111111111')
+                RETURNING id
+                """, Long.class);
+    }
+
+    @Test
+    @DisplayName("책: 새 ISBN이면 추가, 같은 ISBN이면 같은 id에 비어 있는 정보만 채움")
+    void upsertBookByIsbn13() {
+        Long inserted = bookRepository.upsertByIsbn13("새 책", "작가", null, null, "9792222222222", null, null);
+        assertThat(bookRow(inserted)).containsEntry("title", "새 책").containsEntry("publisher", null);
+
+        Long conflicted = bookRepository.upsertByIsbn13("다른 제목", "다른 작가", "출판사", "1234567890",
+                "9792222222222", LocalDate.of(2024, 1, 1), "https://cover");
+        assertThat(conflicted).isEqualTo(inserted);
+        assertThat(bookRow(inserted))
+                .containsEntry("title", "새 책")     // 이미 있는 값은 그대로
+                .containsEntry("publisher", "출판사") // 비어 있던 값만 채움
+                .containsEntry("isbn10", "1234567890");
+        assertThat(countWhere("books", "isbn13 = '9792222222222'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("외부 링크: 새 (source, external_id)면 추가, 같으면 책을 옮기고 메타는 새 값이 있을 때만")
+    void upsertSourceLink() {
+        Long otherBookId = bookRepository.upsertByIsbn13("다른 책", "작가", null, null, "9793333333333", null, null);
+
+        assertThat(bookSourceLinkRepository.upsert(bookId, "KAKAO", "upsert-ext", null, "9791111111111", "{\"v\":1}"))
+                .isEqualTo(1);
+        assertThat(bookSourceLinkRepository.upsert(otherBookId, "KAKAO", "upsert-ext", null, "9793333333333", null))
+                .isEqualTo(1);
+
+        Map<String, Object> link = jdbcTemplate.queryForMap(
+                "SELECT book_id, isbn13, meta_json FROM book_source_links WHERE source = 'KAKAO' AND external_id = 'upsert-ext'");
+        assertThat(link)
+                .containsEntry("book_id", otherBookId)
+                .containsEntry("isbn13", "9793333333333")
+                .containsEntry("meta_json", "{\"v\":1}");
+        assertThat(countWhere("book_source_links", "external_id = 'upsert-ext'")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("책 고정: 처음엔 1건, 이미 고정돼 있거나 없는 책이면 0건")
+    void pinIfAbsent() {
+        assertThat(userBookPinRepository.insertIfAbsent(userId, bookId)).isEqualTo(1);
+        assertThat(userBookPinRepository.insertIfAbsent(userId, bookId)).isZero();
+        assertThat(userBookPinRepository.insertIfAbsent(userId, MISSING_BOOK_ID)).isZero();
+        assertThat(countWhere("user_book_pins", "user_id = " + userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("책 코멘트: 처음엔 생성, 다시 쓰면 같은 행의 내용만 바뀜, 없는 책이면 빈 결과")
+    void upsertComment() {
+        Optional<BookComment> created = bookCommentRepository.upsert(userId, bookId, "처음");
+        assertThat(created).isPresent();
+        assertThat(created.get().getContent()).isEqualTo("처음");
+
+        // 서비스에서는 요청마다 새 영속성 컨텍스트 (같은 컨텍스트면 RETURNING 행 대신 이미 있는 엔티티가 나옴)
+        entityManager.clear();
+        Optional<BookComment> updated = bookCommentRepository.upsert(userId, bookId, "수정");
+        assertThat(updated).isPresent();
+        assertThat(updated.get().getId()).isEqualTo(created.get().getId());
+        assertThat(updated.get().getContent()).isEqualTo("수정");
+
+        assertThat(bookCommentRepository.upsert(userId, MISSING_BOOK_ID, "없는 책")).isEmpty();
+        assertThat(countWhere("book_comments", "user_id = " + userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("회원가입: 새 유저면 저장된 행 반환, 이메일/이름/API Key 중 하나라도 겹치면 빈 결과")
+    void insertLocalUser() {
+        Optional<User> created = userRepository.insertLocalUser("newbie", "newbie@test.com", "pw", "newbie-key");
+        assertThat(created).isPresent();
+        assertThat(created.get().getEmail()).isEqualTo("newbie@test.com");
+
+        assertThat(userRepository.insertLocalUser("other", "newbie@test.com", "pw", "other-key")).isEmpty();
+        assertThat(userRepository.insertLocalUser("newbie", "other@test.com", "pw", "other-key")).isEmpty();
+        assertThat(userRepository.insertLocalUser("other", "other@test.com", "pw", "newbie-key")).isEmpty();
+        assertThat(countWhere("users", "email IN ('newbie@test.com', 'other@test.com')")).isEqualTo(1);
+    }
+
+    private Map<String, Object> bookRow(Long id) {
+        return jdbcTemplate.queryForMap("SELECT title, publisher, isbn10 FROM books WHERE id = ?", id);
+    }
+
+    private int countWhere(String table, String condition) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table + " WHERE " + condition, Integer.class);
+    }
+}
@@ -0,0 +1,47 @@
+package me.dodo.readingnotes.service;
+
+import me.dodo.readingnotes.repository.BookMergeRepository.DedupeBook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookDedupeServiceTest {
+
+    private static List<Long> canonicalOrder(DedupeBook... books) {
+        List<DedupeBook> cluster = new ArrayList<>(List.of(books));
+        cluster.sort(BookDedupeService.CANONICAL_ORDER);
+        return cluster.stream().map(DedupeBook::id).toList();
+    }
+
+    @Test
+    @DisplayName("ISBN13이 있어도 삭제된 책은 대표가 되지 않는다")
+    void canonical_skipsDeletedBookWithIsbn() {
+        DedupeBook deletedWithIsbn = new DedupeBook(1L, "책", "작가", "9791111111111", true);
+        DedupeBook live = new DedupeBook(2L, "책", "작가", null, false);
+
+        assertThat(canonicalOrder(deletedWithIsbn, live)).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("살아 있는 책끼리는 ISBN13 있는 책, 그다음 먼저 생긴 책이 대표")
+    void canonical_prefersIsbnThenOldest() {
+        DedupeBook oldest = new DedupeBook(1L, "책", "작가", null, false);
+        DedupeBook withIsbn = new DedupeBook(3L, "책", "작가", "9791111111111", false);
+        DedupeBook newer = new DedupeBook(2L, "책", "작가", null, false);
+
+        assertThat(canonicalOrder(oldest, withIsbn, newer)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("모두 삭제된 묶음이면 삭제된 책 중에서 고른다")
+    void canonical_allDeleted() {
+        DedupeBook first = new DedupeBook(1L, "책", "작가", null, true);
+        DedupeBook withIsbn = new DedupeBook(2L, "책", "작가", "9791111111111", true);
+
+        assertThat(canonicalOrder(first, withIsbn)).containsExactly(2L, 1L);
+    }
+}
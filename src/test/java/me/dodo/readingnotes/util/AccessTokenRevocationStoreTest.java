@@ -0,0 +1,82 @@
+package me.dodo.readingnotes.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessTokenRevocationStoreTest {
+
+    private static final long VALIDITY = 1000L * 60 * 30;
+
+    private final AtomicLong now = new AtomicLong(1_700_000_000_000L);
+
+    private AccessTokenRevocationStore store(boolean bloomEnabled) {
+        return new AccessTokenRevocationStore(VALIDITY, bloomEnabled, 4096, 5, now::get);
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 - 이전에 발급된 토큰은 폐기, 이후 발급된 토큰은 유효")
+    void revokeAll_rejectsOlderTokensOnly() {
+        AccessTokenRevocationStore store = store(false);
+        Date issuedBefore = new Date(now.get() - 60_000);
+
+        now.addAndGet(5_000);
+        store.revokeAllIssuedBefore(1L);
+        now.addAndGet(2_000);
+        Date issuedAfter = new Date(now.get());
+
+        assertThat(store.isRevoked(1L, issuedBefore, "a")).isTrue();
+        assertThat(store.isRevoked(1L, issuedAfter, "b")).isFalse();
+        assertThat(store.isRevoked(2L, issuedBefore, "c")).isFalse();
+    }
+
+    @Test
+    @DisplayName("모든 기기 로그아웃 - 같은 초라도 폐기 직후 발급된 토큰은 유효 (밀리초 비교)")
+    void revokeAll_comparesInMillis() {
+        AccessTokenRevocationStore store = store(false);
+        now.set(1_700_000_000_300L);
+        Date issuedJustBefore = new Date(now.get() - 100);
+
+        store.revokeAllIssuedBefore(1L);
+        now.addAndGet(200);
+        Date issuedJustAfter = new Date(now.get());
+
+        assertThat(store.isRevoked(1L, issuedJustBefore, "a")).isTrue();
+        assertThat(store.isRevoked(1L, issuedJustAfter, "b")).isFalse();
+    }
+
+    @Test
+    @DisplayName("현재 기기 로그아웃 - 해당 토큰 ID만 폐기")
+    void revokeToken_rejectsOnlyThatToken() {
+        AccessTokenRevocationStore store = store(true);
+        Date issuedAt = new Date(now.get());
+
+        store.revokeToken("token-1");
+
+        assertThat(store.isRevoked(1L, issuedAt, "token-1")).isTrue();
+        assertThat(store.isRevoked(1L, issuedAt, "token-2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토큰 수명이 지나면 폐기 정보가 정리된다")
+    void evictExpired_dropsEntriesOlderThanTokenValidity() {
+        AccessTokenRevocationStore store = store(true);
+        store.revokeAllIssuedBefore(1L);
+        store.revokeToken("token-1");
+
+        // 회전 한 번: 이전 세대에 남아 있어야 함
+        now.addAndGet(VALIDITY + 1_000);
+        store.evictExpired();
+        assertThat(store.trackedUserCount()).isZero();
+        assertThat(store.isRevoked(1L, new Date(now.get()), "token-1")).isTrue();
+
+        // 회전 두 번: 완전히 사라짐
+        now.addAndGet(VALIDITY + 1_000);
+        store.evictExpired();
+        assertThat(store.isRevoked(1L, new Date(now.get()), "token-1")).isFalse();
+    }
+}
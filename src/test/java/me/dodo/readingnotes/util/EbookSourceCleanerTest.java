@@ -180,4 +180,23 @@ class EbookSourceCleanerTest {
         assertThat(result).isEqualTo("첫 번째 줄입니다.\n두 번째 줄입니다.");
         System.out.println(result);
     }
+
+    @Test
+    @DisplayName("출처 표식이 없는 문장은 정규식 없이 앞뒤 공백만 정리한다")
+    void noMarker_onlyStrips() {
+        String input = "  \"중요한\" 대목은 여기서부터 시작된다.\n다음 줄  ";
+
+        assertThat(EbookSourceCleaner.scanMarkers(input)).isZero();
+        assertThat(EbookSourceCleaner.clean(input)).isEqualTo("\"중요한\" 대목은 여기서부터 시작된다.\n다음 줄");
+    }
+
+    @Test
+    @DisplayName("표식 검사는 각 출처 표식을 모두 찾아낸다")
+    void scanMarkers_detectsEachMarker() {
+        assertThat(EbookSourceCleaner.scanMarkers("\"책\" 중에서")).isNotZero();
+        assertThat(EbookSourceCleaner.scanMarkers("교보eBook에서 자세히 보기")).isNotZero();
+        assertThat(EbookSourceCleaner.scanMarkers("출처: 네이버시리즈")).isNotZero();
+        assertThat(EbookSourceCleaner.scanMarkers("- 밀리의 서재")).isNotZero();
+        assertThat(EbookSourceCleaner.scanMarkers("see https://example.com")).isNotZero();
+    }
 }
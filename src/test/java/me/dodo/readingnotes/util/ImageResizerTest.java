@@ -0,0 +1,91 @@
+package me.dodo.readingnotes.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    private final ImageResizer resizer = new ImageResizer();
+
+    private static byte[] encode(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x += 10) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, 0x3366CC);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage resize(byte[] source, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        resizer.resizeKeepRatio(new ByteArrayInputStream(source), format, out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    // 픽셀 데이터 없이 IHDR만 있는 PNG (헤더만 읽고 거절되는지 확인용)
+    private static byte[] pngHeaderOnly(int width, int height) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes(StandardCharsets.US_ASCII))
+                .putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        ByteBuffer png = ByteBuffer.allocate(8 + 4 + 17 + 4);
+        png.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A})
+                .putInt(13).put(ihdr.array()).putInt((int) crc.getValue());
+        return png.array();
+    }
+
+    @Test
+    @DisplayName("비율을 유지하며 325x272 안으로 줄인다 (서브샘플링 포함)")
+    void resizesWithinBox() throws IOException {
+        BufferedImage jpg = resize(encode(1600, 1200, "jpg"), "jpg");
+        assertThat(jpg.getWidth()).isEqualTo(325);
+        assertThat(jpg.getHeight()).isBetween(243, 244);
+
+        BufferedImage png = resize(encode(300, 600, "png"), "png");
+        assertThat(png.getHeight()).isEqualTo(272);
+        assertThat(png.getWidth()).isEqualTo(136);
+    }
+
+    @Test
+    @DisplayName("이미지가 아닌 파일은 형식 확인 단계에서 거절한다")
+    void rejectsForgedHeader() {
+        byte[] text = "GIF89a 이미지 아님".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> resize(text, "jpg"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("형식");
+    }
+
+    @Test
+    @DisplayName("해상도가 너무 크면 픽셀을 읽기 전에 헤더만 보고 거절한다")
+    void rejectsOversizeFromHeader() {
+        assertThatThrownBy(() -> resize(pngHeaderOnly(10_000, 10_000), "png"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("해상도");
+    }
+
+    @Test
+    @DisplayName("서브샘플링 간격은 결과 크기의 2배 이상을 남기는 범위에서 정한다")
+    void subsamplingKeepsTwiceTheTarget() {
+        assertThat(ImageResizer.subsampling(325, 272, 325, 272)).isEqualTo(1);
+        assertThat(ImageResizer.subsampling(1200, 900, 325, 272)).isEqualTo(1);
+        assertThat(ImageResizer.subsampling(4032, 3024, 325, 272)).isEqualTo(6);
+    }
+}
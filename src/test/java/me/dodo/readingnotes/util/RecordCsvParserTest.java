@@ -0,0 +1,72 @@
+package me.dodo.readingnotes.util;
+
+import me.dodo.readingnotes.dto.reading.ReadingRecordRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecordCsvParserTest {
+
+    private static List<ReadingRecordRequest> parse(String csv) throws IOException {
+        return RecordCsvParser.parse(new StringReader(csv), 100);
+    }
+
+    @Test
+    @DisplayName("헤더 이름으로 열을 찾고, 모르는 열은 무시한다")
+    void mapsColumnsByHeader() throws IOException {
+        List<ReadingRecordRequest> result = parse(
+                "sentence,publisher,Title,raw_author,comment,recorded_at\n" +
+                "가장 중요한 것은 눈에 보이지 않아.,열린책들,어린 왕자,생텍쥐페리,좋다,2025-01-31 13:05\n");
+
+        assertThat(result).hasSize(1);
+        ReadingRecordRequest req = result.get(0);
+        assertThat(req.getSentence()).isEqualTo("가장 중요한 것은 눈에 보이지 않아.");
+        assertThat(req.getRawTitle()).isEqualTo("어린 왕자");
+        assertThat(req.getRawAuthor()).isEqualTo("생텍쥐페리");
+        assertThat(req.getComment()).isEqualTo("좋다");
+        assertThat(req.getRecordedAt()).isEqualTo(LocalDateTime.of(2025, 1, 31, 13, 5));
+    }
+
+    @Test
+    @DisplayName("따옴표 안의 쉼표, 줄바꿈, 이중 따옴표를 값으로 읽는다 (CRLF, BOM 포함)")
+    void parsesQuotedCells() throws IOException {
+        List<ReadingRecordRequest> result = parse(
+                "\uFEFF\"title\",sentence\r\n" +
+                "\"빛의 구역\",\"\"\"괜찮아\"\", 그녀가 말했다.\r\n다음 줄\"\r\n");
+
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getRawTitle()).isEqualTo("빛의 구역");
+        assertThat(result.get(0).getSentence()).isEqualTo("\"괜찮아\", 그녀가 말했다.\r\n다음 줄");
+    }
+
+    @Test
+    @DisplayName("빈 값은 null로 두고 빈 줄은 건너뛴다")
+    void skipsBlankValuesAndLines() throws IOException {
+        List<ReadingRecordRequest> result = parse("sentence,comment,date\n문장1,,\n\n문장2,메모,2025-02-01\n");
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getComment()).isNull();
+        assertThat(result.get(0).getRecordedAt()).isNull();
+        assertThat(result.get(1).getRecordedAt()).isEqualTo(LocalDateTime.of(2025, 2, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("sentence 열이 없거나 최대 개수를 넘으면 거절한다")
+    void rejectsInvalidInput() {
+        assertThatThrownBy(() -> parse("title,author\n책,작가\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RecordCsvParser.parse(new StringReader("sentence\n1\n2\n3\n"), 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 2개");
+        assertThatThrownBy(() -> parse("sentence,date\n문장,2025/01/01\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("날짜");
+    }
+}
@@ -0,0 +1,62 @@
+package me.dodo.readingnotes.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class SlidingLatencyHistogramTest {
+
+    @Test
+    @DisplayName("버킷 번호는 값 순서대로 이어지고, 버킷 하한은 자기 버킷으로 돌아온다")
+    void bucketIndex_isContinuous() {
+        int prev = -1;
+        for (long v = 0; v < 1_000_000; v++) {
+            int index = SlidingLatencyHistogram.bucketIndex(v);
+            assertThat(index - prev).isBetween(0, 1);
+            prev = index;
+        }
+        for (int i = 0; i < SlidingLatencyHistogram.BUCKET_COUNT; i++) {
+            assertThat(SlidingLatencyHistogram.bucketIndex(SlidingLatencyHistogram.bucketLowerBound(i))).isEqualTo(i);
+        }
+    }
+
+    @Test
+    @DisplayName("percentile은 상대 오차 7% 이내로 계산된다")
+    void valueAtQuantile_withinRelativeError() {
+        SlidingLatencyHistogram histogram = new SlidingLatencyHistogram(60_000, 60, () -> 0L);
+        for (long v = 1; v <= 10_000; v++) {
+            histogram.record(v * 100); // 100µs ~ 1s 균등 분포
+        }
+
+        SlidingLatencyHistogram.Snapshot snapshot = histogram.snapshot(60);
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat((double) snapshot.valueAtQuantile(0.50)).isCloseTo(500_000, within(35_000.0));
+        assertThat((double) snapshot.valueAtQuantile(0.95)).isCloseTo(950_000, within(66_500.0));
+        assertThat((double) snapshot.valueAtQuantile(0.99)).isCloseTo(990_000, within(69_300.0));
+    }
+
+    @Test
+    @DisplayName("창 밖으로 밀려난 슬롯은 합산에서 빠진다")
+    void oldSlots_areExcluded() {
+        AtomicLong now = new AtomicLong(0);
+        SlidingLatencyHistogram histogram = new SlidingLatencyHistogram(10_000, 6, now::get);
+
+        histogram.record(1_000);
+        now.set(30_000);
+        histogram.record(2_000);
+        histogram.record(2_000);
+
+        assertThat(histogram.snapshot(6).getCount()).isEqualTo(3);
+        assertThat(histogram.snapshot(1).getCount()).isEqualTo(2);
+
+        now.set(65_000); // 첫 슬롯(0~10초)은 창 밖
+        assertThat(histogram.snapshot(6).getCount()).isEqualTo(2);
+
+        now.set(95_000);
+        assertThat(histogram.snapshot(6).getCount()).isZero();
+    }
+}